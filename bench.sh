@@ -0,0 +1,55 @@
+#!/usr/bin/env bash
+# Throughput benchmark — platform threads vs virtual threads at equal DB pool size
+# Prerequisites: docker compose stack buildable, `hey` on PATH (https://github.com/rakyll/hey)
+#
+# The app container is recreated once per mode with the same SPRING_DATASOURCE_POOL_SIZE,
+# then each endpoint is driven with the same concurrency and duration.
+#
+# Usage: ./bench.sh [duration] [concurrency]     e.g. ./bench.sh 30s 400
+
+BASE=http://localhost:9090
+DURATION=${1:-30s}
+CONCURRENCY=${2:-200}
+POOL_SIZE=${SPRING_DATASOURCE_POOL_SIZE:-10}
+CYAN='\033[0;36m'
+NC='\033[0m'
+
+command -v hey >/dev/null || { echo "hey is required"; exit 1; }
+
+wait_ready() {
+  for _ in $(seq 1 60); do
+    curl -sf "$BASE/actuator/health" >/dev/null && return 0
+    sleep 2
+  done
+  echo "app did not become healthy"; exit 1
+}
+
+run() {
+  local label=$1; shift
+  local rps
+  rps=$(hey -z "$DURATION" -c "$CONCURRENCY" "$@" | awk '/Requests\/sec/ {print $2}')
+  printf "  %-28s %10s req/s\n" "$label" "$rps"
+}
+
+for MODE in platform virtual-threads; do
+  PROFILE=""
+  OPTS=""
+  if [ "$MODE" = "virtual-threads" ]; then
+    PROFILE=virtual-threads
+    OPTS="-Djdk.tracePinnedThreads=short"
+  fi
+
+  echo -e "\n${CYAN}=== $MODE (db pool = $POOL_SIZE, c = $CONCURRENCY, $DURATION) ===${NC}"
+  SPRING_PROFILES_ACTIVE=$PROFILE SPRING_DATASOURCE_POOL_SIZE=$POOL_SIZE JAVA_TOOL_OPTIONS=$OPTS \
+    docker compose up -d --no-deps --force-recreate app >/dev/null
+  wait_ready
+
+  run "POST /launchGame" -m POST -T application/json \
+    -d '{"userId": 1, "gameId": 1}' "$BASE/launchGame"
+  run "GET /missions" "$BASE/missions?userId=1"
+done
+
+echo -e "\nPinned virtual threads (virtual-threads run):"
+docker logs app 2>&1 | grep -c "Virtual thread pinned" || true
+
+echo -e "\n${CYAN}Done.${NC}"
@@ -16,37 +16,49 @@ CREATE TABLE IF NOT EXISTS games
     created_at DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Raw action tables are range-partitioned by month of window_end, the day the user's 30-day
+-- mission window ends. window_end never changes for a user, so adding it to every unique key
+-- keeps their dedup meaning, and a whole partition turns useless once its month has passed.
+-- Partitioned InnoDB tables cannot have foreign keys. The application splits pmax into
+-- monthly partitions ahead of time and drops expired ones (mission.persistence.partitions)
 CREATE TABLE IF NOT EXISTS login_records
 (
-    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id         BIGINT AUTO_INCREMENT,
     user_id    BIGINT NOT NULL,
     login_date DATE   NOT NULL,
-    UNIQUE KEY uk_user_login_date (user_id, login_date),
-    FOREIGN KEY (user_id) REFERENCES users (id)
+    window_end DATE   NOT NULL,
+    PRIMARY KEY (id, window_end),
+    UNIQUE KEY uk_user_login_date (user_id, login_date, window_end)
+) PARTITION BY RANGE COLUMNS (window_end) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
 );
 
 CREATE TABLE IF NOT EXISTS game_launch_records
 (
-    id          BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id          BIGINT AUTO_INCREMENT,
     user_id     BIGINT   NOT NULL,
     game_id     BIGINT   NOT NULL,
     launched_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    UNIQUE KEY uk_user_game_launch (user_id, game_id),
-    FOREIGN KEY (user_id) REFERENCES users (id),
-    FOREIGN KEY (game_id) REFERENCES games (id)
+    window_end  DATE     NOT NULL,
+    PRIMARY KEY (id, window_end),
+    UNIQUE KEY uk_user_game_launch (user_id, game_id, window_end)
+) PARTITION BY RANGE COLUMNS (window_end) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
 );
 
 CREATE TABLE IF NOT EXISTS games_play_record
 (
-    id              BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id              BIGINT AUTO_INCREMENT,
     user_id         BIGINT       NOT NULL,
     game_id         BIGINT       NOT NULL,
     score           INT          NOT NULL DEFAULT 0,
     idempotency_key VARCHAR(100) NOT NULL,
     played_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
-    UNIQUE KEY uk_user_play_idempotency_key (user_id, idempotency_key),
-    FOREIGN KEY (user_id) REFERENCES users (id),
-    FOREIGN KEY (game_id) REFERENCES games (id)
+    window_end      DATE         NOT NULL,
+    PRIMARY KEY (id, window_end),
+    UNIQUE KEY uk_user_play_idempotency_key (user_id, idempotency_key, window_end)
+) PARTITION BY RANGE COLUMNS (window_end) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
 );
 
 CREATE TABLE IF NOT EXISTS missions
@@ -71,6 +83,49 @@ CREATE TABLE IF NOT EXISTS rewards
     FOREIGN KEY (user_id) REFERENCES users (id)
 );
 
+-- Reward events awaiting publication, written in the same transaction as the reward row
+-- and removed by the relay once the broker accepted them
+CREATE TABLE IF NOT EXISTS reward_outbox
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id    BIGINT      NOT NULL,
+    points     INT         NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    attempts   INT         NOT NULL DEFAULT 0,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Running mission counters per user, maintained together with the raw record inserts
+-- so that progress checks are single-row primary key reads instead of history scans
+CREATE TABLE IF NOT EXISTS user_mission_progress
+(
+    user_id        BIGINT   NOT NULL PRIMARY KEY,
+    distinct_games INT      NOT NULL DEFAULT 0,
+    play_sessions  INT      NOT NULL DEFAULT 0,
+    total_score    INT      NOT NULL DEFAULT 0,
+    -- Login calendar: bit i of login_days is set when the user logged in i days before
+    -- last_login_date; 63 days are kept so the value stays a positive BIGINT
+    last_login_date DATE    NULL,
+    login_days     BIGINT   NOT NULL DEFAULT 0,
+    updated_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- One row per user whose window closed and whose raw action rows were moved to an archive
+-- file (mission.persistence.archive); the summary outlives the deleted rows
+CREATE TABLE IF NOT EXISTS user_action_archive
+(
+    user_id        BIGINT       NOT NULL PRIMARY KEY,
+    window_end     DATE         NOT NULL,
+    logins         INT          NOT NULL,
+    distinct_games INT          NOT NULL,
+    play_sessions  INT          NOT NULL,
+    total_score    BIGINT       NOT NULL,
+    archive_file   VARCHAR(255) NOT NULL,
+    archived_at    DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
 -- =============================================
 -- Seed data
 -- =============================================
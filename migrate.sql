@@ -0,0 +1,138 @@
+-- =============================================
+-- Upgrade of a database created by the previous init.sql
+-- =============================================
+-- init.sql only runs on an empty data directory. Run this once against an existing
+-- database, with the application stopped:
+--   docker exec -i mysql mysql -utaskuser -ptaskpass taskdb < migrate.sql
+-- It adds the tables introduced since, rebuilds the raw action tables partitioned by
+-- window_end (30 days after users.created_at, as the application computes it) and derives
+-- the per-user counters and login calendars from the existing rows.
+
+CREATE TABLE IF NOT EXISTS reward_outbox
+(
+    id         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id    BIGINT      NOT NULL,
+    points     INT         NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    attempts   INT         NOT NULL DEFAULT 0,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_mission_progress
+(
+    user_id        BIGINT   NOT NULL PRIMARY KEY,
+    distinct_games INT      NOT NULL DEFAULT 0,
+    play_sessions  INT      NOT NULL DEFAULT 0,
+    total_score    INT      NOT NULL DEFAULT 0,
+    -- Login calendar: bit i of login_days is set when the user logged in i days before
+    -- last_login_date; 63 days are kept so the value stays a positive BIGINT
+    last_login_date DATE    NULL,
+    login_days     BIGINT   NOT NULL DEFAULT 0,
+    updated_at     DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS user_action_archive
+(
+    user_id        BIGINT       NOT NULL PRIMARY KEY,
+    window_end     DATE         NOT NULL,
+    logins         INT          NOT NULL,
+    distinct_games INT          NOT NULL,
+    play_sessions  INT          NOT NULL,
+    total_score    BIGINT       NOT NULL,
+    archive_file   VARCHAR(255) NOT NULL,
+    archived_at    DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Raw action tables: copy into the partitioned layout, then swap the names.
+-- The old tables are kept as *_unpartitioned until the upgrade has been checked
+CREATE TABLE login_records_partitioned
+(
+    id         BIGINT AUTO_INCREMENT,
+    user_id    BIGINT NOT NULL,
+    login_date DATE   NOT NULL,
+    window_end DATE   NOT NULL,
+    PRIMARY KEY (id, window_end),
+    UNIQUE KEY uk_user_login_date (user_id, login_date, window_end)
+) PARTITION BY RANGE COLUMNS (window_end) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+INSERT INTO login_records_partitioned (id, user_id, login_date, window_end)
+SELECT l.id, l.user_id, l.login_date, DATE(DATE_ADD(u.created_at, INTERVAL 30 DAY))
+FROM login_records l
+         JOIN users u ON u.id = l.user_id;
+
+CREATE TABLE game_launch_records_partitioned
+(
+    id          BIGINT AUTO_INCREMENT,
+    user_id     BIGINT   NOT NULL,
+    game_id     BIGINT   NOT NULL,
+    launched_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    window_end  DATE     NOT NULL,
+    PRIMARY KEY (id, window_end),
+    UNIQUE KEY uk_user_game_launch (user_id, game_id, window_end)
+) PARTITION BY RANGE COLUMNS (window_end) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+INSERT INTO game_launch_records_partitioned (id, user_id, game_id, launched_at, window_end)
+SELECT l.id, l.user_id, l.game_id, l.launched_at, DATE(DATE_ADD(u.created_at, INTERVAL 30 DAY))
+FROM game_launch_records l
+         JOIN users u ON u.id = l.user_id;
+
+CREATE TABLE games_play_record_partitioned
+(
+    id              BIGINT AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    game_id         BIGINT       NOT NULL,
+    score           INT          NOT NULL DEFAULT 0,
+    idempotency_key VARCHAR(100) NOT NULL,
+    played_at       DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    window_end      DATE         NOT NULL,
+    PRIMARY KEY (id, window_end),
+    UNIQUE KEY uk_user_play_idempotency_key (user_id, idempotency_key, window_end)
+) PARTITION BY RANGE COLUMNS (window_end) (
+    PARTITION pmax VALUES LESS THAN (MAXVALUE)
+);
+
+INSERT INTO games_play_record_partitioned (id, user_id, game_id, score, idempotency_key, played_at, window_end)
+SELECT p.id, p.user_id, p.game_id, p.score, p.idempotency_key, p.played_at, DATE(DATE_ADD(u.created_at, INTERVAL 30 DAY))
+FROM games_play_record p
+         JOIN users u ON u.id = p.user_id;
+
+RENAME TABLE login_records TO login_records_unpartitioned,
+             login_records_partitioned TO login_records,
+             game_launch_records TO game_launch_records_unpartitioned,
+             game_launch_records_partitioned TO game_launch_records,
+             games_play_record TO games_play_record_unpartitioned,
+             games_play_record_partitioned TO games_play_record;
+
+-- Counters from the existing records
+INSERT INTO user_mission_progress (user_id, distinct_games, play_sessions, total_score)
+SELECT u.id,
+       (SELECT COUNT(DISTINCT l.game_id) FROM game_launch_records l WHERE l.user_id = u.id),
+       (SELECT COUNT(*) FROM games_play_record p WHERE p.user_id = u.id),
+       (SELECT COALESCE(SUM(p.score), 0) FROM games_play_record p WHERE p.user_id = u.id)
+FROM users u
+WHERE EXISTS (SELECT 1 FROM game_launch_records l WHERE l.user_id = u.id)
+   OR EXISTS (SELECT 1 FROM games_play_record p WHERE p.user_id = u.id)
+ON DUPLICATE KEY UPDATE distinct_games = VALUES(distinct_games),
+                        play_sessions  = VALUES(play_sessions),
+                        total_score    = VALUES(total_score);
+
+-- Login calendars from the existing login records
+INSERT INTO user_mission_progress (user_id, last_login_date, login_days)
+SELECT l.user_id, r.last_login_date, SUM(1 << DATEDIFF(r.last_login_date, l.login_date))
+FROM login_records l
+         JOIN (SELECT user_id, MAX(login_date) AS last_login_date
+               FROM login_records
+               GROUP BY user_id) r ON r.user_id = l.user_id
+WHERE DATEDIFF(r.last_login_date, l.login_date) < 63
+GROUP BY l.user_id, r.last_login_date
+ON DUPLICATE KEY UPDATE last_login_date = VALUES(last_login_date),
+                        login_days      = VALUES(login_days);
+
+-- Once the application runs on the new tables:
+--   DROP TABLE login_records_unpartitioned, game_launch_records_unpartitioned, games_play_record_unpartitioned;
@@ -0,0 +1,108 @@
+package com.example.demo.common.cqrs;
+
+import com.example.demo.common.cqrs.command.Command;
+import com.example.demo.common.cqrs.command.CommandBus;
+import com.example.demo.common.cqrs.command.CommandHandler;
+import com.example.demo.common.cqrs.command.CommandHandlerRegistry;
+import com.example.demo.common.cqrs.query.Query;
+import com.example.demo.common.cqrs.query.QueryBus;
+import com.example.demo.common.cqrs.query.QueryHandler;
+import com.example.demo.common.cqrs.query.QueryHandlerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CqrsBusBenchmark {
+
+    private final EchoCommand command = new EchoCommand(42L);
+    private final EchoQuery query = new EchoQuery(42L);
+    private final EchoCommandHandler commandHandler = new EchoCommandHandler();
+    private final EchoQueryHandler queryHandler = new EchoQueryHandler();
+
+    private CommandBus commandBus;
+    private QueryBus queryBus;
+
+    @Setup
+    public void setUp() {
+        commandBus = new CommandBus(new CommandHandlerRegistry(List.of(commandHandler, new OtherCommandHandler())));
+        queryBus = new QueryBus(new QueryHandlerRegistry(List.of(queryHandler, new OtherQueryHandler())));
+    }
+
+    @Benchmark
+    public Long commandBusExecute() {
+        return commandBus.execute(command);
+    }
+
+    @Benchmark
+    public Long commandHandlerDirect() {
+        return commandHandler.handle(command);
+    }
+
+    @Benchmark
+    public Long queryBusExecute() {
+        return queryBus.execute(query);
+    }
+
+    @Benchmark
+    public Long queryHandlerDirect() {
+        return queryHandler.handle(query);
+    }
+
+    // ── messages and handlers ───────────────────────────────────────────────
+
+    record EchoCommand(Long value) implements Command<Long> {
+    }
+
+    record OtherCommand() implements Command<Void> {
+    }
+
+    record EchoQuery(Long value) implements Query<Long> {
+    }
+
+    record OtherQuery() implements Query<Void> {
+    }
+
+    static final class EchoCommandHandler implements CommandHandler<EchoCommand, Long> {
+        @Override
+        public Long handle(EchoCommand command) {
+            return command.value();
+        }
+    }
+
+    static final class OtherCommandHandler implements CommandHandler<OtherCommand, Void> {
+        @Override
+        public Void handle(OtherCommand command) {
+            return null;
+        }
+    }
+
+    static final class EchoQueryHandler implements QueryHandler<EchoQuery, Long> {
+        @Override
+        public Long handle(EchoQuery query) {
+            return query.value();
+        }
+    }
+
+    static final class OtherQueryHandler implements QueryHandler<OtherQuery, Void> {
+        @Override
+        public Void handle(OtherQuery query) {
+            return null;
+        }
+    }
+}
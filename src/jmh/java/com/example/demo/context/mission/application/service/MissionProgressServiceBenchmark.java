@@ -0,0 +1,241 @@
+package com.example.demo.context.mission.application.service;
+
+import com.example.demo.context.mission.application.port.GameLaunchRecordPort;
+import com.example.demo.context.mission.application.port.GamePlayRecordPort;
+import com.example.demo.context.mission.application.port.LoginRecordPort;
+import com.example.demo.context.mission.application.port.MissionProgress;
+import com.example.demo.context.mission.application.port.MissionProgressQueryPort;
+import com.example.demo.context.mission.application.port.ProgressAggregatePort;
+import com.example.demo.context.mission.application.port.ProgressAggregates;
+import com.example.demo.context.mission.application.port.RewardRepository;
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
+import com.example.demo.context.mission.application.port.cache.MissionCenterViewCache;
+import com.example.demo.context.mission.application.port.cache.MissionCompletionCache;
+import com.example.demo.context.mission.application.query.CriteriaComputer;
+import com.example.demo.context.mission.domain.model.LoginCalendar;
+import com.example.demo.context.mission.domain.model.Mission;
+import com.example.demo.context.mission.domain.model.MissionRulebook;
+import com.example.demo.context.mission.domain.model.MissionType;
+import com.example.demo.context.mission.domain.model.StandardMissionRules;
+import com.example.demo.context.mission.domain.repository.MissionRepository;
+import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissionProgressServiceBenchmark {
+
+    private static final Long USER_ID = 1L;
+    private static final Long GAME_ID = 7L;
+
+    @Param({"false", "true"})
+    boolean allCompleted;
+
+    private LocalDate today;
+    private MissionProgressService service;
+
+    @Setup
+    public void setUp() {
+        Clock clock = Clock.systemDefaultZone();
+        today = LocalDate.now(clock);
+        MissionRulebook rulebook = StandardMissionRules.rulebook();
+        LocalDateTime expiredAt = LocalDateTime.now(clock).plusDays(30);
+        List<Mission> missions = Arrays.stream(MissionType.values())
+            .map(type -> Mission.reconstitute((long) type.ordinal(), USER_ID, type, false, null, expiredAt))
+            .toList();
+        ProgressAggregates aggregates = new ProgressAggregates(new LoginCalendar(today, 0b11L), 2, 2, 800);
+
+        InMemoryActions actions = new InMemoryActions(aggregates);
+        MissionProgressQueryPort progressQueryPort = new MissionProgressQueryPort() {
+            @Override
+            public Optional<MissionProgress> findMissionProgress(Long userId, LocalDate asOfDate) {
+                return Optional.of(new MissionProgress(missions, 2, 2, 2, 800));
+            }
+
+            @Override
+            public Map<Long, MissionProgress> findMissionProgress(Collection<Long> userIds, LocalDate asOfDate) {
+                return userIds.stream().collect(Collectors.toMap(Function.identity(),
+                    userId -> new MissionProgress(missions, 2, 2, 2, 800), (a, b) -> a));
+            }
+        };
+        MissionCenterProjectionService projection = new MissionCenterProjectionService(
+            clock, progressQueryPort, new InMemoryViewCache(), update -> { }, new CriteriaComputer(rulebook));
+
+        service = new MissionProgressService(clock, rulebook, new OpenMissions(missions), actions, actions, actions, actions,
+            new FixedCompletionCache(allCompleted), new NoRewards(), projection);
+    }
+
+    @Benchmark
+    public void processLogin() {
+        service.processLogin(USER_ID, today);
+    }
+
+    @Benchmark
+    public void processGameLaunch() {
+        service.processGameLaunch(USER_ID, GAME_ID);
+    }
+
+    @Benchmark
+    public void processGamePlay() {
+        service.processGamePlay(USER_ID, GAME_ID, 100, "play-1");
+    }
+
+    // ── in-memory ports ─────────────────────────────────────────────────────
+
+    private record InMemoryActions(ProgressAggregates aggregates)
+        implements LoginRecordPort, GameLaunchRecordPort, GamePlayRecordPort, ProgressAggregatePort {
+
+        @Override
+        public boolean recordLogin(Long userId, LocalDate loginDate) {
+            return true;
+        }
+
+        @Override
+        public Set<Long> recordLogins(Map<Long, Set<LocalDate>> loginDatesByUser) {
+            return loginDatesByUser.keySet();
+        }
+
+        @Override
+        public LoginCalendar findLoginCalendar(Long userId) {
+            return aggregates.loginCalendar();
+        }
+
+        @Override
+        public boolean recordGameLaunch(Long userId, Long gameId) {
+            return true;
+        }
+
+        @Override
+        public Set<Long> recordGameLaunches(Map<Long, Set<Long>> gameIdsByUser) {
+            return gameIdsByUser.keySet();
+        }
+
+        @Override
+        public boolean recordGamePlay(Long userId, Long gameId, int score, String idempotencyKey) {
+            return true;
+        }
+
+        @Override
+        public Set<Long> recordGamePlays(List<GamePlay> plays) {
+            return plays.stream().map(GamePlay::userId).collect(Collectors.toSet());
+        }
+
+        @Override
+        public ProgressAggregates findAggregates(Long userId) {
+            return aggregates;
+        }
+
+        @Override
+        public Map<Long, ProgressAggregates> findAggregates(Collection<Long> userIds) {
+            return userIds.stream().collect(Collectors.toMap(Function.identity(), userId -> aggregates, (a, b) -> a));
+        }
+    }
+
+    private record FixedCompletionCache(boolean completed) implements MissionCompletionCache {
+
+        @Override
+        public boolean isCompleted(Long userId, MissionType missionType) {
+            return completed;
+        }
+
+        @Override
+        public void markCompleted(Long userId, MissionType missionType) {
+        }
+
+        @Override
+        public boolean isAllCompleted(Long userId) {
+            return completed;
+        }
+
+        @Override
+        public void markAllCompleted(Long userId) {
+        }
+    }
+
+    private record OpenMissions(List<Mission> missions) implements MissionRepository {
+
+        @Override
+        public List<Mission> findByUserId(Long userId) {
+            return missions;
+        }
+
+        @Override
+        public Optional<Mission> findByUserIdAndMissionType(Long userId, MissionType missionType) {
+            return missions.stream().filter(mission -> mission.getMissionType() == missionType).findFirst();
+        }
+
+        @Override
+        public boolean completeMission(Long userId, MissionType missionType, LocalDateTime completedAt) {
+            return false;
+        }
+
+        @Override
+        public void createAllIfAbsent(List<Mission> missions) {
+        }
+    }
+
+    private static final class NoRewards implements RewardRepository {
+
+        @Override
+        public boolean grantRewardIfAllCompleted(Long userId, int points) {
+            return false;
+        }
+
+        @Override
+        public boolean isRewarded(Long userId) {
+            return false;
+        }
+    }
+
+    private static final class InMemoryViewCache implements MissionCenterViewCache {
+
+        private long version;
+
+        @Override
+        public Optional<MissionCenterView> find(Long userId, LocalDate asOfDate) {
+            return Optional.empty();
+        }
+
+        @Override
+        public long currentVersion(Long userId) {
+            return version;
+        }
+
+        @Override
+        public long bumpVersion(Long userId) {
+            return ++version;
+        }
+
+        @Override
+        public boolean save(Long userId, long version, LocalDate asOfDate, List<MissionResponse> view) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.demo.context.mission.domain.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserActionEventBenchmark {
+
+    @Param({"login", "launch", "play"})
+    String action;
+
+    private UserActionEvent event;
+
+    @Setup
+    public void setUp() {
+        event = switch (action) {
+            case "login" -> new UserLoggedInEvent(1L, LocalDate.of(2026, 1, 15), 0L);
+            case "launch" -> new GameLaunchedEvent(1L, 7L, 0L);
+            case "play" -> new GamePlayedEvent(1L, 7L, 100, "4f9c2e1a-play", 0L);
+            default -> throw new IllegalArgumentException(action);
+        };
+    }
+
+    @Benchmark
+    public String eventName() {
+        return event.eventName();
+    }
+
+    @Benchmark
+    public String eventKey() {
+        return event.eventKey();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.application.port.MissionProgress;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads behind {@code GET /missions} against a real MySQL, by default the compose one
+ * ({@code docker-compose up -d mysql}); override with the {@code SPRING_DATASOURCE_*} variables.
+ * {@code multiQuery} issues the statements the former handler ran one after another,
+ * {@code singleStatement} the read {@link MissionProgressQueryAdapter} serves today.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetMissionsReadBenchmark {
+
+    @Param({"1"})
+    long userId;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private MissionProgressQueryAdapter adapter;
+    private LocalDate today;
+
+    @Setup
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(env("SPRING_DATASOURCE_URL", "jdbc:mysql://localhost:3306/taskdb"));
+        dataSource.setUsername(env("SPRING_DATASOURCE_USERNAME", "taskuser"));
+        dataSource.setPassword(env("SPRING_DATASOURCE_PASSWORD", "taskpass"));
+        dataSource.setMaximumPoolSize(1);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        adapter = new MissionProgressQueryAdapter(jdbcTemplate, new NamedParameterJdbcTemplate(jdbcTemplate));
+        today = LocalDate.now();
+    }
+
+    @TearDown
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public void multiQuery(Blackhole blackhole) {
+        blackhole.consume(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) > 0 FROM users WHERE id = ?", Boolean.class, userId));
+        blackhole.consume(jdbcTemplate.queryForList(
+            "SELECT id, mission_type, completed, completed_at, expired_at FROM missions WHERE user_id = ?", userId));
+        blackhole.consume(jdbcTemplate.queryForList(
+            "SELECT login_date FROM login_records WHERE user_id = ? AND login_date <= ? ORDER BY login_date DESC LIMIT 3",
+            LocalDate.class, userId, today));
+        blackhole.consume(jdbcTemplate.queryForObject(
+            "SELECT COUNT(DISTINCT game_id) FROM game_launch_records WHERE user_id = ?", Integer.class, userId));
+        blackhole.consume(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM games_play_record WHERE user_id = ?", Integer.class, userId));
+        blackhole.consume(jdbcTemplate.queryForObject(
+            "SELECT COALESCE(SUM(score), 0) FROM games_play_record WHERE user_id = ?", Integer.class, userId));
+    }
+
+    @Benchmark
+    public Optional<MissionProgress> singleStatement() {
+        return adapter.findMissionProgress(userId, today);
+    }
+
+    private static String env(String name, String fallback) {
+        return Optional.ofNullable(System.getenv(name)).orElse(fallback);
+    }
+}
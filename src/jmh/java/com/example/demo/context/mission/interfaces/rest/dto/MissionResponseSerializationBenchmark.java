@@ -0,0 +1,62 @@
+package com.example.demo.context.mission.interfaces.rest.dto;
+
+import com.example.demo.context.mission.domain.model.MissionMetric;
+import com.example.demo.context.mission.domain.model.MissionType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MissionResponseSerializationBenchmark {
+
+    private ObjectMapper objectMapper;
+    private MissionResponse response;
+    private List<MissionResponse> missions;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime expiredAt = LocalDateTime.of(2026, 2, 14, 9, 30);
+        missions = List.of(
+            new MissionResponse(1L, MissionType.CONSECUTIVE_LOGIN, MissionType.CONSECUTIVE_LOGIN.getDescription(),
+                List.of(new MissionResponse.Criterion(MissionMetric.CONSECUTIVE_LOGIN_DAYS.getLabel(), 3, 3)),
+                true, expiredAt.minusDays(20), expiredAt),
+            new MissionResponse(2L, MissionType.DIFFERENT_GAMES, MissionType.DIFFERENT_GAMES.getDescription(),
+                List.of(new MissionResponse.Criterion(MissionMetric.DISTINCT_GAMES.getLabel(), 2, 3)),
+                false, null, expiredAt),
+            new MissionResponse(3L, MissionType.PLAY_SCORE, MissionType.PLAY_SCORE.getDescription(),
+                List.of(new MissionResponse.Criterion(MissionMetric.PLAY_SESSIONS.getLabel(), 2, 3),
+                    new MissionResponse.Criterion(MissionMetric.TOTAL_SCORE.getLabel(), 800, 1000)),
+                false, null, expiredAt));
+        response = missions.getLast();
+    }
+
+    @Benchmark
+    public byte[] single() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    @Benchmark
+    public byte[] missionCenter() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(missions);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.context.mission.application.command;
+
+import com.example.demo.common.cqrs.command.Command;
+
+public sealed interface ActionCommand extends Command<Void>
+    permits LoginCommand, LaunchGameCommand, PlayGameCommand {
+
+    Long userId();
+
+    long occurredAt();
+}
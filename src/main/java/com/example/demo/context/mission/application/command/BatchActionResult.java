@@ -0,0 +1,25 @@
+package com.example.demo.context.mission.application.command;
+
+public record BatchActionResult(Status status, String code) {
+
+    public static final String USER_NOT_FOUND = "USER_NOT_FOUND";
+    public static final String GAME_NOT_FOUND = "GAME_NOT_FOUND";
+    public static final String PUBLISH_FAILED = "PUBLISH_FAILED";
+
+    public enum Status {
+        ACCEPTED,
+        REJECTED
+    }
+
+    public static BatchActionResult accepted() {
+        return new BatchActionResult(Status.ACCEPTED, null);
+    }
+
+    public static BatchActionResult rejected(String code) {
+        return new BatchActionResult(Status.REJECTED, code);
+    }
+
+    public boolean isAccepted() {
+        return status == Status.ACCEPTED;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.context.mission.application.command;
+
+import com.example.demo.common.cqrs.command.Command;
+
+import java.util.List;
+
+public record IngestActionBatchCommand(List<ActionCommand> actions) implements Command<List<BatchActionResult>> {
+}
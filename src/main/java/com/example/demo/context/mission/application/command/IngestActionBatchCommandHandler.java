@@ -0,0 +1,118 @@
+package com.example.demo.context.mission.application.command;
+
+import com.example.demo.common.cqrs.command.CommandHandler;
+import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
+import com.example.demo.context.mission.application.port.UserActionEventPublisher;
+import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.application.service.IngressGate;
+import com.example.demo.context.mission.application.service.MissionInitializationService;
+import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.GamePlayedEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
+import com.example.demo.context.mission.domain.event.UserActionEvent;
+import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Invalid actions are rejected individually instead of failing the whole batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IngestActionBatchCommandHandler implements CommandHandler<IngestActionBatchCommand, List<BatchActionResult>> {
+
+    private final UserQueryPort userQueryPort;
+    private final GameQueryPort gameQueryPort;
+    private final IngressGate ingressGate;
+    private final MissionInitializationService missionInitializationService;
+    private final UserActionEventPublisher userActionEventPublisher;
+    private final ReferenceSnapshotSigner referenceSnapshotSigner;
+
+    @Override
+    public List<BatchActionResult> handle(IngestActionBatchCommand command) {
+        List<ActionCommand> actions = command.actions();
+        if (actions.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> gameIds = new HashSet<>();
+        for (ActionCommand action : actions) {
+            userIds.add(action.userId());
+            Long gameId = gameIdOf(action);
+            if (gameId != null) {
+                gameIds.add(gameId);
+            }
+        }
+        Map<Long, LocalDateTime> createdAts = userQueryPort.getUserCreatedAts(userIds);
+        Set<Long> existingGameIds = gameIds.isEmpty() ? Set.of() : gameQueryPort.findExistingGameIds(gameIds);
+
+        BatchActionResult[] results = new BatchActionResult[actions.size()];
+        List<UserActionEvent> events = new ArrayList<>();
+        List<Integer> eventPositions = new ArrayList<>();
+        Map<Long, LocalDateTime> windowEnds = new LinkedHashMap<>();
+        Map<Long, Boolean> skippedUsers = new HashMap<>();
+        for (int i = 0; i < actions.size(); i++) {
+            ActionCommand action = actions.get(i);
+            LocalDateTime createdAt = createdAts.get(action.userId());
+            if (createdAt == null) {
+                results[i] = BatchActionResult.rejected(BatchActionResult.USER_NOT_FOUND);
+                continue;
+            }
+            Long gameId = gameIdOf(action);
+            if (gameId != null && !existingGameIds.contains(gameId)) {
+                results[i] = BatchActionResult.rejected(BatchActionResult.GAME_NOT_FOUND);
+                continue;
+            }
+            LocalDateTime windowEnd = createdAt.plusDays(30);
+            if (skippedUsers.computeIfAbsent(action.userId(), userId -> ingressGate.shouldSkip(userId, windowEnd))) {
+                results[i] = BatchActionResult.accepted();
+                continue;
+            }
+            windowEnds.putIfAbsent(action.userId(), windowEnd);
+            events.add(toEvent(action, referenceSnapshotSigner.sign(action.userId(), createdAt, windowEnd, gameId)));
+            eventPositions.add(i);
+        }
+
+        windowEnds.forEach(missionInitializationService::ensureMissionsExist);
+
+        BitSet failed = events.isEmpty() ? new BitSet() : userActionEventPublisher.publishAll(events);
+        for (int j = 0; j < eventPositions.size(); j++) {
+            results[eventPositions.get(j)] = failed.get(j)
+                ? BatchActionResult.rejected(BatchActionResult.PUBLISH_FAILED)
+                : BatchActionResult.accepted();
+        }
+        log.debug("Ingested action batch: size={}, published={}, publishFailed={}",
+            actions.size(), events.size() - failed.cardinality(), failed.cardinality());
+        return List.of(results);
+    }
+
+    private static Long gameIdOf(ActionCommand action) {
+        return switch (action) {
+            case LoginCommand ignored -> null;
+            case LaunchGameCommand c -> c.gameId();
+            case PlayGameCommand c -> c.gameId();
+        };
+    }
+
+    private static UserActionEvent toEvent(ActionCommand action, ReferenceSnapshot reference) {
+        return switch (action) {
+            case LoginCommand c -> new UserLoggedInEvent(c.userId(), c.loginDate(), c.occurredAt(), reference);
+            case LaunchGameCommand c -> new GameLaunchedEvent(c.userId(), c.gameId(), c.occurredAt(), reference);
+            case PlayGameCommand c -> new GamePlayedEvent(c.userId(), c.gameId(), c.score(), c.idempotencyKey(), c.occurredAt(), reference);
+        };
+    }
+}
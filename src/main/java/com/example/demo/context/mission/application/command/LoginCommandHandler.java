@@ -1,10 +1,13 @@
 package com.example.demo.context.mission.application.command;
 
 import com.example.demo.common.cqrs.command.CommandHandler;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserActionEventPublisher;
 import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.application.service.IngressGate;
 import com.example.demo.context.mission.application.service.MissionInitializationService;
 import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import com.example.demo.context.mission.domain.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -16,15 +19,22 @@ import java.time.LocalDateTime;
 public class LoginCommandHandler implements CommandHandler<LoginCommand, Void> {
 
     private final UserQueryPort userQueryPort;
+    private final IngressGate ingressGate;
     private final MissionInitializationService missionInitializationService;
     private final UserActionEventPublisher userActionEventPublisher;
+    private final ReferenceSnapshotSigner referenceSnapshotSigner;
 
     @Override
     public Void handle(LoginCommand command) {
         LocalDateTime createdAt = userQueryPort.getUserCreatedAt(command.userId())
             .orElseThrow(() -> new UserNotFoundException(command.userId()));
-        missionInitializationService.ensureMissionsExist(command.userId(), createdAt.plusDays(30));
-        userActionEventPublisher.publish(new UserLoggedInEvent(command.userId(), command.loginDate(), command.occurredAt()));
+        LocalDateTime windowEnd = createdAt.plusDays(30);
+        if (ingressGate.shouldSkip(command.userId(), windowEnd)) {
+            return null;
+        }
+        missionInitializationService.ensureMissionsExist(command.userId(), windowEnd);
+        ReferenceSnapshot reference = referenceSnapshotSigner.sign(command.userId(), createdAt, windowEnd, null);
+        userActionEventPublisher.publish(new UserLoggedInEvent(command.userId(), command.loginDate(), command.occurredAt(), reference));
         return null;
     }
 }
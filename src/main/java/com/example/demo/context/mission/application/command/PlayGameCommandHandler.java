@@ -2,10 +2,13 @@ package com.example.demo.context.mission.application.command;
 
 import com.example.demo.common.cqrs.command.CommandHandler;
 import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserActionEventPublisher;
 import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.application.service.IngressGate;
 import com.example.demo.context.mission.application.service.MissionInitializationService;
 import com.example.demo.context.mission.domain.event.GamePlayedEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import com.example.demo.context.mission.domain.exception.GameNotFoundException;
 import com.example.demo.context.mission.domain.exception.UserNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -19,8 +22,10 @@ public class PlayGameCommandHandler implements CommandHandler<PlayGameCommand, V
 
     private final UserQueryPort userQueryPort;
     private final GameQueryPort gameQueryPort;
+    private final IngressGate ingressGate;
     private final MissionInitializationService missionInitializationService;
     private final UserActionEventPublisher userActionEventPublisher;
+    private final ReferenceSnapshotSigner referenceSnapshotSigner;
 
     @Override
     public Void handle(PlayGameCommand command) {
@@ -29,8 +34,13 @@ public class PlayGameCommandHandler implements CommandHandler<PlayGameCommand, V
         if (!gameQueryPort.gameExists(command.gameId())) {
             throw new GameNotFoundException(command.gameId());
         }
-        missionInitializationService.ensureMissionsExist(command.userId(), createdAt.plusDays(30));
-        userActionEventPublisher.publish(new GamePlayedEvent(command.userId(), command.gameId(), command.score(), command.idempotencyKey(), command.occurredAt()));
+        LocalDateTime windowEnd = createdAt.plusDays(30);
+        if (ingressGate.shouldSkip(command.userId(), windowEnd)) {
+            return null;
+        }
+        missionInitializationService.ensureMissionsExist(command.userId(), windowEnd);
+        ReferenceSnapshot reference = referenceSnapshotSigner.sign(command.userId(), createdAt, windowEnd, command.gameId());
+        userActionEventPublisher.publish(new GamePlayedEvent(command.userId(), command.gameId(), command.score(), command.idempotencyKey(), command.occurredAt(), reference));
         return null;
     }
 }
@@ -1,8 +1,16 @@
 package com.example.demo.context.mission.application.port;
 
+import java.util.Map;
+import java.util.Set;
+
 public interface GameLaunchRecordPort {
 
     boolean recordGameLaunch(Long userId, Long gameId);
 
-    int countDistinctGamesLaunched(Long userId);
+    /**
+     * Records many launches and their progress counters in one transaction.
+     *
+     * @return users that may have a new launch row; exact unless some rows already existed
+     */
+    Set<Long> recordGameLaunches(Map<Long, Set<Long>> gameIdsByUser);
 }
@@ -1,10 +1,19 @@
 package com.example.demo.context.mission.application.port;
 
+import java.util.List;
+import java.util.Set;
+
 public interface GamePlayRecordPort {
 
     boolean recordGamePlay(Long userId, Long gameId, int score, String idempotencyKey);
 
-    int sumPlayScores(Long userId);
+    /**
+     * Records many play sessions and their progress counters in one transaction.
+     *
+     * @return users that may have a new play row; exact unless some rows already existed
+     */
+    Set<Long> recordGamePlays(List<GamePlay> plays);
 
-    int countPlaySessions(Long userId);
+    record GamePlay(Long userId, Long gameId, int score, String idempotencyKey) {
+    }
 }
@@ -1,6 +1,11 @@
 package com.example.demo.context.mission.application.port;
 
+import java.util.Collection;
+import java.util.Set;
+
 public interface GameQueryPort {
 
     boolean gameExists(Long gameId);
+
+    Set<Long> findExistingGameIds(Collection<Long> gameIds);
 }
@@ -1,10 +1,24 @@
 package com.example.demo.context.mission.application.port;
 
+import com.example.demo.context.mission.domain.model.LoginCalendar;
+
 import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
 
 public interface LoginRecordPort {
 
     boolean recordLogin(Long userId, LocalDate loginDate);
 
-    int countConsecutiveLoginDays(Long userId, LocalDate asOfDate);
+    /**
+     * Records many logins, skipping the ones already recorded.
+     *
+     * @return users with a new login row; exact unless a concurrent writer recorded the same login
+     */
+    Set<Long> recordLogins(Map<Long, Set<LocalDate>> loginDatesByUser);
+
+    /**
+     * @return the user's login calendar, {@link LoginCalendar#EMPTY} before the first login
+     */
+    LoginCalendar findLoginCalendar(Long userId);
 }
@@ -0,0 +1,8 @@
+package com.example.demo.context.mission.application.port;
+
+/**
+ * Best effort: clients resync with {@code GET /missions} after reconnecting.
+ */
+public interface MissionCenterNotifier {
+    void publish(MissionCenterUpdate update);
+}
@@ -0,0 +1,40 @@
+package com.example.demo.context.mission.application.port;
+
+import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+
+public record MissionCenterUpdate(
+    Long userId,
+    Type type,
+    long version,
+    MissionResponse mission,
+    Integer rewardPoints
+) {
+
+    public enum Type {
+        PROGRESS("progress"),
+        COMPLETED("completed"),
+        REWARD_GRANTED("reward");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    public static MissionCenterUpdate progress(Long userId, long version, MissionResponse mission) {
+        return new MissionCenterUpdate(userId, Type.PROGRESS, version, mission, null);
+    }
+
+    public static MissionCenterUpdate completed(Long userId, long version, MissionResponse mission) {
+        return new MissionCenterUpdate(userId, Type.COMPLETED, version, mission, null);
+    }
+
+    public static MissionCenterUpdate rewardGranted(Long userId, int points) {
+        return new MissionCenterUpdate(userId, Type.REWARD_GRANTED, 0L, null, points);
+    }
+}
@@ -0,0 +1,5 @@
+package com.example.demo.context.mission.application.port;
+
+public interface MissionCenterUpdateListener {
+    void onUpdate(MissionCenterUpdate update);
+}
@@ -0,0 +1,19 @@
+package com.example.demo.context.mission.application.port;
+
+import com.example.demo.context.mission.domain.model.Mission;
+import com.example.demo.context.mission.domain.model.ProgressCounters;
+
+import java.util.List;
+
+public record MissionProgress(
+    List<Mission> missions,
+    int consecutiveLoginDays,
+    int distinctGames,
+    int playSessions,
+    int totalScore
+) {
+
+    public ProgressCounters counters() {
+        return new ProgressCounters(consecutiveLoginDays, distinctGames, playSessions, totalScore);
+    }
+}
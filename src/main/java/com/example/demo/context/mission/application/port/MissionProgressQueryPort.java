@@ -0,0 +1,24 @@
+package com.example.demo.context.mission.application.port;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+public interface MissionProgressQueryPort {
+
+    /**
+     * Loads missions and progress counters for a user in a single round trip.
+     * The login streak is counted backwards from {@code asOfDate}.
+     *
+     * @return empty if the user does not exist
+     */
+    Optional<MissionProgress> findMissionProgress(Long userId, LocalDate asOfDate);
+
+    /**
+     * Set-based variant: one statement for all {@code userIds}. Callers bound the size of the set.
+     *
+     * @return progress keyed by user id, in ascending id order; unknown users are absent
+     */
+    Map<Long, MissionProgress> findMissionProgress(Collection<Long> userIds, LocalDate asOfDate);
+}
@@ -0,0 +1,17 @@
+package com.example.demo.context.mission.application.port;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProgressAggregatePort {
+
+    /**
+     * @return the user's aggregates, {@link ProgressAggregates#EMPTY} before any action
+     */
+    ProgressAggregates findAggregates(Long userId);
+
+    /**
+     * Aggregates of many users in one read; users without any action are absent.
+     */
+    Map<Long, ProgressAggregates> findAggregates(Collection<Long> userIds);
+}
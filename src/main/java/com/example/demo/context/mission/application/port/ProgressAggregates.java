@@ -0,0 +1,18 @@
+package com.example.demo.context.mission.application.port;
+
+import com.example.demo.context.mission.domain.model.LoginCalendar;
+import com.example.demo.context.mission.domain.model.ProgressCounters;
+
+import java.time.LocalDate;
+
+public record ProgressAggregates(LoginCalendar loginCalendar, int distinctGames, int playSessions, int totalScore) {
+
+    public static final ProgressAggregates EMPTY = new ProgressAggregates(LoginCalendar.EMPTY, 0, 0, 0);
+
+    /**
+     * Counters with the login streak measured as of {@code asOfDate}.
+     */
+    public ProgressCounters countersAsOf(LocalDate asOfDate) {
+        return new ProgressCounters(loginCalendar.streakEndingOn(asOfDate), distinctGames, playSessions, totalScore);
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.demo.context.mission.application.port;
+
+public class PublishBackpressureException extends RuntimeException {
+
+    public PublishBackpressureException(String message) {
+        super(message);
+    }
+}
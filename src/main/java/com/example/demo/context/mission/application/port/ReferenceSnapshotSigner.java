@@ -0,0 +1,19 @@
+package com.example.demo.context.mission.application.port;
+
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
+
+import java.time.LocalDateTime;
+
+public interface ReferenceSnapshotSigner {
+
+    /**
+     * @return {@code null} when no signing key is configured
+     */
+    ReferenceSnapshot sign(Long userId, LocalDateTime userCreatedAt, LocalDateTime windowEnd, Long gameId);
+
+    /**
+     * Whether the snapshot is signed with the current key, fresh enough and issued for
+     * exactly this user and game.
+     */
+    boolean verify(ReferenceSnapshot snapshot, Long userId, Long gameId);
+}
@@ -2,6 +2,13 @@ package com.example.demo.context.mission.application.port;
 
 import com.example.demo.context.mission.domain.event.RewardGrantedEvent;
 
+import java.util.List;
+
 public interface RewardEventPublisher {
-    void publish(RewardGrantedEvent event);
+
+    /**
+     * Publishes the events in one broker round trip; either all of them are accepted or the
+     * call throws and none may be assumed sent.
+     */
+    void publishAll(List<RewardGrantedEvent> events);
 }
@@ -2,7 +2,13 @@ package com.example.demo.context.mission.application.port;
 
 public interface RewardRepository {
 
-    boolean grantReward(Long userId, int points);
+    /**
+     * Grants the reward only if every mission of the user was completed before it expired,
+     * queueing its event in the same transaction.
+     *
+     * @return whether this call inserted the reward
+     */
+    boolean grantRewardIfAllCompleted(Long userId, int points);
 
     boolean isRewarded(Long userId);
 }
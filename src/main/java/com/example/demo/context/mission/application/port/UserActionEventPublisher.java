@@ -2,6 +2,16 @@ package com.example.demo.context.mission.application.port;
 
 import com.example.demo.context.mission.domain.event.UserActionEvent;
 
+import java.util.BitSet;
+import java.util.List;
+
 public interface UserActionEventPublisher {
     void publish(UserActionEvent event);
+
+    /**
+     * Publishes the events using as few broker round trips as possible.
+     *
+     * @return positions (in {@code events}) of the events that could not be published
+     */
+    BitSet publishAll(List<? extends UserActionEvent> events);
 }
@@ -1,6 +1,8 @@
 package com.example.demo.context.mission.application.port;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface UserQueryPort {
@@ -8,4 +10,10 @@ public interface UserQueryPort {
     boolean userExists(Long userId);
 
     Optional<LocalDateTime> getUserCreatedAt(Long userId);
+
+    /**
+     * Resolves {@code created_at} for many users in one lookup.
+     * Users that do not exist are absent from the returned map.
+     */
+    Map<Long, LocalDateTime> getUserCreatedAts(Collection<Long> userIds);
 }
@@ -0,0 +1,9 @@
+package com.example.demo.context.mission.application.port.cache;
+
+import java.time.LocalDate;
+
+/**
+ * Two requests seeing the same value are guaranteed to receive the same missions.
+ */
+public record MissionCenterVersion(long version, LocalDate asOfDate) {
+}
@@ -0,0 +1,21 @@
+package com.example.demo.context.mission.application.port.cache;
+
+import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * {@code version} is {@link #UNVERSIONED} when the version store could not be reached.
+ */
+public record MissionCenterView(List<MissionResponse> missions, LocalDate asOfDate, long version) {
+
+    public static final long UNVERSIONED = 0L;
+
+    public Optional<MissionCenterVersion> versionStamp() {
+        return version == UNVERSIONED
+            ? Optional.empty()
+            : Optional.of(new MissionCenterVersion(version, asOfDate));
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.demo.context.mission.application.port.cache;
+
+import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A save carrying an older version than the stored view is discarded, so a slow writer
+ * can never overwrite a newer projection.
+ */
+public interface MissionCenterViewCache {
+
+    /**
+     * @return the view if it was built for {@code asOfDate} and no progress change happened since
+     */
+    Optional<MissionCenterView> find(Long userId, LocalDate asOfDate);
+
+    /**
+     * @return the stored version, {@link MissionCenterView#UNVERSIONED} when none was written yet
+     */
+    long currentVersion(Long userId);
+
+    long bumpVersion(Long userId);
+
+    /**
+     * @return whether the view was stored, i.e. no newer version had been saved already
+     */
+    boolean save(Long userId, long version, LocalDate asOfDate, List<MissionResponse> missions);
+}
@@ -1,7 +1,9 @@
 package com.example.demo.context.mission.application.port.cache;
 
+import java.time.LocalDateTime;
+
 public interface MissionInitializationCache {
     boolean isInitialized(Long userId);
 
-    void markInitialized(Long userId);
+    void markInitialized(Long userId, LocalDateTime expiredAt);
 }
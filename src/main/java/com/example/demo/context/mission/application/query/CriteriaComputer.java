@@ -1,13 +1,36 @@
 package com.example.demo.context.mission.application.query;
 
+import com.example.demo.context.mission.application.port.MissionProgress;
+import com.example.demo.context.mission.domain.model.MissionMetric;
+import com.example.demo.context.mission.domain.model.MissionRulebook;
 import com.example.demo.context.mission.domain.model.MissionType;
+import com.example.demo.context.mission.domain.model.ProgressCounters;
 import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse.Criterion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
 
 import java.util.List;
 
-public interface CriteriaComputer {
+/**
+ * The login streak is counted past its target but, as before, shown capped at it.
+ */
+@Component
+@RequiredArgsConstructor
+public class CriteriaComputer {
 
-    MissionType supportedType();
+    private final MissionRulebook missionRulebook;
 
-    List<Criterion> compute(Long userId);
-}
\ No newline at end of file
+    public List<Criterion> compute(MissionType type, MissionProgress progress) {
+        ProgressCounters counters = progress.counters();
+        return missionRulebook.rule(type).criteria().stream()
+            .map(criterion -> new Criterion(
+                criterion.metric().getLabel(),
+                displayed(criterion.metric(), counters.valueOf(criterion.metric()), criterion.target()),
+                criterion.target()))
+            .toList();
+    }
+
+    private static int displayed(MissionMetric metric, int value, int target) {
+        return metric == MissionMetric.CONSECUTIVE_LOGIN_DAYS ? Math.min(value, target) : value;
+    }
+}
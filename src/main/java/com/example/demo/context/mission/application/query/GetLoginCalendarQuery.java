@@ -0,0 +1,7 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.common.cqrs.query.Query;
+import com.example.demo.context.mission.interfaces.rest.dto.LoginCalendarResponse;
+
+public record GetLoginCalendarQuery(Long userId) implements Query<LoginCalendarResponse> {
+}
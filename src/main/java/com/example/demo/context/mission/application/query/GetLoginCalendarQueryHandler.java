@@ -0,0 +1,40 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.common.cqrs.query.QueryHandler;
+import com.example.demo.context.mission.application.port.LoginRecordPort;
+import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.domain.exception.UserNotFoundException;
+import com.example.demo.context.mission.domain.model.LoginCalendar;
+import com.example.demo.context.mission.interfaces.rest.dto.LoginCalendarResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+@Component
+@RequiredArgsConstructor
+public class GetLoginCalendarQueryHandler implements QueryHandler<GetLoginCalendarQuery, LoginCalendarResponse> {
+
+    static final int WINDOW_DAYS = 30;
+
+    private final UserQueryPort userQueryPort;
+    private final LoginRecordPort loginRecordPort;
+    private final Clock clock;
+
+    @Override
+    public LoginCalendarResponse handle(GetLoginCalendarQuery query) {
+        if (!userQueryPort.userExists(query.userId())) {
+            throw new UserNotFoundException(query.userId());
+        }
+        LocalDate today = LocalDate.now(clock);
+        LocalDate from = today.minusDays(WINDOW_DAYS - 1);
+        LoginCalendar calendar = loginRecordPort.findLoginCalendar(query.userId());
+        return new LoginCalendarResponse(
+            query.userId(),
+            from,
+            today,
+            calendar.loginDatesBetween(from, today),
+            calendar.streakEndingOn(today));
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.common.cqrs.query.Query;
+import com.example.demo.context.mission.application.port.cache.MissionCenterVersion;
+
+import java.util.Optional;
+
+public record GetMissionCenterVersionQuery(Long userId) implements Query<Optional<MissionCenterVersion>> {
+}
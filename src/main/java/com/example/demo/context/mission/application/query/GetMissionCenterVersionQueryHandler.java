@@ -0,0 +1,22 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.common.cqrs.query.QueryHandler;
+import com.example.demo.context.mission.application.port.cache.MissionCenterVersion;
+import com.example.demo.context.mission.application.service.MissionCenterProjectionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class GetMissionCenterVersionQueryHandler
+    implements QueryHandler<GetMissionCenterVersionQuery, Optional<MissionCenterVersion>> {
+
+    private final MissionCenterProjectionService missionCenterProjectionService;
+
+    @Override
+    public Optional<MissionCenterVersion> handle(GetMissionCenterVersionQuery query) {
+        return missionCenterProjectionService.findVersion(query.userId());
+    }
+}
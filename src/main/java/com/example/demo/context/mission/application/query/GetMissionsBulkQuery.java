@@ -0,0 +1,14 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.common.cqrs.query.Query;
+import com.example.demo.context.mission.interfaces.rest.dto.UserMissionsResponse;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Lazy: each element is one chunk of users, loaded only when the stream reaches it.
+ */
+public record GetMissionsBulkQuery(Set<Long> userIds) implements Query<Stream<List<UserMissionsResponse>>> {
+}
@@ -0,0 +1,38 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.common.cqrs.query.QueryHandler;
+import com.example.demo.context.mission.application.service.MissionCenterProjectionService;
+import com.example.demo.context.mission.domain.exception.MissionBulkQueryTooLargeException;
+import com.example.demo.context.mission.interfaces.rest.dto.UserMissionsResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Component
+@RequiredArgsConstructor
+public class GetMissionsBulkQueryHandler
+    implements QueryHandler<GetMissionsBulkQuery, Stream<List<UserMissionsResponse>>> {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_USER_IDS = 10_000;
+
+    private final MissionCenterProjectionService missionCenterProjectionService;
+
+    @Override
+    public Stream<List<UserMissionsResponse>> handle(GetMissionsBulkQuery query) {
+        if (query.userIds().size() > MAX_USER_IDS) {
+            throw new MissionBulkQueryTooLargeException(query.userIds().size(), MAX_USER_IDS);
+        }
+
+        List<Long> userIds = query.userIds().stream().sorted().toList();
+        int chunks = (userIds.size() + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunks)
+            .mapToObj(chunk -> userIds.subList(chunk * CHUNK_SIZE, Math.min((chunk + 1) * CHUNK_SIZE, userIds.size())))
+            .map(chunk -> missionCenterProjectionService.buildAll(chunk).entrySet().stream()
+                .map(entry -> new UserMissionsResponse(entry.getKey(), entry.getValue()))
+                .toList());
+    }
+}
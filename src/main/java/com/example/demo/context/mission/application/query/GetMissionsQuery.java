@@ -1,9 +1,7 @@
 package com.example.demo.context.mission.application.query;
 
 import com.example.demo.common.cqrs.query.Query;
-import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
 
-import java.util.List;
-
-public record GetMissionsQuery(Long userId) implements Query<List<MissionResponse>> {
+public record GetMissionsQuery(Long userId) implements Query<MissionCenterView> {
 }
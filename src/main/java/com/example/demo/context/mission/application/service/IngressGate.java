@@ -0,0 +1,60 @@
+package com.example.demo.context.mission.application.service;
+
+import com.example.demo.context.mission.application.port.cache.MissionCompletionCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Drops actions no mission can use any more: the user's window has ended, or the reward is
+ * cached as granted. Callers still acknowledge skipped actions.
+ */
+@Slf4j
+@Service
+public class IngressGate {
+
+    private final Clock clock;
+    private final MissionCompletionCache missionCompletionCache;
+    private final Counter expiredCounter;
+    private final Counter completedCounter;
+
+    public IngressGate(Clock clock, MissionCompletionCache missionCompletionCache, MeterRegistry meterRegistry) {
+        this.clock = clock;
+        this.missionCompletionCache = missionCompletionCache;
+        this.expiredCounter = skippedCounter(meterRegistry, "expired");
+        this.completedCounter = skippedCounter(meterRegistry, "completed");
+    }
+
+    public boolean shouldSkip(Long userId, LocalDateTime windowEnd) {
+        if (windowEnd.isBefore(LocalDateTime.now(clock))) {
+            log.debug("Skipping action of userId={}: mission window ended at {}", userId, windowEnd);
+            expiredCounter.increment();
+            return true;
+        }
+        if (isCachedAllCompleted(userId)) {
+            log.debug("Skipping action of userId={}: reward already granted", userId);
+            completedCounter.increment();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isCachedAllCompleted(Long userId) {
+        try {
+            return missionCompletionCache.isAllCompleted(userId);
+        } catch (Exception e) {
+            log.debug("All-completed cache check failed for userId={}: {}", userId, e.getMessage());
+            return false;
+        }
+    }
+
+    private static Counter skippedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("mission.ingress.skipped")
+            .tag("reason", reason)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.demo.context.mission.application.service;
+
+import com.example.demo.context.mission.application.port.MissionCenterNotifier;
+import com.example.demo.context.mission.application.port.MissionCenterUpdate;
+import com.example.demo.context.mission.application.port.MissionProgress;
+import com.example.demo.context.mission.application.port.MissionProgressQueryPort;
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
+import com.example.demo.context.mission.application.port.cache.MissionCenterVersion;
+import com.example.demo.context.mission.application.port.cache.MissionCenterViewCache;
+import com.example.demo.context.mission.application.query.CriteriaComputer;
+import com.example.demo.context.mission.domain.exception.UserNotFoundException;
+import com.example.demo.context.mission.domain.model.MissionType;
+import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis failures never fail the caller: writers skip the update and readers fall back to
+ * computing the view from the database.
+ */
+@Slf4j
+@Service
+public class MissionCenterProjectionService {
+
+    private final Clock clock;
+    private final MissionProgressQueryPort missionProgressQueryPort;
+    private final MissionCenterViewCache missionCenterViewCache;
+    private final MissionCenterNotifier missionCenterNotifier;
+    private final CriteriaComputer criteriaComputer;
+
+    public MissionCenterProjectionService(Clock clock,
+                                          MissionProgressQueryPort missionProgressQueryPort,
+                                          MissionCenterViewCache missionCenterViewCache,
+                                          MissionCenterNotifier missionCenterNotifier,
+                                          CriteriaComputer criteriaComputer) {
+        this.clock = clock;
+        this.missionProgressQueryPort = missionProgressQueryPort;
+        this.missionCenterViewCache = missionCenterViewCache;
+        this.missionCenterNotifier = missionCenterNotifier;
+        this.criteriaComputer = criteriaComputer;
+    }
+
+    public MissionCenterView getView(Long userId) {
+        LocalDate asOfDate = LocalDate.now(clock);
+        Optional<MissionCenterView> cached = findCached(userId, asOfDate);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
+        long version = currentVersion(userId);
+        List<MissionResponse> missions = build(userId, asOfDate);
+        if (version != MissionCenterView.UNVERSIONED) {
+            safeSave(userId, version, asOfDate, missions);
+        } else {
+            // The user exists now; seed a version for the next read, which builds and stores
+            // the view under it. This body was read before the version existed, so it is not saved.
+            safeSeed(userId);
+        }
+        return new MissionCenterView(missions, asOfDate, version);
+    }
+
+    /**
+     * @return empty when the version store is unreachable and nothing can be assumed about freshness
+     */
+    public Optional<MissionCenterVersion> findVersion(Long userId) {
+        long version = currentVersion(userId);
+        return version == MissionCenterView.UNVERSIONED
+            ? Optional.empty()
+            : Optional.of(new MissionCenterVersion(version, LocalDate.now(clock)));
+    }
+
+    public void onProgressChanged(Long userId, MissionType changed, boolean completed) {
+        onProgressChanged(userId, Map.of(changed, completed));
+    }
+
+    /**
+     * Rebuilds the projection once for an action that moved several missions; values tell
+     * whether each one just completed.
+     */
+    public void onProgressChanged(Long userId, Map<MissionType, Boolean> changed) {
+        try {
+            long version = missionCenterViewCache.bumpVersion(userId);
+            LocalDate asOfDate = LocalDate.now(clock);
+            List<MissionResponse> missions = build(userId, asOfDate);
+            missionCenterViewCache.save(userId, version, asOfDate, missions);
+            missions.stream()
+                .filter(mission -> changed.containsKey(mission.missionType()))
+                .map(mission -> changed.get(mission.missionType())
+                    ? MissionCenterUpdate.completed(userId, version, mission)
+                    : MissionCenterUpdate.progress(userId, version, mission))
+                .forEach(missionCenterNotifier::publish);
+        } catch (Exception e) {
+            log.debug("Mission center projection update failed for userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    public void onRewardGranted(Long userId, int points) {
+        try {
+            missionCenterNotifier.publish(MissionCenterUpdate.rewardGranted(userId, points));
+        } catch (Exception e) {
+            log.debug("Reward notification failed for userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    /**
+     * Renders from one set-based read, bypassing the projection. Unknown users are absent.
+     */
+    public Map<Long, List<MissionResponse>> buildAll(Collection<Long> userIds) {
+        Map<Long, List<MissionResponse>> views = new LinkedHashMap<>();
+        missionProgressQueryPort.findMissionProgress(userIds, LocalDate.now(clock))
+            .forEach((userId, progress) -> views.put(userId, render(progress)));
+        return views;
+    }
+
+    List<MissionResponse> build(Long userId, LocalDate asOfDate) {
+        return render(missionProgressQueryPort.findMissionProgress(userId, asOfDate)
+            .orElseThrow(() -> new UserNotFoundException(userId)));
+    }
+
+    private List<MissionResponse> render(MissionProgress progress) {
+        return progress.missions().stream()
+            .map(mission -> MissionResponse.from(
+                mission,
+                criteriaComputer.compute(mission.getMissionType(), progress)))
+            .toList();
+    }
+
+    private Optional<MissionCenterView> findCached(Long userId, LocalDate asOfDate) {
+        try {
+            return missionCenterViewCache.find(userId, asOfDate);
+        } catch (Exception e) {
+            log.debug("Mission center cache read failed for userId={}: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private long currentVersion(Long userId) {
+        try {
+            return missionCenterViewCache.currentVersion(userId);
+        } catch (Exception e) {
+            log.debug("Mission center version read failed for userId={}: {}", userId, e.getMessage());
+            return MissionCenterView.UNVERSIONED;
+        }
+    }
+
+    private void safeSeed(Long userId) {
+        try {
+            missionCenterViewCache.bumpVersion(userId);
+        } catch (Exception e) {
+            log.debug("Mission center version seed failed for userId={}: {}", userId, e.getMessage());
+        }
+    }
+
+    private void safeSave(Long userId, long version, LocalDate asOfDate, List<MissionResponse> missions) {
+        try {
+            missionCenterViewCache.save(userId, version, asOfDate, missions);
+        } catch (Exception e) {
+            log.debug("Mission center projection repair failed for userId={}: {}", userId, e.getMessage());
+        }
+    }
+}
@@ -35,7 +35,7 @@ public class MissionInitializationService {
         missionRepository.createAllIfAbsent(missions);
 
         try {
-            missionInitializationCache.markInitialized(userId);
+            missionInitializationCache.markInitialized(userId, expiredAt);
         } catch (Exception e) {
             log.debug("Failed to cache mission init for userId={}: {}", userId, e.getMessage());
         }
@@ -2,9 +2,11 @@ package com.example.demo.context.mission.application.service;
 
 import com.example.demo.context.mission.application.port.*;
 import com.example.demo.context.mission.application.port.cache.MissionCompletionCache;
-import com.example.demo.context.mission.domain.event.RewardGrantedEvent;
-import com.example.demo.context.mission.domain.model.Mission;
+import com.example.demo.context.mission.domain.model.MissionAction;
+import com.example.demo.context.mission.domain.model.MissionRule;
+import com.example.demo.context.mission.domain.model.MissionRulebook;
 import com.example.demo.context.mission.domain.model.MissionType;
+import com.example.demo.context.mission.domain.model.ProgressCounters;
 import com.example.demo.context.mission.domain.repository.MissionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,132 +15,213 @@ import org.springframework.stereotype.Service;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class MissionProgressService {
 
-    private static final int REWARD_LOCK_MAX_RETRIES = 3;
-    private static final long REWARD_LOCK_TTL_SECONDS = 10;
-    private static final long REWARD_LOCK_RETRY_DELAY_MS = 200;
-
     private final Clock clock;
+    private final MissionRulebook missionRulebook;
     private final MissionRepository missionRepository;
     private final LoginRecordPort loginRecordPort;
     private final GameLaunchRecordPort gameLaunchRecordPort;
     private final GamePlayRecordPort gamePlayRecordPort;
+    private final ProgressAggregatePort progressAggregatePort;
     private final MissionCompletionCache missionCompletionCache;
-    private final RewardEventPublisher rewardEventPublisher;
     private final RewardRepository rewardRepository;
-    private final DistributedLock distributedLock;
+    private final MissionCenterProjectionService missionCenterProjectionService;
 
     public void processLogin(Long userId, LocalDate loginDate) {
-        processMission(
+        processAction(
             userId,
-            MissionType.CONSECUTIVE_LOGIN,
-            () -> loginRecordPort.recordLogin(userId, loginDate),
-            () -> loginRecordPort.countConsecutiveLoginDays(userId, loginDate) >= 3
+            MissionAction.LOGIN,
+            List.of(loginDate),
+            () -> loginRecordPort.recordLogin(userId, loginDate)
         );
     }
 
     public void processGameLaunch(Long userId, Long gameId) {
-        processMission(
+        processAction(
             userId,
-            MissionType.DIFFERENT_GAMES,
-            () -> gameLaunchRecordPort.recordGameLaunch(userId, gameId),
-            () -> gameLaunchRecordPort.countDistinctGamesLaunched(userId) >= 3
+            MissionAction.GAME_LAUNCH,
+            List.of(LocalDate.now(clock)),
+            () -> gameLaunchRecordPort.recordGameLaunch(userId, gameId)
         );
     }
 
     public void processGamePlay(Long userId, Long gameId, int score, String idempotencyKey) {
-        processMission(
+        processAction(
             userId,
-            MissionType.PLAY_SCORE,
-            () -> gamePlayRecordPort.recordGamePlay(userId, gameId, score, idempotencyKey),
-            () -> gamePlayRecordPort.countPlaySessions(userId) >= 3
-                && gamePlayRecordPort.sumPlayScores(userId) > 1000
+            MissionAction.GAME_PLAY,
+            List.of(LocalDate.now(clock)),
+            () -> gamePlayRecordPort.recordGamePlay(userId, gameId, score, idempotencyKey)
         );
     }
 
-    private void processMission(
+    // ── batch processing ────────────────────────────────────────────────────
+    // Actions of many users are recorded with one statement per batch and the aggregates of
+    // all affected users are read with one more; each user is then evaluated once, however
+    // many of its actions the batch carried.
+
+    public void processLogins(Map<Long, Set<LocalDate>> loginDatesByUser) {
+        Map<Long, List<MissionRule>> openRules = new LinkedHashMap<>();
+        Map<Long, Set<LocalDate>> pending = withOpenMissions(loginDatesByUser, MissionAction.LOGIN, openRules);
+        Set<Long> recorded = pending.isEmpty() ? Set.of() : loginRecordPort.recordLogins(pending);
+        evaluateAll(openRules, recorded, pending::get);
+    }
+
+    public void processGameLaunches(Map<Long, Set<Long>> gameIdsByUser) {
+        Map<Long, List<MissionRule>> openRules = new LinkedHashMap<>();
+        Map<Long, Set<Long>> pending = withOpenMissions(gameIdsByUser, MissionAction.GAME_LAUNCH, openRules);
+        Set<Long> recorded = pending.isEmpty() ? Set.of() : gameLaunchRecordPort.recordGameLaunches(pending);
+        List<LocalDate> today = List.of(LocalDate.now(clock));
+        evaluateAll(openRules, recorded, userId -> today);
+    }
+
+    public void processGamePlays(List<GamePlayRecordPort.GamePlay> plays) {
+        Map<Long, List<MissionRule>> openRules = new LinkedHashMap<>();
+        Map<Long, List<GamePlayRecordPort.GamePlay>> pending = withOpenMissions(
+            plays.stream().collect(Collectors.groupingBy(
+                GamePlayRecordPort.GamePlay::userId, LinkedHashMap::new, Collectors.toList())),
+            MissionAction.GAME_PLAY,
+            openRules);
+        Set<Long> recorded = pending.isEmpty()
+            ? Set.of()
+            : gamePlayRecordPort.recordGamePlays(pending.values().stream().flatMap(List::stream).toList());
+        List<LocalDate> today = List.of(LocalDate.now(clock));
+        evaluateAll(openRules, recorded, userId -> today);
+    }
+
+    private <T> Map<Long, T> withOpenMissions(
+        Map<Long, T> actionsByUser,
+        MissionAction action,
+        Map<Long, List<MissionRule>> openRules
+    ) {
+        Map<Long, T> pending = new LinkedHashMap<>();
+        actionsByUser.forEach((userId, actions) -> {
+            List<MissionRule> open = openRules(userId, action);
+            if (open.isEmpty()) {
+                tryGrantReward(userId);
+            } else {
+                pending.put(userId, actions);
+                openRules.put(userId, open);
+            }
+        });
+        return pending;
+    }
+
+    private void evaluateAll(
+        Map<Long, List<MissionRule>> openRules,
+        Set<Long> recorded,
+        Function<Long, Collection<LocalDate>> asOfDates
+    ) {
+        if (openRules.isEmpty()) {
+            return;
+        }
+        Map<Long, ProgressAggregates> aggregates = progressAggregatePort.findAggregates(openRules.keySet());
+        openRules.forEach((userId, rules) -> evaluate(
+            userId,
+            rules,
+            recorded.contains(userId),
+            aggregates.getOrDefault(userId, ProgressAggregates.EMPTY),
+            asOfDates.apply(userId)
+        ));
+    }
+
+    private void processAction(
         Long userId,
-        MissionType type,
-        BooleanSupplier recordAction,
-        BooleanSupplier targetReached
+        MissionAction action,
+        Collection<LocalDate> asOfDates,
+        BooleanSupplier recordAction
     ) {
-        if (isCachedCompleted(userId, type)) {
-            log.debug("Mission already completed (cached) for userId={}, type={}, checking reward", userId, type);
+        List<MissionRule> open = openRules(userId, action);
+        if (open.isEmpty()) {
+            log.debug("Missions moved by {} already completed (cached) for userId={}, checking reward", action, userId);
             tryGrantReward(userId);
             return;
         }
 
-        // Intentionally ignoring the return value: INSERT IGNORE returns false on duplicate,
-        // but we still proceed to check completion. This ensures MQ redelivery or concurrent
-        // events don't silently skip the reward-granting path.
-        recordAction.getAsBoolean();
+        // INSERT IGNORE returns false on duplicate, but we still proceed to check completion.
+        // This ensures MQ redelivery or concurrent events don't silently skip the
+        // reward-granting path; the flag only decides whether the projection changed.
+        boolean recorded = recordAction.getAsBoolean();
+        evaluate(userId, open, recorded, progressAggregatePort.findAggregates(userId), asOfDates);
+    }
 
-        if (targetReached.getAsBoolean()) {
-            boolean transitioned = missionRepository.completeMission(
-                userId, type, LocalDateTime.now(clock));
-            if (transitioned) {
-                log.info("Mission completed: userId={}, type={}", userId, type);
-                safeMarkCompleted(userId, type);
+    private List<MissionRule> openRules(Long userId, MissionAction action) {
+        List<MissionRule> open = new ArrayList<>();
+        for (MissionRule rule : missionRulebook.rulesTriggeredBy(action)) {
+            if (!isCachedCompleted(userId, rule.type())) {
+                open.add(rule);
             }
-            tryGrantReward(userId);
         }
+        return open;
     }
 
-    void tryGrantReward(Long userId) {
-        if (isCachedAllCompleted(userId)) {
-            return;
-        }
-
-        String lockKey = "lock:reward:" + userId;
-        for (int attempt = 1; attempt <= REWARD_LOCK_MAX_RETRIES; attempt++) {
-            Boolean acquired = distributedLock.tryWithLock(
-                lockKey, REWARD_LOCK_TTL_SECONDS,
-                () -> { grantRewardIfAllCompleted(userId); return true; },
-                null
-            );
-            if (Boolean.TRUE.equals(acquired)) {
-                return;
+    /**
+     * Login batches pass every login date, so a streak that ended earlier in the batch still counts.
+     */
+    private void evaluate(
+        Long userId,
+        List<MissionRule> rules,
+        boolean recorded,
+        ProgressAggregates aggregates,
+        Collection<LocalDate> asOfDates
+    ) {
+        List<ProgressCounters> counters = asOfDates.stream().map(aggregates::countersAsOf).toList();
+        Map<MissionType, Boolean> changed = new EnumMap<>(MissionType.class);
+        boolean anyReached = false;
+        for (MissionRule rule : rules) {
+            boolean reached = counters.stream().anyMatch(rule::isMet);
+            boolean transitioned = reached && missionRepository.completeMission(
+                userId, rule.type(), LocalDateTime.now(clock));
+            if (transitioned) {
+                log.info("Mission completed: userId={}, type={}", userId, rule.type());
+                safeMarkCompleted(userId, rule.type());
             }
-
-            log.debug("Failed to acquire reward lock for userId={}, attempt {}/{}", userId, attempt, REWARD_LOCK_MAX_RETRIES);
-            sleepBeforeRetry(attempt, userId);
+            if (recorded || transitioned) {
+                changed.put(rule.type(), transitioned);
+            }
+            anyReached |= reached;
+        }
+        if (!changed.isEmpty()) {
+            missionCenterProjectionService.onProgressChanged(userId, changed);
+        }
+        if (anyReached) {
+            tryGrantReward(userId);
         }
-
-        throw new RuntimeException(
-            "Failed to acquire reward lock after " + REWARD_LOCK_MAX_RETRIES + " retries for userId=" + userId);
     }
 
-    private void grantRewardIfAllCompleted(Long userId) {
-        List<Mission> missions = missionRepository.findByUserId(userId);
-        boolean allCompleted = missions.size() == MissionType.values().length
-            && missions.stream().allMatch(Mission::isCompleted);
-
-        if (!allCompleted) {
+    void tryGrantReward(Long userId) {
+        if (isCachedAllCompleted(userId)) {
             return;
         }
 
-        boolean granted = rewardRepository.grantReward(userId, 777);
+        // One conditional insert checks all missions and grants; the unique key on
+        // rewards.user_id lets concurrent completions race without a lock
+        boolean granted = rewardRepository.grantRewardIfAllCompleted(userId, 777);
         if (!granted) {
-            log.debug("Reward already granted for userId={}, skipping event", userId);
-            safeRun(() -> missionCompletionCache.markAllCompleted(userId));
+            if (rewardRepository.isRewarded(userId)) {
+                log.debug("Reward already granted for userId={}, skipping event", userId);
+                safeRun(() -> missionCompletionCache.markAllCompleted(userId));
+            }
             return;
         }
-
-        try {
-            rewardEventPublisher.publish(new RewardGrantedEvent(userId, 777));
-            log.info("Reward granted and event dispatched for userId={}", userId);
-            safeRun(() -> missionCompletionCache.markAllCompleted(userId));
-        } catch (Exception e) {
-            log.warn("Reward granted but event dispatch failed for userId={}, will retry on next consume: {}",
-                userId, e.getMessage());
-        }
+        // The RewardGrantedEvent was queued in the reward transaction; the outbox relay publishes it
+        log.info("Reward granted for userId={}", userId);
+        missionCenterProjectionService.onRewardGranted(userId, 777);
+        safeRun(() -> missionCompletionCache.markAllCompleted(userId));
     }
 
     // ---- cache helpers ----
@@ -168,14 +251,4 @@ public class MissionProgressService {
     private void safeRun(Runnable action) {
         try { action.run(); } catch (Exception e) { log.debug("Safe action failed: {}", e.getMessage()); }
     }
-
-    private void sleepBeforeRetry(int attempt, Long userId) {
-        if (attempt >= REWARD_LOCK_MAX_RETRIES) return;
-        try {
-            Thread.sleep(REWARD_LOCK_RETRY_DELAY_MS * attempt);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
-            throw new RuntimeException("Interrupted while retrying reward lock for userId=" + userId, ie);
-        }
-    }
 }
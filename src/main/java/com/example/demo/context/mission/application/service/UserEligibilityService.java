@@ -2,13 +2,17 @@ package com.example.demo.context.mission.application.service;
 
 import com.example.demo.context.mission.application.port.cache.UserEligibilityCache;
 import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.Clock;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -44,4 +48,22 @@ public class UserEligibilityService {
 
         return true;
     }
+
+    public boolean isEligible(ReferenceSnapshot reference) {
+        return !reference.windowEnd().isBefore(LocalDateTime.now(clock));
+    }
+
+    public Set<Long> eligibleUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        Set<Long> eligible = new HashSet<>();
+        userQueryPort.getUserCreatedAts(userIds).forEach((userId, createdAt) -> {
+            if (!createdAt.plusDays(30).isBefore(now)) {
+                eligible.add(userId);
+            }
+        });
+        return eligible;
+    }
 }
@@ -1,6 +1,11 @@
 package com.example.demo.context.mission.domain.event;
 
-public record GameLaunchedEvent(Long userId, Long gameId, long occurredAt) implements UserActionEvent {
+public record GameLaunchedEvent(Long userId, Long gameId, long occurredAt,
+                                ReferenceSnapshot reference) implements UserActionEvent {
+
+    public GameLaunchedEvent(Long userId, Long gameId, long occurredAt) {
+        this(userId, gameId, occurredAt, null);
+    }
 
     public GameLaunchedEvent(Long userId, Long gameId) {
         this(userId, gameId, System.currentTimeMillis());
@@ -1,7 +1,11 @@
 package com.example.demo.context.mission.domain.event;
 
 public record GamePlayedEvent(Long userId, Long gameId, int score, String idempotencyKey,
-                              long occurredAt) implements UserActionEvent {
+                              long occurredAt, ReferenceSnapshot reference) implements UserActionEvent {
+
+    public GamePlayedEvent(Long userId, Long gameId, int score, String idempotencyKey, long occurredAt) {
+        this(userId, gameId, score, idempotencyKey, occurredAt, null);
+    }
 
     public GamePlayedEvent(Long userId, Long gameId, int score, String idempotencyKey) {
         this(userId, gameId, score, idempotencyKey, System.currentTimeMillis());
@@ -0,0 +1,11 @@
+package com.example.demo.context.mission.domain.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@code gameId} is {@code null} for actions without a game. The signature covers every
+ * other component and uses the key identified by {@code version}.
+ */
+public record ReferenceSnapshot(int version, LocalDateTime userCreatedAt, LocalDateTime windowEnd,
+                                Long gameId, long issuedAt, String signature) {
+}
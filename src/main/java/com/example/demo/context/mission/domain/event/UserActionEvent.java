@@ -7,6 +7,11 @@ public sealed interface UserActionEvent extends DomainEvent
 
     Long userId();
 
+    /**
+     * {@code null} for events published by producers that do not sign snapshots.
+     */
+    ReferenceSnapshot reference();
+
     default String eventName() {
         return EVENT_NAME_CACHE.get(getClass());
     }
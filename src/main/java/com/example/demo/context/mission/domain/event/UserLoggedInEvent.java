@@ -2,7 +2,12 @@ package com.example.demo.context.mission.domain.event;
 
 import java.time.LocalDate;
 
-public record UserLoggedInEvent(Long userId, LocalDate loginDate, long occurredAt) implements UserActionEvent {
+public record UserLoggedInEvent(Long userId, LocalDate loginDate, long occurredAt,
+                                ReferenceSnapshot reference) implements UserActionEvent {
+
+    public UserLoggedInEvent(Long userId, LocalDate loginDate, long occurredAt) {
+        this(userId, loginDate, occurredAt, null);
+    }
 
     public UserLoggedInEvent(Long userId, LocalDate loginDate) {
         this(userId, loginDate, System.currentTimeMillis());
@@ -0,0 +1,12 @@
+package com.example.demo.context.mission.domain.exception;
+
+import com.example.demo.context.shared.domain.DomainException;
+
+import java.util.List;
+
+public class ActionBatchTooLargeException extends DomainException {
+
+    public ActionBatchTooLargeException(int size, int maxSize) {
+        super("ACTION_BATCH_TOO_LARGE", List.of(size, maxSize));
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.context.mission.domain.exception;
+
+import com.example.demo.context.shared.domain.DomainException;
+
+import java.util.List;
+
+public class MissionBulkQueryTooLargeException extends DomainException {
+
+    public MissionBulkQueryTooLargeException(int size, int maxSize) {
+        super("MISSION_BULK_QUERY_TOO_LARGE", List.of(size, maxSize));
+    }
+}
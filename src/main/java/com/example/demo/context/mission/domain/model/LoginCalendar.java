@@ -0,0 +1,50 @@
+package com.example.demo.context.mission.domain.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bit {@code i} of {@code days} is set when the user logged in {@code i} days before
+ * {@code lastLoginDate}. Older logins fall off; every mission window fits inside it.
+ */
+public record LoginCalendar(LocalDate lastLoginDate, long days) {
+
+    public static final int DAYS = 63;
+    public static final LoginCalendar EMPTY = new LoginCalendar(null, 0L);
+
+    /**
+     * Zero when the user did not log in on {@code date}.
+     */
+    public int streakEndingOn(LocalDate date) {
+        long offset = offsetOf(date);
+        if (offset < 0) {
+            return 0;
+        }
+        return Long.numberOfTrailingZeros(~(days >>> offset));
+    }
+
+    public boolean loggedInOn(LocalDate date) {
+        long offset = offsetOf(date);
+        return offset >= 0 && (days >>> offset & 1L) == 1L;
+    }
+
+    public List<LocalDate> loginDatesBetween(LocalDate from, LocalDate to) {
+        List<LocalDate> dates = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            if (loggedInOn(date)) {
+                dates.add(date);
+            }
+        }
+        return dates;
+    }
+
+    private long offsetOf(LocalDate date) {
+        if (lastLoginDate == null || date.isAfter(lastLoginDate)) {
+            return -1;
+        }
+        long offset = ChronoUnit.DAYS.between(date, lastLoginDate);
+        return offset < DAYS ? offset : -1;
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.demo.context.mission.domain.model;
+
+public enum MissionAction {
+    LOGIN,
+    GAME_LAUNCH,
+    GAME_PLAY
+}
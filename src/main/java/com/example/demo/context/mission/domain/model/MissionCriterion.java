@@ -0,0 +1,17 @@
+package com.example.demo.context.mission.domain.model;
+
+public record MissionCriterion(MissionMetric metric, Comparison comparison, int target) {
+
+    public boolean isMet(ProgressCounters counters) {
+        int value = counters.valueOf(metric);
+        return switch (comparison) {
+            case AT_LEAST -> value >= target;
+            case GREATER_THAN -> value > target;
+        };
+    }
+
+    public enum Comparison {
+        AT_LEAST,
+        GREATER_THAN
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.context.mission.domain.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MissionMetric {
+
+    CONSECUTIVE_LOGIN_DAYS("consecutiveDays", MissionAction.LOGIN),
+    DISTINCT_GAMES("distinctGames", MissionAction.GAME_LAUNCH),
+    PLAY_SESSIONS("sessions", MissionAction.GAME_PLAY),
+    TOTAL_SCORE("totalScore", MissionAction.GAME_PLAY);
+
+    private final String label;
+    private final MissionAction source;
+}
@@ -0,0 +1,30 @@
+package com.example.demo.context.mission.domain.model;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+public record MissionRule(MissionType type, List<MissionCriterion> criteria) {
+
+    public MissionRule {
+        if (criteria.isEmpty()) {
+            throw new IllegalArgumentException("Mission " + type + " has no criteria");
+        }
+        criteria = List.copyOf(criteria);
+    }
+
+    public boolean isMet(ProgressCounters counters) {
+        for (MissionCriterion criterion : criteria) {
+            if (!criterion.isMet(counters)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public Set<MissionAction> triggers() {
+        Set<MissionAction> triggers = EnumSet.noneOf(MissionAction.class);
+        criteria.forEach(criterion -> triggers.add(criterion.metric().getSource()));
+        return triggers;
+    }
+}
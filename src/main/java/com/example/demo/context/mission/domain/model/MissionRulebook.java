@@ -0,0 +1,36 @@
+package com.example.demo.context.mission.domain.model;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+public final class MissionRulebook {
+
+    private final Map<MissionType, MissionRule> byType = new EnumMap<>(MissionType.class);
+    private final Map<MissionAction, List<MissionRule>> byAction = new EnumMap<>(MissionAction.class);
+
+    public MissionRulebook(Collection<MissionRule> rules) {
+        for (MissionRule rule : rules) {
+            if (byType.put(rule.type(), rule) != null) {
+                throw new IllegalArgumentException("Mission " + rule.type() + " is defined twice");
+            }
+            rule.triggers().forEach(action -> byAction.computeIfAbsent(action, a -> new ArrayList<>()).add(rule));
+        }
+        for (MissionType type : MissionType.values()) {
+            if (!byType.containsKey(type)) {
+                throw new IllegalArgumentException("Mission " + type + " has no definition");
+            }
+        }
+        byAction.replaceAll((action, triggered) -> List.copyOf(triggered));
+    }
+
+    public MissionRule rule(MissionType type) {
+        return byType.get(type);
+    }
+
+    public List<MissionRule> rulesTriggeredBy(MissionAction action) {
+        return byAction.getOrDefault(action, List.of());
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.context.mission.domain.model;
+
+public record ProgressCounters(int consecutiveLoginDays, int distinctGames, int playSessions, int totalScore) {
+
+    public int valueOf(MissionMetric metric) {
+        return switch (metric) {
+            case CONSECUTIVE_LOGIN_DAYS -> consecutiveLoginDays;
+            case DISTINCT_GAMES -> distinctGames;
+            case PLAY_SESSIONS -> playSessions;
+            case TOTAL_SCORE -> totalScore;
+        };
+    }
+}
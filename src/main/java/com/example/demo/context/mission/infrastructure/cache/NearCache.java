@@ -0,0 +1,135 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Entries are served only while {@code tracking} is on. A load that raced with an
+ * invalidation of its key is returned but not kept.
+ */
+public final class NearCache<V> {
+
+    private final String keyPrefix;
+    private final long maxAgeNanos;
+    private final BooleanSupplier tracking;
+    private final Map<String, Entry<V>> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Object> loads = new HashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    NearCache(String keyPrefix, int maxEntries, Duration maxAge, BooleanSupplier tracking) {
+        this.keyPrefix = keyPrefix;
+        this.maxAgeNanos = maxAge.toNanos();
+        this.tracking = tracking;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<V>> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public V get(String key, Supplier<V> loader) {
+        if (!tracking.getAsBoolean()) {
+            return loader.get();
+        }
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && now - entry.loadedAt() < maxAgeNanos) {
+                hits.increment();
+                return entry.value();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        misses.increment();
+        Object token = new Object();
+        lock.lock();
+        try {
+            loads.put(key, token);
+        } finally {
+            lock.unlock();
+        }
+        V value = null;
+        try {
+            value = loader.get();
+            return value;
+        } finally {
+            lock.lock();
+            try {
+                if (loads.remove(key, token) && value != null && tracking.getAsBoolean()) {
+                    entries.put(key, new Entry<>(value, System.nanoTime()));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public void put(String key, V value) {
+        if (value == null || !tracking.getAsBoolean()) {
+            return;
+        }
+        lock.lock();
+        try {
+            loads.remove(key);
+            entries.put(key, new Entry<>(value, System.nanoTime()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(String key) {
+        lock.lock();
+        try {
+            loads.remove(key);
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void clear() {
+        lock.lock();
+        try {
+            loads.clear();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    String keyPrefix() {
+        return keyPrefix;
+    }
+
+    long hits() {
+        return hits.sum();
+    }
+
+    long misses() {
+        return misses.sum();
+    }
+
+    int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {
+    }
+}
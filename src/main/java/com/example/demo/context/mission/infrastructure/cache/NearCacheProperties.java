@@ -0,0 +1,17 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * {@code maxAge} bounds how long an entry is served should a tracking invalidation be lost.
+ */
+@ConfigurationProperties("mission.cache.near")
+public record NearCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("10000") int maxEntries,
+    @DefaultValue("5m") Duration maxAge
+) {
+}
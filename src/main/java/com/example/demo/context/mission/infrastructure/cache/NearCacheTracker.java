@@ -0,0 +1,169 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.protocol.ProtocolVersion;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Enables {@code CLIENT TRACKING ... BCAST} for the registered prefixes on a dedicated RESP3
+ * connection. A disconnect clears every near cache until tracking is re-enabled.
+ */
+@Slf4j
+@Component
+public class NearCacheTracker implements SmartLifecycle {
+
+    private final NearCacheProperties properties;
+    private final RedisConnectionFactory connectionFactory;
+    private final MeterRegistry meterRegistry;
+    private final List<NearCache<?>> caches = new CopyOnWriteArrayList<>();
+
+    private volatile boolean tracking;
+    private volatile boolean running;
+    private StatefulRedisConnection<String, String> connection;
+
+    public NearCacheTracker(NearCacheProperties properties,
+                            RedisConnectionFactory connectionFactory,
+                            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.connectionFactory = connectionFactory;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <V> NearCache<V> register(String name, String keyPrefix) {
+        NearCache<V> cache = new NearCache<>(
+            keyPrefix, properties.maxEntries(), properties.maxAge(), () -> tracking);
+        caches.add(cache);
+        FunctionCounter.builder("mission.cache.near", cache, NearCache::hits)
+            .tag("cache", name).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("mission.cache.near", cache, NearCache::misses)
+            .tag("cache", name).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("mission.cache.near.size", cache, NearCache::size)
+            .tag("cache", name).register(meterRegistry);
+        return cache;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        if (!properties.enabled() || caches.isEmpty()) {
+            return;
+        }
+        if (!(connectionFactory instanceof LettuceConnectionFactory lettuce)
+            || !(lettuce.getNativeClient() instanceof RedisClient client)) {
+            log.warn("Near cache needs a standalone Lettuce connection; serving every lookup from Redis");
+            return;
+        }
+        if (client.getOptions().getConfiguredProtocolVersion() == ProtocolVersion.RESP2) {
+            log.warn("Near cache needs RESP3 push messages; serving every lookup from Redis");
+            return;
+        }
+        try {
+            connection = client.connect();
+            connection.addListener(this::onPush);
+            connection.addListener(new RedisConnectionStateListener() {
+                @Override
+                public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress address) {
+                    enableTracking();
+                }
+
+                @Override
+                public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+                    stopServing();
+                }
+            });
+            connection.sync().clientTracking(trackingArgs());
+            tracking = true;
+            log.info("Near cache tracking enabled for {} caches", caches.size());
+        } catch (Exception e) {
+            stopServing();
+            log.warn("Near cache tracking unavailable, serving every lookup from Redis: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        stopServing();
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * A null key list means Redis flushed its tracking table and every entry is dropped.
+     */
+    void onPush(PushMessage message) {
+        if (!"invalidate".equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent();
+        if (content.size() < 2 || !(content.get(1) instanceof List<?> keys)) {
+            caches.forEach(NearCache::clear);
+            return;
+        }
+        for (Object key : keys) {
+            String name = key instanceof ByteBuffer buffer
+                ? StandardCharsets.UTF_8.decode(buffer.duplicate()).toString()
+                : String.valueOf(key);
+            for (NearCache<?> cache : caches) {
+                if (name.startsWith(cache.keyPrefix())) {
+                    cache.invalidate(name);
+                }
+            }
+        }
+    }
+
+    // Runs on the connection's event loop after a reconnect, so the command must not block
+    private void enableTracking() {
+        StatefulRedisConnection<String, String> current = connection;
+        if (current == null || !running) {
+            return;
+        }
+        current.async().clientTracking(trackingArgs()).whenComplete((reply, error) -> {
+            if (error != null) {
+                log.warn("Re-enabling near cache tracking failed: {}", error.getMessage());
+                return;
+            }
+            caches.forEach(NearCache::clear);
+            tracking = true;
+        });
+    }
+
+    private void stopServing() {
+        tracking = false;
+        caches.forEach(NearCache::clear);
+    }
+
+    private TrackingArgs trackingArgs() {
+        return TrackingArgs.Builder.enabled().bcast()
+            .prefixes(caches.stream().map(NearCache::keyPrefix).toArray(String[]::new));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
+import com.example.demo.context.mission.application.port.cache.MissionCenterViewCache;
+import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A new hash starts its version at the current epoch millis, so versions keep increasing
+ * after the key expired. Reading the version of an unknown user writes nothing.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisMissionCenterViewCache implements MissionCenterViewCache {
+
+    private static final long TTL_SECONDS = Duration.ofDays(30).toSeconds();
+    private static final TypeReference<List<MissionResponse>> BODY_TYPE = new TypeReference<>() {
+    };
+
+    private static final RedisScript<Long> VERSION_SCRIPT = RedisScript.of("""
+        local key = KEYS[1]
+        if redis.call('HEXISTS', key, 'version') == 0 then
+            redis.call('HSET', key, 'version', ARGV[1])
+        end
+        local version = redis.call('HINCRBY', key, 'version', 1)
+        redis.call('EXPIRE', key, tonumber(ARGV[2]))
+        return version
+        """, Long.class);
+
+    private static final RedisScript<Long> SAVE_SCRIPT = RedisScript.of("""
+        local key = KEYS[1]
+        local version = tonumber(ARGV[1])
+        local built = tonumber(redis.call('HGET', key, 'built') or '-1')
+        if version < built then
+            return 0
+        end
+        redis.call('HSET', key, 'built', ARGV[1], 'asOf', ARGV[2], 'body', ARGV[3])
+        if redis.call('HEXISTS', key, 'version') == 0 then
+            redis.call('HSET', key, 'version', ARGV[1])
+        end
+        redis.call('EXPIRE', key, tonumber(ARGV[4]))
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    @Override
+    public Optional<MissionCenterView> find(Long userId, LocalDate asOfDate) {
+        List<Object> fields = redisTemplate.opsForHash()
+            .multiGet(key(userId), List.of("version", "built", "asOf", "body"));
+        if (fields == null || fields.get(3) == null
+            || !asOfDate.toString().equals(fields.get(2))
+            || !String.valueOf(fields.get(0)).equals(fields.get(1))) {
+            return Optional.empty();
+        }
+        try {
+            List<MissionResponse> missions = objectMapper.readValue((String) fields.get(3), BODY_TYPE);
+            return Optional.of(new MissionCenterView(missions, asOfDate, Long.parseLong((String) fields.get(0))));
+        } catch (JsonProcessingException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public long currentVersion(Long userId) {
+        Object version = redisTemplate.opsForHash().get(key(userId), "version");
+        return version != null ? Long.parseLong((String) version) : MissionCenterView.UNVERSIONED;
+    }
+
+    @Override
+    public long bumpVersion(Long userId) {
+        Long version = redisTemplate.execute(
+            VERSION_SCRIPT,
+            List.of(key(userId)),
+            String.valueOf(clock.millis()),
+            String.valueOf(TTL_SECONDS)
+        );
+        return version != null ? version : MissionCenterView.UNVERSIONED;
+    }
+
+    @Override
+    public boolean save(Long userId, long version, LocalDate asOfDate, List<MissionResponse> missions) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(missions);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize mission center for userId=" + userId, e);
+        }
+        Long saved = redisTemplate.execute(
+            SAVE_SCRIPT,
+            List.of(key(userId)),
+            String.valueOf(version),
+            asOfDate.toString(),
+            body,
+            String.valueOf(TTL_SECONDS)
+        );
+        return Long.valueOf(1L).equals(saved);
+    }
+
+    private String key(Long userId) {
+        return "mission:view:" + userId;
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import com.example.demo.context.mission.application.port.cache.MissionCompletionCache;
+import com.example.demo.context.mission.application.port.cache.MissionInitializationCache;
+import com.example.demo.context.mission.application.port.cache.UserEligibilityCache;
+import com.example.demo.context.mission.domain.model.MissionType;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One hash per user, {@code user:state:{userId}}, expiring with the mission window given to
+ * {@link #markInitialized}; flags written before that get {@link #FALLBACK_TTL}.
+ */
+@Component
+public class RedisUserStateCache implements UserEligibilityCache, MissionInitializationCache, MissionCompletionCache {
+
+    private static final String KEY_PREFIX = "user:state:";
+    private static final Duration FALLBACK_TTL = Duration.ofDays(30);
+
+    private static final String EXPIRED = "expired";
+    private static final String INITIALIZED = "init";
+    private static final String ALL_COMPLETED = "__ALL__";
+
+    /**
+     * A positive {@code ARGV[2]} moves the expiry; otherwise only a key without one gets {@code ARGV[3]}.
+     */
+    private static final RedisScript<Long> MARK_SCRIPT = RedisScript.of("""
+        local key = KEYS[1]
+        redis.call('HSET', key, ARGV[1], '1')
+        local expireAt = tonumber(ARGV[2])
+        if expireAt > 0 then
+            redis.call('PEXPIREAT', key, expireAt)
+        elseif redis.call('PTTL', key) == -1 then
+            redis.call('PEXPIRE', key, tonumber(ARGV[3]))
+        end
+        return 1
+        """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final Clock clock;
+    private final NearCache<Set<String>> nearCache;
+
+    public RedisUserStateCache(StringRedisTemplate redisTemplate, Clock clock, NearCacheTracker nearCacheTracker) {
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.nearCache = nearCacheTracker.register("state", KEY_PREFIX);
+    }
+
+    @Override
+    public boolean isExpired(Long userId) {
+        return flags(userId).contains(EXPIRED);
+    }
+
+    @Override
+    public void markExpired(Long userId) {
+        mark(userId, EXPIRED, clock.millis() + FALLBACK_TTL.toMillis());
+    }
+
+    @Override
+    public boolean isInitialized(Long userId) {
+        return flags(userId).contains(INITIALIZED);
+    }
+
+    @Override
+    public void markInitialized(Long userId, LocalDateTime expiredAt) {
+        mark(userId, INITIALIZED, expiredAt.atZone(clock.getZone()).toInstant().toEpochMilli());
+    }
+
+    @Override
+    public boolean isCompleted(Long userId, MissionType missionType) {
+        return flags(userId).contains(missionType.name());
+    }
+
+    @Override
+    public void markCompleted(Long userId, MissionType missionType) {
+        mark(userId, missionType.name(), 0);
+    }
+
+    @Override
+    public boolean isAllCompleted(Long userId) {
+        return flags(userId).contains(ALL_COMPLETED);
+    }
+
+    @Override
+    public void markAllCompleted(Long userId) {
+        mark(userId, ALL_COMPLETED, 0);
+    }
+
+    private Set<String> flags(Long userId) {
+        String key = key(userId);
+        return nearCache.get(key, () -> {
+            Map<Object, Object> fields = redisTemplate.opsForHash().entries(key);
+            return fields.keySet().stream().map(String::valueOf).collect(Collectors.toUnmodifiableSet());
+        });
+    }
+
+    private void mark(Long userId, String flag, long expireAtMillis) {
+        String key = key(userId);
+        redisTemplate.execute(
+            MARK_SCRIPT,
+            List.of(key),
+            flag,
+            String.valueOf(expireAtMillis),
+            String.valueOf(FALLBACK_TTL.toMillis())
+        );
+        nearCache.invalidate(key);
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
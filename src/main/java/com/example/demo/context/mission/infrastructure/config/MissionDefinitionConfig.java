@@ -0,0 +1,23 @@
+package com.example.demo.context.mission.infrastructure.config;
+
+import com.example.demo.context.mission.domain.model.MissionCriterion;
+import com.example.demo.context.mission.domain.model.MissionRule;
+import com.example.demo.context.mission.domain.model.MissionRulebook;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+@Configuration
+public class MissionDefinitionConfig {
+
+    @Bean
+    public MissionRulebook missionRulebook(MissionDefinitionProperties properties) {
+        List<MissionRule> rules = properties.criteria().entrySet().stream()
+            .map(entry -> new MissionRule(entry.getKey(), entry.getValue().stream()
+                .map(criterion -> new MissionCriterion(criterion.metric(), criterion.comparison(), criterion.target()))
+                .toList()))
+            .toList();
+        return new MissionRulebook(rules);
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.context.mission.infrastructure.config;
+
+import com.example.demo.context.mission.domain.model.MissionCriterion.Comparison;
+import com.example.demo.context.mission.domain.model.MissionMetric;
+import com.example.demo.context.mission.domain.model.MissionType;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.List;
+import java.util.Map;
+
+@ConfigurationProperties("mission.definitions")
+public record MissionDefinitionProperties(@DefaultValue Map<MissionType, List<Criterion>> criteria) {
+
+    public record Criterion(
+        MissionMetric metric,
+        @DefaultValue("AT_LEAST") Comparison comparison,
+        int target
+    ) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
+import org.apache.rocketmq.client.consumer.listener.ConsumeConcurrentlyStatus;
+import org.apache.rocketmq.client.consumer.listener.MessageListenerConcurrently;
+import org.apache.rocketmq.common.message.MessageExt;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Replaces the container's one-message listener in {@code prepareStart}. A batch is
+ * acknowledged only after its handler returned; any failure redelivers the whole batch.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BatchConsumerSupport {
+
+    private final ConsumerBatchProperties properties;
+    private final ObjectMapper objectMapper;
+
+    public <E> void enableBatching(DefaultMQPushConsumer consumer, Class<E> eventType, Consumer<List<E>> handler) {
+        if (!properties.enabled()) {
+            return;
+        }
+        consumer.setConsumeMessageBatchMaxSize(properties.maxSize());
+        consumer.setPullBatchSize(Math.max(properties.maxSize(), consumer.getPullBatchSize()));
+        consumer.setPullInterval(properties.maxWait().toMillis());
+        consumer.setMessageListener(listener(eventType, handler));
+        log.info("Consumer group={} consumes {} in batches of up to {}",
+            consumer.getConsumerGroup(), eventType.getSimpleName(), properties.maxSize());
+    }
+
+    <E> MessageListenerConcurrently listener(Class<E> eventType, Consumer<List<E>> handler) {
+        return (messages, context) -> {
+            List<E> events = new ArrayList<>(messages.size());
+            for (MessageExt message : messages) {
+                try {
+                    events.add(objectMapper.readValue(message.getBody(), eventType));
+                } catch (IOException e) {
+                    log.warn("Skip unreadable {} msgId={}: {}", eventType.getSimpleName(), message.getMsgId(), e.getMessage());
+                }
+            }
+            if (events.isEmpty()) {
+                return ConsumeConcurrentlyStatus.CONSUME_SUCCESS;
+            }
+            try {
+                handler.accept(events);
+                return ConsumeConcurrentlyStatus.CONSUME_SUCCESS;
+            } catch (Exception e) {
+                log.warn("Batch of {} {} failed, will be redelivered: {}",
+                    events.size(), eventType.getSimpleName(), e.getMessage());
+                return ConsumeConcurrentlyStatus.RECONSUME_LATER;
+            }
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("mission.messaging.consumer.batch")
+public record ConsumerBatchProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("32") int maxSize,
+    @DefaultValue("0ms") Duration maxWait
+) {
+}
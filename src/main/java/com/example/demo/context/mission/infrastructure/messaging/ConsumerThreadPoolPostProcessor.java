@@ -0,0 +1,41 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
+import org.apache.rocketmq.spring.support.DefaultRocketMQListenerContainer;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * The RocketMQ client offers no hook for a virtual-thread executor, so the consume pool is
+ * widened instead; the Hikari pool remains the real concurrency limit.
+ */
+@Slf4j
+@Component
+public class ConsumerThreadPoolPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    static final String CONSUME_THREADS = "mission.messaging.consumer.consume-threads";
+
+    private Integer consumeThreads;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.consumeThreads = environment.getProperty(CONSUME_THREADS, Integer.class);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (consumeThreads != null && bean instanceof DefaultRocketMQListenerContainer container) {
+            DefaultMQPushConsumer consumer = container.getConsumer();
+            if (consumer != null) {
+                // The executor queue is unbounded, so only the core size (min) takes effect
+                consumer.setConsumeThreadMax(Math.max(consumeThreads, consumer.getConsumeThreadMax()));
+                consumer.setConsumeThreadMin(consumeThreads);
+                log.info("Consumer group={} uses {} consume threads", container.getConsumerGroup(), consumeThreads);
+            }
+        }
+        return bean;
+    }
+}
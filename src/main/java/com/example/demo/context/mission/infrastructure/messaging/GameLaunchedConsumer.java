@@ -1,37 +1,69 @@
 package com.example.demo.context.mission.infrastructure.messaging;
 
 import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserQueryPort;
 import com.example.demo.context.mission.application.service.MissionProgressService;
 import com.example.demo.context.mission.application.service.UserEligibilityService;
 import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
 import org.apache.rocketmq.spring.annotation.RocketMQMessageListener;
 import org.apache.rocketmq.spring.core.RocketMQListener;
+import org.apache.rocketmq.spring.core.RocketMQPushConsumerLifecycleListener;
 import org.springframework.stereotype.Component;
 
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @RocketMQMessageListener(topic = "game-launched", consumerGroup = "mission-game-launch-group")
-public class GameLaunchedConsumer implements RocketMQListener<GameLaunchedEvent> {
+public class GameLaunchedConsumer implements RocketMQListener<GameLaunchedEvent>, RocketMQPushConsumerLifecycleListener {
 
     private final UserQueryPort userQueryPort;
     private final GameQueryPort gameQueryPort;
     private final UserEligibilityService userEligibilityService;
     private final MissionProgressService missionProgressService;
+    private final ReferenceSnapshotSigner referenceSnapshotSigner;
+    private final UserActionBatchFilter userActionBatchFilter;
+    private final BatchConsumerSupport batchConsumerSupport;
 
     @Override
     public void onMessage(GameLaunchedEvent event) {
         log.debug("Consumed GameLaunchedEvent: userId={}, gameId={}", event.userId(), event.gameId());
-        if (!userQueryPort.userExists(event.userId()) || !gameQueryPort.gameExists(event.gameId())) {
-            log.warn("Skip GameLaunchedEvent due to missing reference: userId={}, gameId={}", event.userId(), event.gameId());
-            return;
-        }
-        if (!userEligibilityService.isEligible(event.userId())) {
-            return;
+        if (referenceSnapshotSigner.verify(event.reference(), event.userId(), event.gameId())) {
+            if (!userEligibilityService.isEligible(event.reference())) {
+                return;
+            }
+        } else {
+            if (!userQueryPort.userExists(event.userId()) || !gameQueryPort.gameExists(event.gameId())) {
+                log.warn("Skip GameLaunchedEvent due to missing reference: userId={}, gameId={}", event.userId(), event.gameId());
+                return;
+            }
+            if (!userEligibilityService.isEligible(event.userId())) {
+                return;
+            }
         }
         missionProgressService.processGameLaunch(event.userId(), event.gameId());
     }
+
+    @Override
+    public void prepareStart(DefaultMQPushConsumer consumer) {
+        batchConsumerSupport.enableBatching(consumer, GameLaunchedEvent.class, this::onBatch);
+    }
+
+    void onBatch(List<GameLaunchedEvent> events) {
+        Map<Long, Set<Long>> gameIdsByUser = new LinkedHashMap<>();
+        for (GameLaunchedEvent event : userActionBatchFilter.accept(events, GameLaunchedEvent::gameId)) {
+            gameIdsByUser.computeIfAbsent(event.userId(), userId -> new HashSet<>()).add(event.gameId());
+        }
+        log.debug("Consumed GameLaunchedEvent batch: size={}, users={}", events.size(), gameIdsByUser.size());
+        missionProgressService.processGameLaunches(gameIdsByUser);
+    }
 }
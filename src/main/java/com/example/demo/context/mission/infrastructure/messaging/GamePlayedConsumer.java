@@ -1,26 +1,35 @@
 package com.example.demo.context.mission.infrastructure.messaging;
 
+import com.example.demo.context.mission.application.port.GamePlayRecordPort.GamePlay;
 import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserQueryPort;
 import com.example.demo.context.mission.application.service.MissionProgressService;
 import com.example.demo.context.mission.application.service.UserEligibilityService;
 import com.example.demo.context.mission.domain.event.GamePlayedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
 import org.apache.rocketmq.spring.annotation.RocketMQMessageListener;
 import org.apache.rocketmq.spring.core.RocketMQListener;
+import org.apache.rocketmq.spring.core.RocketMQPushConsumerLifecycleListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @RocketMQMessageListener(topic = "game-played", consumerGroup = "mission-game-play-group")
-public class GamePlayedConsumer implements RocketMQListener<GamePlayedEvent> {
+public class GamePlayedConsumer implements RocketMQListener<GamePlayedEvent>, RocketMQPushConsumerLifecycleListener {
 
     private final UserQueryPort userQueryPort;
     private final GameQueryPort gameQueryPort;
     private final UserEligibilityService userEligibilityService;
     private final MissionProgressService missionProgressService;
+    private final ReferenceSnapshotSigner referenceSnapshotSigner;
+    private final UserActionBatchFilter userActionBatchFilter;
+    private final BatchConsumerSupport batchConsumerSupport;
 
     @Override
     public void onMessage(GamePlayedEvent event) {
@@ -31,13 +40,35 @@ public class GamePlayedConsumer implements RocketMQListener<GamePlayedEvent> {
                 event.userId(), event.gameId());
             return;
         }
-        if (!userQueryPort.userExists(event.userId()) || !gameQueryPort.gameExists(event.gameId())) {
-            log.warn("Skip GamePlayedEvent due to missing reference: userId={}, gameId={}", event.userId(), event.gameId());
-            return;
-        }
-        if (!userEligibilityService.isEligible(event.userId())) {
-            return;
+        if (referenceSnapshotSigner.verify(event.reference(), event.userId(), event.gameId())) {
+            if (!userEligibilityService.isEligible(event.reference())) {
+                return;
+            }
+        } else {
+            if (!userQueryPort.userExists(event.userId()) || !gameQueryPort.gameExists(event.gameId())) {
+                log.warn("Skip GamePlayedEvent due to missing reference: userId={}, gameId={}", event.userId(), event.gameId());
+                return;
+            }
+            if (!userEligibilityService.isEligible(event.userId())) {
+                return;
+            }
         }
         missionProgressService.processGamePlay(event.userId(), event.gameId(), event.score(), event.idempotencyKey());
     }
+
+    @Override
+    public void prepareStart(DefaultMQPushConsumer consumer) {
+        batchConsumerSupport.enableBatching(consumer, GamePlayedEvent.class, this::onBatch);
+    }
+
+    void onBatch(List<GamePlayedEvent> events) {
+        List<GamePlayedEvent> keyed = events.stream()
+            .filter(event -> event.idempotencyKey() != null && !event.idempotencyKey().isBlank())
+            .toList();
+        List<GamePlay> plays = userActionBatchFilter.accept(keyed, GamePlayedEvent::gameId).stream()
+            .map(event -> new GamePlay(event.userId(), event.gameId(), event.score(), event.idempotencyKey()))
+            .toList();
+        log.debug("Consumed GamePlayedEvent batch: size={}, accepted={}", events.size(), plays.size());
+        missionProgressService.processGamePlays(plays);
+    }
 }
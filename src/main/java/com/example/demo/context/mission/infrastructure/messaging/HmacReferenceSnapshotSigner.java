@@ -0,0 +1,78 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Objects;
+
+@Slf4j
+@Component
+public class HmacReferenceSnapshotSigner implements ReferenceSnapshotSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final ReferenceSnapshotProperties properties;
+    private final Clock clock;
+    private final SecretKeySpec key;
+
+    public HmacReferenceSnapshotSigner(ReferenceSnapshotProperties properties, Clock clock) {
+        this.properties = properties;
+        this.clock = clock;
+        if (properties.secret() == null || properties.secret().isBlank()) {
+            log.warn("mission.messaging.reference.secret is not set; events carry no reference snapshot "
+                + "and consumers check users and games against the database");
+            this.key = null;
+        } else {
+            this.key = new SecretKeySpec(properties.secret().getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        }
+    }
+
+    @Override
+    public ReferenceSnapshot sign(Long userId, LocalDateTime userCreatedAt, LocalDateTime windowEnd, Long gameId) {
+        if (key == null) {
+            return null;
+        }
+        int version = properties.keyVersion();
+        long issuedAt = clock.millis();
+        String signature = signature(version, userId, userCreatedAt, windowEnd, gameId, issuedAt);
+        return new ReferenceSnapshot(version, userCreatedAt, windowEnd, gameId, issuedAt, signature);
+    }
+
+    @Override
+    public boolean verify(ReferenceSnapshot snapshot, Long userId, Long gameId) {
+        if (key == null || snapshot == null || snapshot.signature() == null
+            || snapshot.version() != properties.keyVersion()
+            || !Objects.equals(snapshot.gameId(), gameId)
+            || clock.millis() - snapshot.issuedAt() > properties.maxAge().toMillis()) {
+            return false;
+        }
+        String expected = signature(snapshot.version(), userId, snapshot.userCreatedAt(),
+            snapshot.windowEnd(), snapshot.gameId(), snapshot.issuedAt());
+        return MessageDigest.isEqual(
+            expected.getBytes(StandardCharsets.US_ASCII),
+            snapshot.signature().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private String signature(int version, Long userId, LocalDateTime userCreatedAt, LocalDateTime windowEnd,
+                             Long gameId, long issuedAt) {
+        String payload = version + "|" + userId + "|" + userCreatedAt + "|" + windowEnd + "|" + gameId + "|" + issuedAt;
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            byte[] digest = mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot compute reference snapshot signature", e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Configuration
+public class MissionCenterChannelConfig {
+
+    /**
+     * One thread, so updates for a user reach its streams in publish order.
+     */
+    @Bean
+    public RedisMessageListenerContainer missionCenterUpdateListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        MissionCenterUpdateSubscriber subscriber) {
+        ThreadPoolTaskExecutor dispatcher = new ThreadPoolTaskExecutor();
+        dispatcher.setCorePoolSize(1);
+        dispatcher.setMaxPoolSize(1);
+        dispatcher.setDaemon(true);
+        dispatcher.setThreadNamePrefix("mission-center-updates-");
+        dispatcher.initialize();
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.addMessageListener(subscriber, new ChannelTopic(RedisMissionCenterNotifier.CHANNEL));
+        return container;
+    }
+}
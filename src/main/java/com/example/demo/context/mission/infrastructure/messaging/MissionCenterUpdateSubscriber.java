@@ -0,0 +1,33 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.MissionCenterUpdate;
+import com.example.demo.context.mission.application.port.MissionCenterUpdateListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MissionCenterUpdateSubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final MissionCenterUpdateListener missionCenterUpdateListener;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        MissionCenterUpdate update;
+        try {
+            update = objectMapper.readValue(message.getBody(), MissionCenterUpdate.class);
+        } catch (IOException e) {
+            log.warn("Dropping unreadable mission center update: {}", e.getMessage());
+            return;
+        }
+        missionCenterUpdateListener.onUpdate(update);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("mission.messaging.ordered")
+public record OrderedMessagingProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("user-action") String topic
+) {
+}
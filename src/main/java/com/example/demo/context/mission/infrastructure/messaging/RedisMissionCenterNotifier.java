@@ -0,0 +1,28 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.MissionCenterNotifier;
+import com.example.demo.context.mission.application.port.MissionCenterUpdate;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class RedisMissionCenterNotifier implements MissionCenterNotifier {
+
+    static final String CHANNEL = "mission:center:updates";
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void publish(MissionCenterUpdate update) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(update));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize mission center update for userId=" + update.userId(), e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Snapshots stamped with any other {@code keyVersion} are not trusted, so bump it together
+ * with the secret to retire in-flight snapshots.
+ */
+@ConfigurationProperties("mission.messaging.reference")
+public record ReferenceSnapshotProperties(
+    String secret,
+    @DefaultValue("1") int keyVersion,
+    @DefaultValue("15m") Duration maxAge
+) {
+}
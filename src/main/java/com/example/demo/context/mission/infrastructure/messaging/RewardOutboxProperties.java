@@ -0,0 +1,11 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("mission.messaging.outbox")
+public record RewardOutboxProperties(
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("10") int maxBatchesPerRun
+) {
+}
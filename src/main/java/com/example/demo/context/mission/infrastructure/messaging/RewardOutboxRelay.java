@@ -0,0 +1,80 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.RewardEventPublisher;
+import com.example.demo.context.mission.infrastructure.persistence.RewardOutboxRepository;
+import com.example.demo.context.mission.infrastructure.persistence.RewardOutboxRepository.PendingReward;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * A failed send keeps the rows for the next run, so a reward event is delivered at least
+ * once and never dropped.
+ */
+@Slf4j
+@Component
+public class RewardOutboxRelay {
+
+    private final RewardOutboxRepository rewardOutboxRepository;
+    private final RewardEventPublisher rewardEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final RewardOutboxProperties properties;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+
+    public RewardOutboxRelay(RewardOutboxRepository rewardOutboxRepository,
+                             RewardEventPublisher rewardEventPublisher,
+                             TransactionTemplate transactionTemplate,
+                             RewardOutboxProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.rewardOutboxRepository = rewardOutboxRepository;
+        this.rewardEventPublisher = rewardEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        this.publishedCounter = relayCounter(meterRegistry, "published");
+        this.failedCounter = relayCounter(meterRegistry, "failed");
+    }
+
+    @Scheduled(fixedDelayString = "${mission.messaging.outbox.relay-interval-ms:1000}")
+    public void relay() {
+        for (int batch = 0; batch < properties.maxBatchesPerRun(); batch++) {
+            Integer relayed = transactionTemplate.execute(status -> relayBatch());
+            if (relayed == null || relayed < properties.batchSize()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return rows relayed, or {@code 0} when the batch failed
+     */
+    private int relayBatch() {
+        List<PendingReward> pending = rewardOutboxRepository.claim(properties.batchSize());
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = pending.stream().map(PendingReward::id).toList();
+        try {
+            rewardEventPublisher.publishAll(pending.stream().map(PendingReward::event).toList());
+        } catch (Exception e) {
+            failedCounter.increment(pending.size());
+            rewardOutboxRepository.recordFailedAttempt(ids);
+            log.warn("Relaying {} reward events failed, retrying next run: {}", pending.size(), e.getMessage());
+            return 0;
+        }
+        rewardOutboxRepository.delete(ids);
+        publishedCounter.increment(pending.size());
+        return pending.size();
+    }
+
+    private static Counter relayCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mission.rewards.outbox.relay")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -8,9 +8,12 @@ import org.apache.rocketmq.client.producer.SendResult;
 import org.apache.rocketmq.client.producer.SendStatus;
 import org.apache.rocketmq.spring.core.RocketMQTemplate;
 import org.apache.rocketmq.spring.support.RocketMQHeaders;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
@@ -21,16 +24,20 @@ public class RocketMQRewardEventPublisher implements RewardEventPublisher {
     private final RocketMQTemplate rocketMQTemplate;
 
     @Override
-    public void publish(RewardGrantedEvent event) {
-        String key = "reward-granted:" + event.userId();
-        var message = MessageBuilder.withPayload(event)
-            .setHeader(RocketMQHeaders.KEYS, key)
-            .build();
+    public void publishAll(List<RewardGrantedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        List<Message<RewardGrantedEvent>> messages = events.stream()
+            .map(event -> MessageBuilder.withPayload(event)
+                .setHeader(RocketMQHeaders.KEYS, "reward-granted:" + event.userId())
+                .build())
+            .toList();
 
-        SendResult result = rocketMQTemplate.syncSend(TOPIC, message);
+        SendResult result = rocketMQTemplate.syncSend(TOPIC, messages);
         if (result == null || result.getSendStatus() != SendStatus.SEND_OK) {
-            throw new IllegalStateException("Failed to send reward event for userId=" + event.userId());
+            throw new IllegalStateException("Failed to send batch of " + events.size() + " reward events");
         }
-        log.debug("Sent RewardGrantedEvent to MQ topic={}, key={}", TOPIC, key);
+        log.debug("Sent {} RewardGrantedEvents to MQ topic={}", events.size(), TOPIC);
     }
 }
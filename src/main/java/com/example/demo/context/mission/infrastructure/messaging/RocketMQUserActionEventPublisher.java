@@ -1,34 +1,433 @@
 package com.example.demo.context.mission.infrastructure.messaging;
 
+import com.example.demo.context.mission.application.port.PublishBackpressureException;
 import com.example.demo.context.mission.application.port.UserActionEventPublisher;
 import com.example.demo.context.mission.domain.event.UserActionEvent;
-import lombok.RequiredArgsConstructor;
+import com.example.demo.context.mission.infrastructure.messaging.UserActionPublisherProperties.Mode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.producer.SendCallback;
 import org.apache.rocketmq.client.producer.SendResult;
 import org.apache.rocketmq.client.producer.SendStatus;
 import org.apache.rocketmq.spring.core.RocketMQTemplate;
 import org.apache.rocketmq.spring.support.RocketMQHeaders;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.messaging.Message;
 import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class RocketMQUserActionEventPublisher implements UserActionEventPublisher {
+public class RocketMQUserActionEventPublisher implements UserActionEventPublisher, SmartInitializingSingleton {
+
+    // Keeps a batch well below the broker's 4 MiB message body limit.
+    private static final int MAX_BATCH_SIZE = 128;
+
+    static final String ACTION_TYPE = "ACTION_TYPE";
+
     private final RocketMQTemplate rocketMQTemplate;
+    private final UserActionPublisherProperties properties;
+    private final OrderedMessagingProperties ordered;
+    private final UserActionSpoolProperties spoolProperties;
+    private final ObjectMapper objectMapper;
+    private final UserActionSpool spool;
+    private final ScheduledExecutorService spoolDrainer;
+    private final Semaphore inFlight;
+    private final BlockingQueue<PendingEvent> retryBuffer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+    private final Counter spooledCounter;
+
+    public RocketMQUserActionEventPublisher(RocketMQTemplate rocketMQTemplate,
+                                            UserActionPublisherProperties properties,
+                                            OrderedMessagingProperties ordered,
+                                            UserActionSpoolProperties spoolProperties,
+                                            ObjectMapper objectMapper,
+                                            MeterRegistry meterRegistry) throws IOException {
+        this.rocketMQTemplate = rocketMQTemplate;
+        this.properties = properties;
+        this.ordered = ordered;
+        this.spoolProperties = spoolProperties;
+        this.objectMapper = objectMapper;
+        this.spool = properties.mode() == Mode.SPOOL
+            ? UserActionSpool.open(spoolProperties.directory(),
+                Math.toIntExact(spoolProperties.segmentSize().toBytes()), spoolProperties.maxSegments())
+            : null;
+        this.spoolDrainer = spool != null
+            ? Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("spool-drain").daemon().factory())
+            : null;
+        this.inFlight = new Semaphore(properties.maxInFlight());
+        this.retryBuffer = new ArrayBlockingQueue<>(properties.retryBufferCapacity());
+        this.sentCounter = publishCounter(meterRegistry, "sent");
+        this.failedCounter = publishCounter(meterRegistry, "failed");
+        this.droppedCounter = publishCounter(meterRegistry, "dropped");
+        this.rejectedCounter = publishCounter(meterRegistry, "rejected");
+        this.spooledCounter = publishCounter(meterRegistry, "spooled");
+        Gauge.builder("mission.events.publish.in-flight", inFlight,
+                permits -> properties.maxInFlight() - permits.availablePermits())
+            .register(meterRegistry);
+        Gauge.builder("mission.events.publish.retry-buffer", retryBuffer, BlockingQueue::size)
+            .register(meterRegistry);
+        if (spool != null) {
+            Gauge.builder("mission.events.spool.segments", spool, UserActionSpool::segmentCount)
+                .register(meterRegistry);
+        }
+    }
 
     @Override
     public void publish(UserActionEvent event) {
-        String topic = event.eventName();
-        var message = MessageBuilder.withPayload(event)
-            .setHeader(RocketMQHeaders.KEYS, event.eventKey())
-            .build();
+        if (properties.mode() == Mode.SPOOL) {
+            if (!spool(event)) {
+                rejectedCounter.increment();
+                throw new PublishBackpressureException(
+                    "Spool of " + spoolProperties.maxSegments() + " segments is full, rejected " + event.eventKey());
+            }
+            return;
+        }
+        if (properties.mode() == Mode.ASYNC) {
+            acquireSlot(event);
+            sendAsync(new PendingEvent(event, 0));
+            return;
+        }
 
-        SendResult result = rocketMQTemplate.syncSend(topic, message);
+        String topic = topicOf(event);
+        long timeout = properties.sendTimeout().toMillis();
+        SendResult result = ordered.enabled()
+            ? rocketMQTemplate.syncSendOrderly(topic, toMessage(event), hashKeyOf(event), timeout)
+            : rocketMQTemplate.syncSend(topic, toMessage(event), timeout);
         if (result == null || result.getSendStatus() != SendStatus.SEND_OK) {
             throw new IllegalStateException("Failed to send message for topic=" + topic);
         }
         log.debug("Sent {} to MQ topic={}, key={}",
             event.getClass().getSimpleName(), topic, event.eventKey());
     }
+
+    /**
+     * Events are grouped by topic, or by user in ordered mode; a user's events keep their order.
+     */
+    @Override
+    public BitSet publishAll(List<? extends UserActionEvent> events) {
+        if (properties.mode() == Mode.SPOOL) {
+            BitSet failed = new BitSet(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                if (!spool(events.get(i))) {
+                    failed.set(i);
+                }
+            }
+            return failed;
+        }
+        if (properties.mode() == Mode.ASYNC) {
+            return sendAllAsync(events);
+        }
+        return sendAll(events);
+    }
+
+    /**
+     * One window slot per event, waiting at most {@code acquireTimeout} for the whole batch;
+     * events left without a slot are reported as failed.
+     */
+    private BitSet sendAllAsync(List<? extends UserActionEvent> events) {
+        BitSet failed = new BitSet(events.size());
+        long deadline = System.nanoTime() + properties.acquireTimeout().toNanos();
+        for (int i = 0; i < events.size(); i++) {
+            if (!tryAcquireSlot(deadline - System.nanoTime())) {
+                rejectedCounter.increment(events.size() - i);
+                failed.set(i, events.size());
+                break;
+            }
+            sendAsync(new PendingEvent(events.get(i), 0));
+        }
+        return failed;
+    }
+
+    /**
+     * Stops at the first refused route, so a broker outage costs one send timeout, not one per route.
+     */
+    private BitSet sendAll(List<? extends UserActionEvent> events) {
+        Map<String, List<Integer>> positionsByRoute = new LinkedHashMap<>();
+        for (int i = 0; i < events.size(); i++) {
+            UserActionEvent event = events.get(i);
+            String route = ordered.enabled() ? hashKeyOf(event) : topicOf(event);
+            positionsByRoute.computeIfAbsent(route, key -> new ArrayList<>()).add(i);
+        }
+
+        BitSet failed = new BitSet(events.size());
+        boolean refused = false;
+        for (List<Integer> positions : positionsByRoute.values()) {
+            UserActionEvent first = events.get(positions.get(0));
+            for (int from = 0; from < positions.size(); from += MAX_BATCH_SIZE) {
+                List<Integer> chunk = positions.subList(from, Math.min(from + MAX_BATCH_SIZE, positions.size()));
+                if (refused) {
+                    chunk.forEach(failed::set);
+                    continue;
+                }
+                List<Message<UserActionEvent>> messages = chunk.stream()
+                    .map(position -> toMessage(events.get(position)))
+                    .toList();
+                if (!sendBatch(topicOf(first), hashKeyOf(first), messages)) {
+                    chunk.forEach(failed::set);
+                    refused = true;
+                }
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * Uses only free window slots, so retries never starve live traffic.
+     */
+    @Scheduled(fixedDelayString = "${mission.messaging.publisher.retry-interval-ms:1000}")
+    public void drainRetryBuffer() {
+        PendingEvent pending;
+        while (inFlight.tryAcquire()) {
+            pending = retryBuffer.poll();
+            if (pending == null) {
+                inFlight.release();
+                return;
+            }
+            sendAsync(pending);
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (spoolDrainer != null) {
+            long interval = spoolProperties.drainIntervalMs();
+            spoolDrainer.scheduleWithFixedDelay(this::drainSpoolQuietly, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void drainSpoolQuietly() {
+        try {
+            drainSpool();
+        } catch (Exception e) {
+            log.warn("Spool drain failed, retrying next run: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * The spool is acknowledged up to the first failed event; events after it are sent again
+     * on the next run, which the idempotent consumers absorb.
+     */
+    public void drainSpool() {
+        if (spool == null) {
+            return;
+        }
+        List<UserActionSpool.Entry> entries;
+        for (int batch = 0; batch < spoolProperties.maxBatchesPerRun(); batch++) {
+            entries = spool.peek(spoolProperties.drainBatchSize());
+            if (entries.isEmpty()) {
+                return;
+            }
+            List<UserActionEvent> events = new ArrayList<>(entries.size());
+            List<Integer> entryPositions = new ArrayList<>(entries.size());
+            for (int i = 0; i < entries.size(); i++) {
+                UserActionEvent event = fromSpool(entries.get(i));
+                if (event != null) {
+                    events.add(event);
+                    entryPositions.add(i);
+                }
+            }
+
+            int firstFailed = sendAll(events).nextSetBit(0);
+            int delivered = firstFailed < 0 ? entries.size() : entryPositions.get(firstFailed);
+            if (delivered > 0) {
+                spool.acknowledge(entries.get(delivered - 1));
+            }
+            if (firstFailed >= 0) {
+                log.warn("Spool drain stopped at {}, broker not accepting sends", events.get(firstFailed).eventKey());
+                return;
+            }
+            sentCounter.increment(events.size());
+        }
+    }
+
+    @PreDestroy
+    public void closeSpool() throws IOException {
+        if (spoolDrainer != null) {
+            spoolDrainer.shutdown();
+            try {
+                spoolDrainer.awaitTermination(properties.sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (spool != null) {
+            spool.close();
+        }
+    }
+
+    int retryBufferSize() {
+        return retryBuffer.size();
+    }
+
+    private void acquireSlot(UserActionEvent event) {
+        if (!tryAcquireSlot(properties.acquireTimeout().toNanos())) {
+            rejectedCounter.increment();
+            throw new PublishBackpressureException(
+                "Publish window of " + properties.maxInFlight() + " in-flight events is full, rejected " + event.eventKey());
+        }
+    }
+
+    private boolean tryAcquireSlot(long timeoutNanos) {
+        try {
+            return inFlight.tryAcquire(Math.max(timeoutNanos, 0), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Caller must hold one window slot; it is released when the broker answers.
+     */
+    private void sendAsync(PendingEvent pending) {
+        UserActionEvent event = pending.event();
+        try {
+            SendCallback callback = new SendCallback() {
+                @Override
+                public void onSuccess(SendResult result) {
+                    inFlight.release();
+                    if (result != null && result.getSendStatus() == SendStatus.SEND_OK) {
+                        sentCounter.increment();
+                    } else {
+                        onFailure(pending, "status=" + (result == null ? null : result.getSendStatus()));
+                    }
+                }
+
+                @Override
+                public void onException(Throwable e) {
+                    inFlight.release();
+                    onFailure(pending, e.getMessage());
+                }
+            };
+            long timeout = properties.sendTimeout().toMillis();
+            if (ordered.enabled()) {
+                rocketMQTemplate.asyncSendOrderly(topicOf(event), toMessage(event), hashKeyOf(event), callback, timeout);
+            } else {
+                rocketMQTemplate.asyncSend(topicOf(event), toMessage(event), callback, timeout);
+            }
+        } catch (Exception e) {
+            inFlight.release();
+            onFailure(pending, e.getMessage());
+        }
+    }
+
+    private void onFailure(PendingEvent pending, String reason) {
+        failedCounter.increment();
+        PendingEvent retry = pending.nextAttempt();
+        if (retry.attempts() > properties.maxRetries() || !retryBuffer.offer(retry)) {
+            droppedCounter.increment();
+            log.error("Dropped {} after {} attempts: {}", pending.event().eventKey(), retry.attempts(), reason);
+            return;
+        }
+        log.warn("Async send of {} failed (attempt {}), queued for retry: {}",
+            pending.event().eventKey(), retry.attempts(), reason);
+    }
+
+    private boolean sendBatch(String topic, String hashKey, List<Message<UserActionEvent>> messages) {
+        try {
+            long timeout = properties.sendTimeout().toMillis();
+            SendResult result = ordered.enabled()
+                ? rocketMQTemplate.syncSendOrderly(topic, messages, hashKey, timeout)
+                : rocketMQTemplate.syncSend(topic, messages, timeout);
+            if (result != null && result.getSendStatus() == SendStatus.SEND_OK) {
+                log.debug("Sent batch of {} messages to MQ topic={}", messages.size(), topic);
+                return true;
+            }
+            log.warn("Batch send to topic={} returned status={}", topic, result == null ? null : result.getSendStatus());
+        } catch (Exception e) {
+            log.warn("Batch send of {} messages to topic={} failed: {}", messages.size(), topic, e.getMessage());
+        }
+        return false;
+    }
+
+    // A spool record is the event name, a newline, then the JSON event
+    private boolean spool(UserActionEvent event) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + event.eventKey(), e);
+        }
+        byte[] name = (event.eventName() + "\n").getBytes(StandardCharsets.UTF_8);
+        byte[] record = Arrays.copyOf(name, name.length + json.length);
+        System.arraycopy(json, 0, record, name.length, json.length);
+        boolean spooled = spool.append(record);
+        if (spooled) {
+            spooledCounter.increment();
+        }
+        return spooled;
+    }
+
+    private UserActionEvent fromSpool(UserActionSpool.Entry entry) {
+        byte[] record = entry.payload();
+        int newline = 0;
+        while (newline < record.length && record[newline] != '\n') {
+            newline++;
+        }
+        String eventName = new String(record, 0, newline, StandardCharsets.UTF_8);
+        Class<? extends UserActionEvent> eventType = UserActionEventTypes.forName(eventName);
+        String reason = "unknown event type";
+        try {
+            if (eventType != null && newline < record.length) {
+                return objectMapper.readValue(record, newline + 1, record.length - newline - 1, eventType);
+            }
+        } catch (IOException e) {
+            reason = e.getMessage();
+        }
+        droppedCounter.increment();
+        log.error("Dropped unreadable spool record of type={}: {}", eventName, reason);
+        return null;
+    }
+
+    private String topicOf(UserActionEvent event) {
+        return ordered.enabled() ? ordered.topic() : event.eventName();
+    }
+
+    private static String hashKeyOf(UserActionEvent event) {
+        return String.valueOf(event.userId());
+    }
+
+    private Message<UserActionEvent> toMessage(UserActionEvent event) {
+        return MessageBuilder.withPayload(event)
+            .setHeader(RocketMQHeaders.KEYS, event.eventKey())
+            .setHeader(ACTION_TYPE, event.eventName())
+            .build();
+    }
+
+    private static Counter publishCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("mission.events.publish")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    private record PendingEvent(UserActionEvent event, int attempts) {
+        PendingEvent nextAttempt() {
+            return new PendingEvent(event, attempts + 1);
+        }
+    }
 }
@@ -0,0 +1,67 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
+import com.example.demo.context.mission.application.service.UserEligibilityService;
+import com.example.demo.context.mission.domain.event.UserActionEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserActionBatchFilter {
+
+    private final GameQueryPort gameQueryPort;
+    private final UserEligibilityService userEligibilityService;
+    private final ReferenceSnapshotSigner referenceSnapshotSigner;
+
+    /**
+     * @param gameIdOf game referenced by an event, or {@code null} for events without one
+     */
+    public <E extends UserActionEvent> List<E> accept(List<E> events, Function<E, Long> gameIdOf) {
+        List<E> accepted = new ArrayList<>(events.size());
+        List<E> unverified = new ArrayList<>();
+        for (E event : events) {
+            if (referenceSnapshotSigner.verify(event.reference(), event.userId(), gameIdOf.apply(event))) {
+                if (userEligibilityService.isEligible(event.reference())) {
+                    accepted.add(event);
+                }
+            } else {
+                unverified.add(event);
+            }
+        }
+        if (unverified.isEmpty()) {
+            return accepted;
+        }
+
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> gameIds = new HashSet<>();
+        for (E event : unverified) {
+            userIds.add(event.userId());
+            Long gameId = gameIdOf.apply(event);
+            if (gameId != null) {
+                gameIds.add(gameId);
+            }
+        }
+        Set<Long> eligibleUserIds = userEligibilityService.eligibleUserIds(userIds);
+        Set<Long> existingGameIds = gameIds.isEmpty() ? Set.of() : gameQueryPort.findExistingGameIds(gameIds);
+        for (E event : unverified) {
+            Long gameId = gameIdOf.apply(event);
+            if (eligibleUserIds.contains(event.userId()) && (gameId == null || existingGameIds.contains(gameId))) {
+                accepted.add(event);
+            } else {
+                log.debug("Skip {} for userId={}, gameId={}: missing reference or ineligible user",
+                    event.eventName(), event.userId(), gameId);
+            }
+        }
+        return accepted;
+    }
+}
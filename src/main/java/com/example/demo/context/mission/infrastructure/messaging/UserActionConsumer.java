@@ -0,0 +1,61 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.GamePlayedEvent;
+import com.example.demo.context.mission.domain.event.UserActionEvent;
+import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.common.message.MessageExt;
+import org.apache.rocketmq.spring.annotation.ConsumeMode;
+import org.apache.rocketmq.spring.annotation.RocketMQMessageListener;
+import org.apache.rocketmq.spring.core.RocketMQListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * The publisher selects the queue by user id and each queue is consumed by one thread, so
+ * a user's actions are processed serially and in publish order.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "mission.messaging.ordered.enabled", havingValue = "true")
+@RocketMQMessageListener(
+    topic = "${mission.messaging.ordered.topic:user-action}",
+    consumerGroup = "mission-user-action-group",
+    consumeMode = ConsumeMode.ORDERLY)
+public class UserActionConsumer implements RocketMQListener<MessageExt> {
+
+    private final ObjectMapper objectMapper;
+    private final UserLoggedInConsumer userLoggedInConsumer;
+    private final GameLaunchedConsumer gameLaunchedConsumer;
+    private final GamePlayedConsumer gamePlayedConsumer;
+
+    @Override
+    public void onMessage(MessageExt message) {
+        String actionType = message.getUserProperty(RocketMQUserActionEventPublisher.ACTION_TYPE);
+        Class<? extends UserActionEvent> eventType = UserActionEventTypes.forName(actionType);
+        if (eventType == null) {
+            log.warn("Skip user action msgId={} with unknown type={}", message.getMsgId(), actionType);
+            return;
+        }
+
+        UserActionEvent event;
+        try {
+            event = objectMapper.readValue(message.getBody(), eventType);
+        } catch (IOException e) {
+            log.warn("Skip unreadable {} msgId={}: {}", actionType, message.getMsgId(), e.getMessage());
+            return;
+        }
+
+        switch (event) {
+            case UserLoggedInEvent login -> userLoggedInConsumer.onMessage(login);
+            case GameLaunchedEvent launch -> gameLaunchedConsumer.onMessage(launch);
+            case GamePlayedEvent play -> gamePlayedConsumer.onMessage(play);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.domain.event.UserActionEvent;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+final class UserActionEventTypes {
+
+    @SuppressWarnings("unchecked")
+    private static final Map<String, Class<? extends UserActionEvent>> BY_NAME =
+        Arrays.stream(UserActionEvent.class.getPermittedSubclasses())
+            .map(type -> (Class<? extends UserActionEvent>) type)
+            .collect(Collectors.toUnmodifiableMap(UserActionEvent.EVENT_NAME_CACHE::get, Function.identity()));
+
+    private UserActionEventTypes() {
+    }
+
+    /**
+     * @return the event class, or {@code null} for a missing or unknown name
+     */
+    static Class<? extends UserActionEvent> forName(String eventName) {
+        return eventName == null ? null : BY_NAME.get(eventName);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("mission.messaging.publisher")
+public record UserActionPublisherProperties(
+    @DefaultValue("SYNC") Mode mode,
+    @DefaultValue("512") int maxInFlight,
+    @DefaultValue("100ms") Duration acquireTimeout,
+    @DefaultValue("3s") Duration sendTimeout,
+    @DefaultValue("10000") int retryBufferCapacity,
+    @DefaultValue("5") int maxRetries
+) {
+
+    public enum Mode {
+        SYNC,
+        ASYNC,
+        SPOOL
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Segments start with the acknowledged offset, followed by {@code [int length][bytes]}
+ * records. The length is written last, so a torn append ends the segment on reopen.
+ */
+final class UserActionSpool implements Closeable {
+
+    private static final int HEADER_SIZE = Long.BYTES;
+    private static final String SUFFIX = ".seg";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Deque<Segment> segments = new ArrayDeque<>();
+
+    private UserActionSpool(Path directory, int segmentSize, int maxSegments) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+    }
+
+    static UserActionSpool open(Path directory, int segmentSize, int maxSegments) throws IOException {
+        Files.createDirectories(directory);
+        UserActionSpool spool = new UserActionSpool(directory, segmentSize, maxSegments);
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            spool.segments.addLast(Segment.open(file, Long.parseLong(name.substring(0, name.length() - SUFFIX.length())), segmentSize));
+        }
+        if (spool.segments.isEmpty()) {
+            spool.segments.addLast(spool.createSegment(0));
+        }
+        return spool;
+    }
+
+    /**
+     * @return {@code false} when the spool is full
+     */
+    boolean append(byte[] record) {
+        int required = Integer.BYTES + record.length;
+        if (required > segmentSize - HEADER_SIZE) {
+            throw new IllegalArgumentException("Record of " + record.length + " bytes exceeds the spool segment size");
+        }
+        lock.lock();
+        try {
+            Segment tail = segments.getLast();
+            if (tail.writeOffset + required > segmentSize) {
+                recycle();
+                if (segments.size() >= maxSegments) {
+                    return false;
+                }
+                tail = createSegment(tail.sequence + 1);
+                segments.addLast(tail);
+            }
+            tail.buffer.put(tail.writeOffset + Integer.BYTES, record);
+            tail.buffer.putInt(tail.writeOffset, record.length);
+            tail.writeOffset += required;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<Entry> peek(int max) {
+        lock.lock();
+        try {
+            List<Entry> entries = new ArrayList<>(Math.min(max, 64));
+            for (Segment segment : segments) {
+                int offset = segment.readOffset;
+                while (offset < segment.writeOffset && entries.size() < max) {
+                    int length = segment.buffer.getInt(offset);
+                    byte[] payload = new byte[length];
+                    segment.buffer.get(offset + Integer.BYTES, payload);
+                    offset += Integer.BYTES + length;
+                    entries.add(new Entry(segment.sequence, offset, payload));
+                }
+                if (entries.size() >= max) {
+                    break;
+                }
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    void acknowledge(Entry last) {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                if (segment.sequence > last.segment()) {
+                    break;
+                }
+                segment.readOffset = segment.sequence < last.segment() ? segment.writeOffset : last.end();
+                segment.buffer.putLong(0, segment.readOffset);
+            }
+            recycle();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int segmentCount() {
+        lock.lock();
+        try {
+            return segments.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            for (Segment segment : segments) {
+                segment.buffer.force();
+                segment.channel.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void recycle() {
+        while (segments.size() > 1 && segments.getFirst().readOffset >= segments.getFirst().writeOffset) {
+            Segment drained = segments.removeFirst();
+            try {
+                drained.channel.close();
+                Files.deleteIfExists(drained.file);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to delete spool segment " + drained.file, e);
+            }
+        }
+    }
+
+    private Segment createSegment(long sequence) {
+        try {
+            return Segment.open(directory.resolve("%020d%s".formatted(sequence, SUFFIX)), sequence, segmentSize);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create spool segment " + sequence, e);
+        }
+    }
+
+    record Entry(long segment, int end, byte[] payload) {
+    }
+
+    private static final class Segment {
+        private final Path file;
+        private final long sequence;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+        private int readOffset;
+        private int writeOffset;
+
+        private Segment(Path file, long sequence, FileChannel channel, MappedByteBuffer buffer) {
+            this.file = file;
+            this.sequence = sequence;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        static Segment open(Path file, long sequence, int size) throws IOException {
+            FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            // A segment written with a larger configured size is mapped whole
+            long mappedSize = Math.max(size, channel.size());
+            Segment segment = new Segment(file, sequence, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+            int offset = HEADER_SIZE;
+            while (offset + Integer.BYTES <= mappedSize) {
+                int length = segment.buffer.getInt(offset);
+                if (length <= 0 || offset + Integer.BYTES + length > mappedSize) {
+                    break;
+                }
+                offset += Integer.BYTES + length;
+            }
+            segment.writeOffset = offset;
+            segment.readOffset = (int) Math.min(Math.max(segment.buffer.getLong(0), HEADER_SIZE), offset);
+            return segment;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+
+/**
+ * {@code directory} must survive process restarts: unsent events live there.
+ */
+@ConfigurationProperties("mission.messaging.publisher.spool")
+public record UserActionSpoolProperties(
+    @DefaultValue("data/spool") Path directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("16") int maxSegments,
+    @DefaultValue("256") int drainBatchSize,
+    @DefaultValue("10") int maxBatchesPerRun,
+    @DefaultValue("100") long drainIntervalMs
+) {
+}
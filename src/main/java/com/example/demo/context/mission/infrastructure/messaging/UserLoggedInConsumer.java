@@ -1,35 +1,68 @@
 package com.example.demo.context.mission.infrastructure.messaging;
 
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserQueryPort;
 import com.example.demo.context.mission.application.service.MissionProgressService;
 import com.example.demo.context.mission.application.service.UserEligibilityService;
 import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
 import org.apache.rocketmq.spring.annotation.RocketMQMessageListener;
 import org.apache.rocketmq.spring.core.RocketMQListener;
+import org.apache.rocketmq.spring.core.RocketMQPushConsumerLifecycleListener;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 @RocketMQMessageListener(topic = "user-logged-in", consumerGroup = "mission-login-group")
-public class UserLoggedInConsumer implements RocketMQListener<UserLoggedInEvent> {
+public class UserLoggedInConsumer implements RocketMQListener<UserLoggedInEvent>, RocketMQPushConsumerLifecycleListener {
 
     private final UserQueryPort userQueryPort;
     private final UserEligibilityService userEligibilityService;
     private final MissionProgressService missionProgressService;
+    private final ReferenceSnapshotSigner referenceSnapshotSigner;
+    private final UserActionBatchFilter userActionBatchFilter;
+    private final BatchConsumerSupport batchConsumerSupport;
 
     @Override
     public void onMessage(UserLoggedInEvent event) {
         log.debug("Consumed UserLoggedInEvent: userId={}", event.userId());
-        if (!userQueryPort.userExists(event.userId())) {
-            log.warn("Skip UserLoggedInEvent due to missing userId={}", event.userId());
-            return;
-        }
-        if (!userEligibilityService.isEligible(event.userId())) {
-            return;
+        if (referenceSnapshotSigner.verify(event.reference(), event.userId(), null)) {
+            if (!userEligibilityService.isEligible(event.reference())) {
+                return;
+            }
+        } else {
+            if (!userQueryPort.userExists(event.userId())) {
+                log.warn("Skip UserLoggedInEvent due to missing userId={}", event.userId());
+                return;
+            }
+            if (!userEligibilityService.isEligible(event.userId())) {
+                return;
+            }
         }
         missionProgressService.processLogin(event.userId(), event.loginDate());
     }
+
+    @Override
+    public void prepareStart(DefaultMQPushConsumer consumer) {
+        batchConsumerSupport.enableBatching(consumer, UserLoggedInEvent.class, this::onBatch);
+    }
+
+    void onBatch(List<UserLoggedInEvent> events) {
+        Map<Long, Set<LocalDate>> loginDatesByUser = new LinkedHashMap<>();
+        for (UserLoggedInEvent event : userActionBatchFilter.accept(events, event -> null)) {
+            loginDatesByUser.computeIfAbsent(event.userId(), userId -> new HashSet<>()).add(event.loginDate());
+        }
+        log.debug("Consumed UserLoggedInEvent batch: size={}, users={}", events.size(), loginDatesByUser.size());
+        missionProgressService.processLogins(loginDatesByUser);
+    }
 }
@@ -0,0 +1,224 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The file is in place before any row is deleted. A run that dies before the summaries are
+ * written archives the same users again, so an archive may hold duplicates but never misses
+ * a deleted row.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActionArchiveJob {
+
+    static final List<ArchivedTable> TABLES = List.of(
+        new ArchivedTable("login_records", "id, user_id, login_date"),
+        new ArchivedTable("game_launch_records", "id, user_id, game_id, launched_at"),
+        new ArchivedTable("games_play_record", "id, user_id, game_id, score, idempotency_key, played_at")
+    );
+
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private static final String CLOSED_WINDOWS_SQL = """
+        SELECT u.id, u.created_at FROM users u
+          LEFT JOIN user_action_archive a ON a.user_id = u.id
+         WHERE u.id > ? AND u.created_at < ? AND a.user_id IS NULL
+         ORDER BY u.id LIMIT ?""";
+
+    private static final String INSERT_SUMMARY_SQL = """
+        INSERT IGNORE INTO user_action_archive
+            (user_id, window_end, logins, distinct_games, play_sessions, total_score, archive_file)
+        VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ActionArchiveProperties properties;
+    private final Clock clock;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(
+        Thread.ofPlatform().name("action-archive").daemon().factory());
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Scheduled(cron = "${mission.persistence.archive.cron:0 30 3 * * *}")
+    public void archiveQuietly() {
+        if (!properties.enabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+        runner.execute(() -> {
+            try {
+                run();
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void run() {
+        try {
+            int archived = archive();
+            log.info("Action archive run finished: {} users archived", archived);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Action archive run interrupted");
+        } catch (Exception e) {
+            log.warn("Action archive run failed, resuming next run: {}", e.getMessage());
+        }
+    }
+
+    public int archive() throws IOException, InterruptedException {
+        LocalDateTime createdBefore = LocalDateTime.now(clock)
+            .minusDays(UserActionAdapter.WINDOW_DAYS)
+            .minus(properties.grace());
+        long deadline = clock.millis() + properties.maxRunTime().toMillis();
+        int archived = 0;
+        long afterId = 0;
+        while (archived < properties.maxUsersPerRun() && clock.millis() < deadline) {
+            int limit = Math.min(properties.usersPerFile(), properties.maxUsersPerRun() - archived);
+            List<ClosedWindow> users = jdbcTemplate.query(CLOSED_WINDOWS_SQL,
+                (rs, rowNum) -> new ClosedWindow(
+                    rs.getLong("id"), UserActionAdapter.windowEndOf(rs.getTimestamp("created_at").toLocalDateTime())),
+                afterId, Timestamp.valueOf(createdBefore), limit);
+            if (users.isEmpty()) {
+                break;
+            }
+            archiveUsers(users);
+            archived += users.size();
+            afterId = users.getLast().userId();
+        }
+        return archived;
+    }
+
+    private void archiveUsers(List<ClosedWindow> users) throws IOException, InterruptedException {
+        Files.createDirectories(properties.directory());
+        String fileName = "actions-%s-%d.ndjson.gz".formatted(
+            FILE_STAMP.format(LocalDateTime.now(clock)), users.getFirst().userId());
+        Path file = properties.directory().resolve(fileName);
+        Path partial = properties.directory().resolve(fileName + ".partial");
+
+        List<Summary> summaries = new ArrayList<>(users.size());
+        try (Writer out = new OutputStreamWriter(
+            new GZIPOutputStream(Files.newOutputStream(partial)), StandardCharsets.UTF_8)) {
+            for (ClosedWindow user : users) {
+                summaries.add(write(out, user));
+            }
+        }
+        Files.move(partial, file, StandardCopyOption.ATOMIC_MOVE);
+
+        jdbcTemplate.batchUpdate(INSERT_SUMMARY_SQL, summaries.stream()
+            .map(summary -> new Object[]{
+                summary.user.userId(), Date.valueOf(summary.user.windowEnd()),
+                summary.rows[0], summary.rows[1], summary.rows[2], summary.totalScore, fileName})
+            .toList());
+
+        for (Summary summary : summaries) {
+            for (int t = 0; t < TABLES.size(); t++) {
+                if (summary.rows[t] > 0) {
+                    delete(TABLES.get(t), summary.user, summary.maxIds[t]);
+                }
+            }
+        }
+    }
+
+    private Summary write(Writer out, ClosedWindow user) throws IOException, InterruptedException {
+        Summary summary = new Summary(user);
+        for (int t = 0; t < TABLES.size(); t++) {
+            ArchivedTable table = TABLES.get(t);
+            long afterId = 0;
+            List<Map<String, Object>> page;
+            do {
+                page = jdbcTemplate.queryForList(table.pageSql(),
+                    user.userId(), Date.valueOf(user.windowEnd()), afterId, properties.pageSize());
+                for (Map<String, Object> row : page) {
+                    Map<String, Object> line = new LinkedHashMap<>();
+                    line.put("table", table.name());
+                    line.putAll(row);
+                    out.write(objectMapper.writeValueAsString(line));
+                    out.write('\n');
+                    if (row.get("score") instanceof Number score) {
+                        summary.totalScore += score.longValue();
+                    }
+                    afterId = ((Number) row.get("id")).longValue();
+                }
+                summary.rows[t] += page.size();
+                summary.maxIds[t] = afterId;
+                pause();
+            } while (page.size() == properties.pageSize());
+        }
+        return summary;
+    }
+
+    private void delete(ArchivedTable table, ClosedWindow user, long maxId) throws InterruptedException {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(table.deleteSql(),
+                user.userId(), Date.valueOf(user.windowEnd()), maxId, properties.deleteBatchSize());
+            pause();
+        } while (deleted == properties.deleteBatchSize());
+    }
+
+    private void pause() throws InterruptedException {
+        if (properties.pause().isPositive()) {
+            Thread.sleep(properties.pause());
+        }
+    }
+
+    record ArchivedTable(String name, String columns) {
+
+        String pageSql() {
+            return "SELECT " + columns + " FROM " + name
+                + " WHERE user_id = ? AND window_end = ? AND id > ? ORDER BY id LIMIT ?";
+        }
+
+        String deleteSql() {
+            return "DELETE FROM " + name + " WHERE user_id = ? AND window_end = ? AND id <= ? LIMIT ?";
+        }
+    }
+
+    record ClosedWindow(long userId, LocalDate windowEnd) {
+    }
+
+    private static final class Summary {
+        final ClosedWindow user;
+        final int[] rows = new int[TABLES.size()];
+        final long[] maxIds = new long[TABLES.size()];
+        long totalScore;
+
+        Summary(ClosedWindow user) {
+            this.user = user;
+        }
+    }
+}
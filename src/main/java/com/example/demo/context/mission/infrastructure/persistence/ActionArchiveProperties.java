@@ -0,0 +1,22 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@ConfigurationProperties("mission.persistence.archive")
+public record ActionArchiveProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("0 30 3 * * *") String cron,
+    @DefaultValue("data/archive") Path directory,
+    @DefaultValue("1d") Duration grace,
+    @DefaultValue("500") int usersPerFile,
+    @DefaultValue("20000") int maxUsersPerRun,
+    @DefaultValue("30m") Duration maxRunTime,
+    @DefaultValue("500") int pageSize,
+    @DefaultValue("500") int deleteBatchSize,
+    @DefaultValue("20ms") Duration pause
+) {
+}
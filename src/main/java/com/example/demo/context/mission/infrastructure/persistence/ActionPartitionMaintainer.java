@@ -0,0 +1,116 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * While archiving is enabled, an expired month is only dropped once every user with rows
+ * in it has been archived.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ActionPartitionMaintainer implements SmartInitializingSingleton {
+
+    static final List<String> TABLES = List.of("login_records", "game_launch_records", "games_play_record");
+
+    private static final String CATCH_ALL = "pmax";
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String PARTITIONS_SQL = """
+        SELECT partition_name FROM information_schema.partitions
+         WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL
+         ORDER BY partition_ordinal_position""";
+
+    private static final String UNARCHIVED_ROWS_SQL = """
+        SELECT EXISTS (
+            SELECT 1 FROM %s PARTITION (%s) r
+              LEFT JOIN user_action_archive a ON a.user_id = r.user_id
+             WHERE a.user_id IS NULL)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActionPartitionProperties properties;
+    private final ActionArchiveProperties archiveProperties;
+    private final Clock clock;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rotateQuietly();
+    }
+
+    @Scheduled(cron = "${mission.persistence.partitions.cron:0 15 3 * * *}")
+    public void rotateQuietly() {
+        if (!properties.enabled()) {
+            return;
+        }
+        for (String table : TABLES) {
+            try {
+                rotate(table);
+            } catch (Exception e) {
+                log.warn("Partition rotation failed for {}, retrying next run: {}", table, e.getMessage());
+            }
+        }
+    }
+
+    void rotate(String table) {
+        List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class, table);
+        if (!partitions.contains(CATCH_ALL)) {
+            log.warn("{} has no {} partition, skipping rotation", table, CATCH_ALL);
+            return;
+        }
+        List<YearMonth> months = partitions.stream()
+            .filter(name -> !name.equals(CATCH_ALL))
+            .map(name -> YearMonth.parse(name, PARTITION_NAME))
+            .toList();
+        YearMonth current = YearMonth.now(clock);
+
+        YearMonth next = months.isEmpty() ? current : months.getLast().plusMonths(1);
+        List<YearMonth> added = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(current.plusMonths(properties.monthsAhead())); month = month.plusMonths(1)) {
+            added.add(month);
+        }
+        if (!added.isEmpty()) {
+            String definitions = added.stream()
+                .map(month -> "PARTITION %s VALUES LESS THAN ('%s')"
+                    .formatted(PARTITION_NAME.format(month), month.plusMonths(1).atDay(1)))
+                .collect(Collectors.joining(", "));
+            jdbcTemplate.execute("ALTER TABLE %s REORGANIZE PARTITION %s INTO (%s, PARTITION %s VALUES LESS THAN (MAXVALUE))"
+                .formatted(table, CATCH_ALL, definitions, CATCH_ALL));
+            log.info("Added partitions to {}: {}", table, added);
+        }
+
+        YearMonth oldestKept = current.minusMonths(properties.retentionMonths());
+        List<String> expired = months.stream()
+            .filter(month -> month.isBefore(oldestKept))
+            .map(PARTITION_NAME::format)
+            .filter(partition -> !holdsUnarchivedRows(table, partition))
+            .toList();
+        if (!expired.isEmpty()) {
+            jdbcTemplate.execute("ALTER TABLE %s DROP PARTITION %s".formatted(table, String.join(", ", expired)));
+            log.info("Dropped expired partitions of {}: {}", table, expired);
+        }
+    }
+
+    private boolean holdsUnarchivedRows(String table, String partition) {
+        if (!archiveProperties.enabled()) {
+            return false;
+        }
+        boolean unarchived = Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+            UNARCHIVED_ROWS_SQL.formatted(table, partition), Boolean.class));
+        if (unarchived) {
+            log.warn("Keeping expired partition {} of {} until its users are archived", partition, table);
+        }
+        return unarchived;
+    }
+}
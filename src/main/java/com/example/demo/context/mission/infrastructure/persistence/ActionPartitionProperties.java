@@ -0,0 +1,13 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties("mission.persistence.partitions")
+public record ActionPartitionProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0 15 3 * * *") String cron,
+    @DefaultValue("3") int monthsAhead,
+    @DefaultValue("1") int retentionMonths
+) {
+}
@@ -0,0 +1,126 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.infrastructure.persistence.repository.GameEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A game missing from the snapshot may have been added since the last refresh, so a miss
+ * reloads the snapshot, at most once per {@link #MISS_RELOAD_INTERVAL}; unknown ids never
+ * cost more than that. Lookups before the first load fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GameCatalog implements SmartInitializingSingleton {
+
+    static final Duration MISS_RELOAD_INTERVAL = Duration.ofSeconds(1);
+
+    private final GameEntityRepository gameEntityRepository;
+    private final Clock clock;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong nextMissReload = new AtomicLong();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refreshQuietly();
+    }
+
+    public boolean contains(long gameId) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return gameEntityRepository.existsById(gameId);
+        }
+        return current.contains(gameId) || reloadOnMiss(current).contains(gameId);
+    }
+
+    public Set<Long> findExisting(Collection<Long> gameIds) {
+        if (gameIds.isEmpty()) {
+            return Set.of();
+        }
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return new HashSet<>(gameEntityRepository.findExistingIds(gameIds));
+        }
+        Set<Long> existing = new HashSet<>();
+        List<Long> missed = new ArrayList<>();
+        for (Long gameId : gameIds) {
+            if (current.contains(gameId)) {
+                existing.add(gameId);
+            } else {
+                missed.add(gameId);
+            }
+        }
+        if (!missed.isEmpty()) {
+            Snapshot reloaded = reloadOnMiss(current);
+            missed.stream().filter(reloaded::contains).forEach(existing::add);
+        }
+        return existing;
+    }
+
+    private Snapshot reloadOnMiss(Snapshot current) {
+        long now = clock.millis();
+        long next = nextMissReload.get();
+        if (now < next || !nextMissReload.compareAndSet(next, now + MISS_RELOAD_INTERVAL.toMillis())) {
+            return current;
+        }
+        refreshQuietly();
+        return snapshot.get();
+    }
+
+    public Snapshot refresh() {
+        List<Long> ids = gameEntityRepository.findAllIds();
+        long[] gameIds = new long[ids.size()];
+        for (int i = 0; i < gameIds.length; i++) {
+            gameIds[i] = ids.get(i);
+        }
+        Arrays.sort(gameIds);
+
+        Snapshot loaded = new Snapshot(gameIds, Instant.now(clock));
+        snapshot.set(loaded);
+        nextMissReload.accumulateAndGet(loaded.loadedAt().plus(MISS_RELOAD_INTERVAL).toEpochMilli(), Math::max);
+        log.debug("Game catalog refreshed: {} games", gameIds.length);
+        return loaded;
+    }
+
+    @Scheduled(
+        initialDelayString = "${mission.catalog.games.refresh-interval-ms:60000}",
+        fixedDelayString = "${mission.catalog.games.refresh-interval-ms:60000}")
+    public void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("Game catalog refresh failed, keeping previous snapshot: {}", e.getMessage());
+        }
+    }
+
+    public Snapshot current() {
+        return snapshot.get();
+    }
+
+    public record Snapshot(long[] gameIds, Instant loadedAt) {
+
+        public int size() {
+            return gameIds.length;
+        }
+
+        boolean contains(long gameId) {
+            return Arrays.binarySearch(gameIds, gameId) >= 0;
+        }
+    }
+}
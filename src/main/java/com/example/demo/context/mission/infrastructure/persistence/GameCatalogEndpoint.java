@@ -0,0 +1,36 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+@Endpoint(id = "gamecatalog")
+public class GameCatalogEndpoint {
+
+    private final GameCatalog gameCatalog;
+
+    @ReadOperation
+    public CatalogInfo info() {
+        return CatalogInfo.of(gameCatalog.current());
+    }
+
+    @WriteOperation
+    public CatalogInfo refresh() {
+        return CatalogInfo.of(gameCatalog.refresh());
+    }
+
+    public record CatalogInfo(boolean loaded, int games, Instant loadedAt) {
+
+        static CatalogInfo of(GameCatalog.Snapshot snapshot) {
+            return snapshot == null
+                ? new CatalogInfo(false, 0, null)
+                : new CatalogInfo(true, snapshot.size(), snapshot.loadedAt());
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.application.port.MissionProgress;
+import com.example.demo.context.mission.application.port.MissionProgressQueryPort;
+import com.example.demo.context.mission.domain.model.LoginCalendar;
+import com.example.demo.context.mission.domain.model.Mission;
+import com.example.demo.context.mission.domain.model.MissionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class MissionProgressQueryAdapter implements MissionProgressQueryPort {
+
+    // One row per mission (or a single row with NULL mission columns when the user has none yet).
+    // The login streak comes from the calendar bitset kept next to the counters.
+    private static final String SQL = """
+        SELECT u.id AS user_id, m.id, m.mission_type, m.completed, m.completed_at, m.expired_at,
+               COALESCE(p.distinct_games, 0) AS distinct_games,
+               COALESCE(p.play_sessions, 0)  AS play_sessions,
+               COALESCE(p.total_score, 0)    AS total_score,
+               p.last_login_date,
+               COALESCE(p.login_days, 0)     AS login_days
+          FROM users u
+          LEFT JOIN missions m ON m.user_id = u.id
+          LEFT JOIN user_mission_progress p ON p.user_id = u.id
+         WHERE u.id = ?
+         ORDER BY m.id""";
+
+    // Same row shape for a set of users.
+    private static final String BULK_SQL = """
+        SELECT u.id AS user_id, m.id, m.mission_type, m.completed, m.completed_at, m.expired_at,
+               COALESCE(p.distinct_games, 0) AS distinct_games,
+               COALESCE(p.play_sessions, 0)  AS play_sessions,
+               COALESCE(p.total_score, 0)    AS total_score,
+               p.last_login_date,
+               COALESCE(p.login_days, 0)     AS login_days
+          FROM users u
+          LEFT JOIN missions m ON m.user_id = u.id
+          LEFT JOIN user_mission_progress p ON p.user_id = u.id
+         WHERE u.id IN (:userIds)
+         ORDER BY u.id, m.id""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    @Override
+    public Optional<MissionProgress> findMissionProgress(Long userId, LocalDate asOfDate) {
+        Map<Long, MissionProgress> progress = jdbcTemplate.query(SQL, byUser(asOfDate), userId);
+        return Optional.ofNullable(progress).map(byUser -> byUser.get(userId));
+    }
+
+    @Override
+    public Map<Long, MissionProgress> findMissionProgress(Collection<Long> userIds, LocalDate asOfDate) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("userIds", userIds);
+        Map<Long, MissionProgress> progress = namedParameterJdbcTemplate.query(
+            BULK_SQL, params, byUser(asOfDate));
+        return progress != null ? progress : Map.of();
+    }
+
+    private static ResultSetExtractor<Map<Long, MissionProgress>> byUser(LocalDate asOfDate) {
+        return rs -> mapByUser(rs, asOfDate);
+    }
+
+    static Map<Long, MissionProgress> mapByUser(ResultSet rs, LocalDate asOfDate) throws SQLException {
+        Map<Long, MissionProgress> result = new LinkedHashMap<>();
+        boolean hasRow = rs.next();
+        while (hasRow) {
+            long userId = rs.getLong("user_id");
+            int distinctGames = rs.getInt("distinct_games");
+            int playSessions = rs.getInt("play_sessions");
+            int totalScore = rs.getInt("total_score");
+            int consecutiveLoginDays = loginCalendar(rs).streakEndingOn(asOfDate);
+
+            List<Mission> missions = new ArrayList<>(MissionType.values().length);
+            do {
+                long id = rs.getLong("id");
+                if (!rs.wasNull()) {
+                    missions.add(Mission.reconstitute(
+                        id,
+                        userId,
+                        MissionType.valueOf(rs.getString("mission_type")),
+                        rs.getBoolean("completed"),
+                        toLocalDateTime(rs.getTimestamp("completed_at")),
+                        toLocalDateTime(rs.getTimestamp("expired_at"))));
+                }
+                hasRow = rs.next();
+            } while (hasRow && rs.getLong("user_id") == userId);
+
+            result.put(userId, new MissionProgress(
+                missions, consecutiveLoginDays, distinctGames, playSessions, totalScore));
+        }
+        return result;
+    }
+
+    private static LoginCalendar loginCalendar(ResultSet rs) throws SQLException {
+        Date lastLoginDate = rs.getDate("last_login_date");
+        return lastLoginDate == null
+            ? LoginCalendar.EMPTY
+            : new LoginCalendar(lastLoginDate.toLocalDate(), rs.getLong("login_days"));
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
@@ -37,7 +37,7 @@ public class MissionRepositoryAdapter implements MissionRepository {
     @Override
     public boolean completeMission(Long userId, MissionType missionType, LocalDateTime completedAt) {
         int updated = jdbcTemplate.update(
-            "UPDATE missions SET completed = true, completed_at = ? WHERE user_id = ? AND mission_type = ? AND completed = false AND expired_at > ?",
+            "UPDATE missions SET completed = true, completed_at = ? WHERE user_id = ? AND mission_type = ? AND completed = false AND expired_at >= ?",
             Timestamp.valueOf(completedAt), userId, missionType.name(), Timestamp.valueOf(completedAt)
         );
         return updated > 0;
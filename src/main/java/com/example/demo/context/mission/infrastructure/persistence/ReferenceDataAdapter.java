@@ -2,33 +2,61 @@ package com.example.demo.context.mission.infrastructure.persistence;
 
 import com.example.demo.context.mission.application.port.GameQueryPort;
 import com.example.demo.context.mission.application.port.UserQueryPort;
-import com.example.demo.context.mission.infrastructure.persistence.repository.GameEntityRepository;
 import com.example.demo.context.mission.infrastructure.persistence.repository.UserEntityRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class ReferenceDataAdapter implements UserQueryPort, GameQueryPort {
 
     private final UserEntityRepository userEntityRepository;
-    private final GameEntityRepository gameEntityRepository;
+    private final GameCatalog gameCatalog;
+    private final UserDirectory userDirectory;
 
     @Override
     public boolean userExists(Long userId) {
-        return userEntityRepository.existsById(userId);
+        return userDirectory.findCreatedAt(userId).isPresent() || userEntityRepository.existsById(userId);
     }
 
     @Override
     public Optional<LocalDateTime> getUserCreatedAt(Long userId) {
-        return userEntityRepository.findCreatedAtById(userId);
+        return userDirectory.findCreatedAt(userId)
+            .or(() -> userEntityRepository.findCreatedAtById(userId));
+    }
+
+    @Override
+    public Map<Long, LocalDateTime> getUserCreatedAts(Collection<Long> userIds) {
+        Map<Long, LocalDateTime> createdAts = new HashMap<>();
+        List<Long> unindexed = new ArrayList<>();
+        for (Long userId : userIds) {
+            userDirectory.findCreatedAt(userId).ifPresentOrElse(
+                createdAt -> createdAts.put(userId, createdAt),
+                () -> unindexed.add(userId));
+        }
+        if (!unindexed.isEmpty()) {
+            userEntityRepository.findAllById(unindexed)
+                .forEach(user -> createdAts.put(user.id(), user.createdAt()));
+        }
+        return createdAts;
     }
 
     @Override
     public boolean gameExists(Long gameId) {
-        return gameEntityRepository.existsById(gameId);
+        return gameCatalog.contains(gameId);
+    }
+
+    @Override
+    public Set<Long> findExistingGameIds(Collection<Long> gameIds) {
+        return gameCatalog.findExisting(gameIds);
     }
 }
@@ -0,0 +1,59 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.domain.event.RewardGrantedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class RewardOutboxRepository {
+
+    private static final String CLAIM_SQL = """
+        SELECT id, user_id, points, created_at
+        FROM reward_outbox
+        ORDER BY id
+        LIMIT ?
+        FOR UPDATE SKIP LOCKED
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void append(Long userId, int points) {
+        jdbcTemplate.update("INSERT INTO reward_outbox (user_id, points) VALUES (?, ?)", userId, points);
+    }
+
+    /**
+     * Locks up to {@code limit} of the oldest pending rows with {@code SKIP LOCKED}.
+     */
+    public List<PendingReward> claim(int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, (rs, rowNum) -> new PendingReward(
+            rs.getLong("id"),
+            new RewardGrantedEvent(rs.getLong("user_id"), rs.getInt("points"), rs.getTimestamp("created_at").getTime())
+        ), limit);
+    }
+
+    public void delete(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM reward_outbox WHERE id IN (" + placeholders(ids.size()) + ")", ids.toArray());
+        }
+    }
+
+    public void recordFailedAttempt(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            jdbcTemplate.update("UPDATE reward_outbox SET attempts = attempts + 1 WHERE id IN (" + placeholders(ids.size()) + ")",
+                ids.toArray());
+        }
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    public record PendingReward(long id, RewardGrantedEvent event) {
+    }
+}
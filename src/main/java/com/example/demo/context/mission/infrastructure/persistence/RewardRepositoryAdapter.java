@@ -1,19 +1,34 @@
 package com.example.demo.context.mission.infrastructure.persistence;
 
 import com.example.demo.context.mission.application.port.RewardRepository;
+import com.example.demo.context.mission.domain.model.MissionType;
 import com.example.demo.context.mission.infrastructure.persistence.repository.RewardEntityRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
 
 @Repository
 @RequiredArgsConstructor
 public class RewardRepositoryAdapter implements RewardRepository {
 
+    private static final List<String> MISSION_TYPES = Arrays.stream(MissionType.values())
+        .map(MissionType::name)
+        .toList();
+
     private final RewardEntityRepository rewardEntityRepository;
+    private final RewardOutboxRepository rewardOutboxRepository;
 
     @Override
-    public boolean grantReward(Long userId, int points) {
-        return rewardEntityRepository.insertIgnore(userId, points);
+    @Transactional
+    public boolean grantRewardIfAllCompleted(Long userId, int points) {
+        boolean granted = rewardEntityRepository.insertIfAllCompleted(userId, points, MISSION_TYPES, MISSION_TYPES.size());
+        if (granted) {
+            rewardOutboxRepository.append(userId, points);
+        }
+        return granted;
     }
 
     @Override
@@ -3,72 +3,327 @@ package com.example.demo.context.mission.infrastructure.persistence;
 import com.example.demo.context.mission.application.port.GameLaunchRecordPort;
 import com.example.demo.context.mission.application.port.GamePlayRecordPort;
 import com.example.demo.context.mission.application.port.LoginRecordPort;
+import com.example.demo.context.mission.application.port.ProgressAggregatePort;
+import com.example.demo.context.mission.application.port.ProgressAggregates;
+import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.domain.model.LoginCalendar;
 import com.example.demo.context.mission.infrastructure.persistence.repository.GameLaunchRecordEntityRepository;
 import com.example.demo.context.mission.infrastructure.persistence.repository.GamePlayRecordEntityRepository;
 import com.example.demo.context.mission.infrastructure.persistence.repository.LoginRecordEntityRepository;
+import com.example.demo.context.mission.infrastructure.persistence.repository.UserMissionProgressEntityRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Repository
 @RequiredArgsConstructor
-public class UserActionAdapter implements LoginRecordPort, GameLaunchRecordPort, GamePlayRecordPort {
+public class UserActionAdapter
+    implements LoginRecordPort, GameLaunchRecordPort, GamePlayRecordPort, ProgressAggregatePort {
+
+    static final int WINDOW_DAYS = 30;
+
+    private static final String AGGREGATES_SQL = """
+        SELECT user_id, last_login_date, login_days, distinct_games, play_sessions, total_score
+          FROM user_mission_progress WHERE user_id IN (%s)""";
 
     private final LoginRecordEntityRepository loginRecordEntityRepository;
     private final GameLaunchRecordEntityRepository gameLaunchRecordEntityRepository;
     private final GamePlayRecordEntityRepository gamePlayRecordEntityRepository;
+    private final UserMissionProgressEntityRepository userMissionProgressEntityRepository;
+    private final UserQueryPort userQueryPort;
+    private final JdbcTemplate jdbcTemplate;
 
     // ── LoginRecordPort ─────────────────────────────────────────────────────
 
+    // The login calendar in user_mission_progress is marked in the same transaction as a new
+    // login row; marking a day is idempotent, so batches with redelivered rows mark them all.
+
     @Override
+    @Transactional
     public boolean recordLogin(Long userId, LocalDate loginDate) {
-        return loginRecordEntityRepository.insertIgnore(userId, loginDate);
+        boolean inserted = loginRecordEntityRepository.insertIgnore(userId, loginDate, windowEnd(userId));
+        if (inserted) {
+            userMissionProgressEntityRepository.markLoginDay(userId, loginDate);
+        }
+        return inserted;
     }
 
     @Override
-    public int countConsecutiveLoginDays(Long userId, LocalDate asOfDate) {
-        List<LocalDate> dates = loginRecordEntityRepository.findRecentLoginDates(userId, asOfDate);
-        int count = 0;
-        LocalDate expected = asOfDate;
-        for (LocalDate date : dates) {
-            if (date.equals(expected)) {
-                count++;
-                expected = expected.minusDays(1);
-            } else {
-                break;
+    @Transactional
+    public Set<Long> recordLogins(Map<Long, Set<LocalDate>> loginDatesByUser) {
+        Map<Long, Date> windowEnds = windowEnds(loginDatesByUser.keySet());
+        List<Object> keys = new ArrayList<>();
+        loginDatesByUser.forEach((userId, dates) -> dates.forEach(date -> {
+            keys.add(userId);
+            keys.add(Date.valueOf(date));
+            keys.add(windowEnds.get(userId));
+        }));
+        if (keys.isEmpty()) {
+            return Set.of();
+        }
+
+        // Redelivered logins must not report their user as recorded, so rows that already
+        // exist are left out before inserting; the unique key still absorbs a concurrent writer.
+        Set<List<Object>> existing = new HashSet<>();
+        jdbcTemplate.query(
+            "SELECT user_id, login_date FROM login_records WHERE (user_id, login_date, window_end) IN ("
+                + rows(keys.size() / 3, 3) + ")",
+            (RowCallbackHandler) rs -> existing.add(List.of(rs.getLong("user_id"), rs.getDate("login_date"))),
+            keys.toArray());
+
+        List<Object> args = new ArrayList<>();
+        List<Object> days = new ArrayList<>();
+        Set<Long> recorded = new LinkedHashSet<>();
+        for (int i = 0; i < keys.size(); i += 3) {
+            Long userId = (Long) keys.get(i);
+            Date loginDate = (Date) keys.get(i + 1);
+            if (existing.contains(List.of(userId, loginDate))) {
+                continue;
             }
+            args.addAll(keys.subList(i, i + 3));
+            days.add(userId);
+            days.add(loginDate);
+            recorded.add(userId);
+        }
+        if (args.isEmpty()) {
+            return Set.of();
+        }
+        int rowCount = args.size() / 3;
+        int inserted = jdbcTemplate.update(
+            "INSERT IGNORE INTO login_records (user_id, login_date, window_end) VALUES " + rows(rowCount, 3),
+            args.toArray());
+        if (inserted == 0) {
+            return Set.of();
         }
-        return count;
+        jdbcTemplate.update(
+            "INSERT INTO user_mission_progress (user_id, last_login_date, login_days) VALUES "
+                + String.join(", ", Collections.nCopies(rowCount, "(?, ?, 1)")) + " "
+                + UserMissionProgressEntityRepository.MARK_LOGIN_DAY_ON_DUPLICATE,
+            days.toArray());
+        return Set.copyOf(recorded);
+    }
+
+    @Override
+    public LoginCalendar findLoginCalendar(Long userId) {
+        return findAggregates(userId).loginCalendar();
     }
 
     // ── GameLaunchRecordPort ────────────────────────────────────────────────
 
+    // Counters in user_mission_progress move only when the raw row is new, inside the same
+    // transaction, so redelivered events never double count.
+
     @Override
+    @Transactional
     public boolean recordGameLaunch(Long userId, Long gameId) {
-        return gameLaunchRecordEntityRepository.insertIgnore(userId, gameId);
+        boolean inserted = gameLaunchRecordEntityRepository.insertIgnore(userId, gameId, windowEnd(userId));
+        if (inserted) {
+            userMissionProgressEntityRepository.incrementDistinctGames(userId);
+        }
+        return inserted;
     }
 
+    // A multi-row INSERT IGNORE only reports how many rows were new in total. When that equals
+    // the rows sent, counters move by the batch deltas; otherwise some rows were redelivered
+    // and the counters of the batch's users are recounted from the raw rows instead.
+
     @Override
-    public int countDistinctGamesLaunched(Long userId) {
-        return gameLaunchRecordEntityRepository.countDistinctGamesByUserId(userId);
+    @Transactional
+    public Set<Long> recordGameLaunches(Map<Long, Set<Long>> gameIdsByUser) {
+        Map<Long, Date> windowEnds = windowEnds(gameIdsByUser.keySet());
+        List<Object> args = new ArrayList<>();
+        gameIdsByUser.forEach((userId, gameIds) -> gameIds.forEach(gameId -> {
+            args.add(userId);
+            args.add(gameId);
+            args.add(windowEnds.get(userId));
+        }));
+        if (args.isEmpty()) {
+            return Set.of();
+        }
+        int rowCount = args.size() / 3;
+        int inserted = jdbcTemplate.update(
+            "INSERT IGNORE INTO game_launch_records (user_id, game_id, window_end) VALUES " + rows(rowCount, 3),
+            args.toArray());
+        if (inserted == 0) {
+            return Set.of();
+        }
+
+        if (inserted == rowCount) {
+            List<Object> deltas = new ArrayList<>();
+            gameIdsByUser.forEach((userId, gameIds) -> {
+                deltas.add(userId);
+                deltas.add(gameIds.size());
+            });
+            jdbcTemplate.update("""
+                INSERT INTO user_mission_progress (user_id, distinct_games) VALUES %s
+                ON DUPLICATE KEY UPDATE distinct_games = distinct_games + VALUES(distinct_games)"""
+                .formatted(rows(gameIdsByUser.size(), 2)), deltas.toArray());
+        } else {
+            jdbcTemplate.update("""
+                INSERT INTO user_mission_progress (user_id, distinct_games)
+                SELECT user_id, COUNT(*) FROM game_launch_records
+                 WHERE user_id IN (%s) AND window_end BETWEEN ? AND ? GROUP BY user_id
+                ON DUPLICATE KEY UPDATE distinct_games = VALUES(distinct_games)"""
+                .formatted(placeholders(gameIdsByUser.size())), recountArgs(windowEnds));
+        }
+        return Set.copyOf(gameIdsByUser.keySet());
     }
 
     // ── GamePlayRecordPort ──────────────────────────────────────────────────
 
     @Override
+    @Transactional
     public boolean recordGamePlay(Long userId, Long gameId, int score, String idempotencyKey) {
-        return gamePlayRecordEntityRepository.insertIgnore(userId, gameId, score, idempotencyKey);
+        boolean inserted = gamePlayRecordEntityRepository.insertIgnore(userId, gameId, score, idempotencyKey, windowEnd(userId));
+        if (inserted) {
+            userMissionProgressEntityRepository.addPlaySession(userId, score);
+        }
+        return inserted;
+    }
+
+    @Override
+    @Transactional
+    public Set<Long> recordGamePlays(List<GamePlay> plays) {
+        if (plays.isEmpty()) {
+            return Set.of();
+        }
+        Map<Long, Date> windowEnds = windowEnds(plays.stream().map(GamePlay::userId).collect(Collectors.toSet()));
+        List<Object> args = new ArrayList<>(plays.size() * 5);
+        Map<Long, int[]> deltas = new LinkedHashMap<>();
+        for (GamePlay play : plays) {
+            args.add(play.userId());
+            args.add(play.gameId());
+            args.add(play.score());
+            args.add(play.idempotencyKey());
+            args.add(windowEnds.get(play.userId()));
+            int[] delta = deltas.computeIfAbsent(play.userId(), userId -> new int[2]);
+            delta[0]++;
+            delta[1] += play.score();
+        }
+        int inserted = jdbcTemplate.update(
+            "INSERT IGNORE INTO games_play_record (user_id, game_id, score, idempotency_key, window_end) VALUES "
+                + rows(plays.size(), 5),
+            args.toArray());
+        if (inserted == 0) {
+            return Set.of();
+        }
+
+        if (inserted == plays.size()) {
+            List<Object> deltaArgs = new ArrayList<>(deltas.size() * 3);
+            deltas.forEach((userId, delta) -> {
+                deltaArgs.add(userId);
+                deltaArgs.add(delta[0]);
+                deltaArgs.add(delta[1]);
+            });
+            jdbcTemplate.update("""
+                INSERT INTO user_mission_progress (user_id, play_sessions, total_score) VALUES %s
+                ON DUPLICATE KEY UPDATE play_sessions = play_sessions + VALUES(play_sessions),
+                                        total_score   = total_score + VALUES(total_score)"""
+                .formatted(rows(deltas.size(), 3)), deltaArgs.toArray());
+        } else {
+            jdbcTemplate.update("""
+                INSERT INTO user_mission_progress (user_id, play_sessions, total_score)
+                SELECT user_id, COUNT(*), COALESCE(SUM(score), 0) FROM games_play_record
+                 WHERE user_id IN (%s) AND window_end BETWEEN ? AND ? GROUP BY user_id
+                ON DUPLICATE KEY UPDATE play_sessions = VALUES(play_sessions),
+                                        total_score   = VALUES(total_score)"""
+                .formatted(placeholders(deltas.size())), recountArgs(windowEnds));
+        }
+        return Set.copyOf(deltas.keySet());
     }
 
+    // ── ProgressAggregatePort ───────────────────────────────────────────────
+
     @Override
-    public int sumPlayScores(Long userId) {
-        return gamePlayRecordEntityRepository.sumScoresByUserId(userId);
+    public ProgressAggregates findAggregates(Long userId) {
+        List<ProgressAggregates> aggregates = jdbcTemplate.query(
+            AGGREGATES_SQL.formatted("?"), (rs, rowNum) -> toAggregates(rs), userId);
+        return aggregates.isEmpty() ? ProgressAggregates.EMPTY : aggregates.get(0);
     }
 
     @Override
-    public int countPlaySessions(Long userId) {
-        return gamePlayRecordEntityRepository.countByUserId(userId);
+    public Map<Long, ProgressAggregates> findAggregates(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, ProgressAggregates> aggregates = new HashMap<>();
+        jdbcTemplate.query(
+            AGGREGATES_SQL.formatted(placeholders(userIds.size())),
+            (RowCallbackHandler) rs -> aggregates.put(rs.getLong("user_id"), toAggregates(rs)),
+            userIds.toArray());
+        return aggregates;
+    }
+
+    private static ProgressAggregates toAggregates(ResultSet rs) throws SQLException {
+        Date lastLoginDate = rs.getDate("last_login_date");
+        LoginCalendar loginCalendar = lastLoginDate == null
+            ? LoginCalendar.EMPTY
+            : new LoginCalendar(lastLoginDate.toLocalDate(), rs.getLong("login_days"));
+        return new ProgressAggregates(
+            loginCalendar, rs.getInt("distinct_games"), rs.getInt("play_sessions"), rs.getInt("total_score"));
+    }
+
+    // ── Partitioning ────────────────────────────────────────────────────────
+
+    // Raw action rows carry the user's window end, the partitioning column of their tables.
+    // It is resolved from the user directory, so normally without a query; recounts bound
+    // window_end to the batch's range so MySQL only reads the matching partitions.
+
+    private LocalDate windowEnd(Long userId) {
+        return userQueryPort.getUserCreatedAt(userId)
+            .map(UserActionAdapter::windowEndOf)
+            .orElseThrow(() -> new IllegalStateException("Cannot record action of unknown userId=" + userId));
+    }
+
+    private Map<Long, Date> windowEnds(Collection<Long> userIds) {
+        Map<Long, LocalDateTime> createdAts = userQueryPort.getUserCreatedAts(userIds);
+        Map<Long, Date> windowEnds = new HashMap<>();
+        for (Long userId : userIds) {
+            LocalDateTime createdAt = createdAts.get(userId);
+            if (createdAt == null) {
+                throw new IllegalStateException("Cannot record action of unknown userId=" + userId);
+            }
+            windowEnds.put(userId, Date.valueOf(windowEndOf(createdAt)));
+        }
+        return windowEnds;
+    }
+
+    static LocalDate windowEndOf(LocalDateTime createdAt) {
+        return createdAt.plusDays(WINDOW_DAYS).toLocalDate();
+    }
+
+    private static Object[] recountArgs(Map<Long, Date> windowEnds) {
+        List<Object> args = new ArrayList<>(windowEnds.keySet());
+        args.add(Collections.min(windowEnds.values()));
+        args.add(Collections.max(windowEnds.values()));
+        return args.toArray();
+    }
+
+    private static String rows(int rowCount, int columns) {
+        String row = "(" + placeholders(columns) + ")";
+        return String.join(", ", Collections.nCopies(rowCount, row));
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
     }
 }
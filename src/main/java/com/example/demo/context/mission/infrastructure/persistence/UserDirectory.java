@@ -0,0 +1,110 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.infrastructure.persistence.entity.UserEntity;
+import com.example.demo.context.mission.infrastructure.persistence.repository.UserEntityRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Append-only: a user's creation time never changes. A miss is not an answer, since the
+ * user may have been created after the last refresh; callers fall back to the database.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserDirectory implements SmartInitializingSingleton {
+
+    static final int PAGE_SIZE = 50_000;
+
+    private final UserEntityRepository userEntityRepository;
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refreshQuietly();
+    }
+
+    public Optional<LocalDateTime> findCreatedAt(long userId) {
+        Snapshot current = snapshot.get();
+        if (current == null) {
+            return Optional.empty();
+        }
+        int index = Arrays.binarySearch(current.userIds(), 0, current.size(), userId);
+        if (index < 0) {
+            return Optional.empty();
+        }
+        long epochSecond = Integer.toUnsignedLong(current.createdAts()[index]);
+        return Optional.of(LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC));
+    }
+
+    /**
+     * @return the number of users added since the last refresh
+     */
+    public int refresh() {
+        refreshLock.lock();
+        try {
+            Snapshot current = snapshot.get();
+            long[] userIds = current == null ? new long[0] : current.userIds();
+            int[] createdAts = current == null ? new int[0] : current.createdAts();
+            int size = current == null ? 0 : current.size();
+            long afterId = size == 0 ? 0 : userIds[size - 1];
+
+            int added = 0;
+            List<UserEntity> page;
+            do {
+                page = userEntityRepository.findPageAfter(afterId, PAGE_SIZE);
+                if (size + page.size() > userIds.length) {
+                    int capacity = Math.max(userIds.length * 2, size + page.size());
+                    userIds = Arrays.copyOf(userIds, capacity);
+                    createdAts = Arrays.copyOf(createdAts, capacity);
+                }
+                for (UserEntity user : page) {
+                    userIds[size] = user.id();
+                    createdAts[size] = (int) user.createdAt().toEpochSecond(ZoneOffset.UTC);
+                    size++;
+                }
+                if (!page.isEmpty()) {
+                    afterId = userIds[size - 1];
+                }
+                added += page.size();
+                snapshot.set(new Snapshot(userIds, createdAts, size));
+            } while (page.size() == PAGE_SIZE);
+
+            log.debug("User directory refreshed: {} added, {} total", added, size);
+            return added;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Scheduled(
+        initialDelayString = "${mission.catalog.users.refresh-interval-ms:5000}",
+        fixedDelayString = "${mission.catalog.users.refresh-interval-ms:5000}")
+    public void refreshQuietly() {
+        try {
+            refresh();
+        } catch (Exception e) {
+            log.warn("User directory refresh failed, keeping loaded users: {}", e.getMessage());
+        }
+    }
+
+    public int size() {
+        Snapshot current = snapshot.get();
+        return current == null ? 0 : current.size();
+    }
+
+    private record Snapshot(long[] userIds, int[] createdAts, int size) {
+    }
+}
@@ -3,6 +3,7 @@ package com.example.demo.context.mission.infrastructure.persistence.entity;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Table;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Table("game_launch_records")
@@ -10,6 +11,7 @@ public record GameLaunchRecordEntity(
     @Id Long id,
     Long userId,
     Long gameId,
-    LocalDateTime launchedAt
+    LocalDateTime launchedAt,
+    LocalDate windowEnd
 ) {
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.example.demo.context.mission.infrastructure.persistence.entity;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Table;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Table("games_play_record")
@@ -12,6 +13,7 @@ public record GamePlayRecordEntity(
     Long gameId,
     int score,
     String idempotencyKey,
-    LocalDateTime playedAt
+    LocalDateTime playedAt,
+    LocalDate windowEnd
 ) {
 }
\ No newline at end of file
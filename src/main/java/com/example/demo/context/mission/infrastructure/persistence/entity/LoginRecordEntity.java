@@ -9,6 +9,7 @@ import java.time.LocalDate;
 public record LoginRecordEntity(
     @Id Long id,
     Long userId,
-    LocalDate loginDate
+    LocalDate loginDate,
+    LocalDate windowEnd
 ) {
 }
\ No newline at end of file
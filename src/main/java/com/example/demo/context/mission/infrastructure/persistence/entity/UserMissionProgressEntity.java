@@ -0,0 +1,19 @@
+package com.example.demo.context.mission.infrastructure.persistence.entity;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Table("user_mission_progress")
+public record UserMissionProgressEntity(
+    @Id Long userId,
+    int distinctGames,
+    int playSessions,
+    int totalScore,
+    LocalDate lastLoginDate,
+    long loginDays,
+    LocalDateTime updatedAt
+) {
+}
@@ -1,7 +1,18 @@
 package com.example.demo.context.mission.infrastructure.persistence.repository;
 
 import com.example.demo.context.mission.infrastructure.persistence.entity.GameEntity;
+import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface GameEntityRepository extends CrudRepository<GameEntity, Long> {
+
+    @Query("SELECT id FROM games")
+    List<Long> findAllIds();
+
+    @Query("SELECT id FROM games WHERE id IN (:ids)")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 }
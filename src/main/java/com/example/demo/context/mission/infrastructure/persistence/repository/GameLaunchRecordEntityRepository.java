@@ -6,12 +6,11 @@ import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+
 public interface GameLaunchRecordEntityRepository extends Repository<GameLaunchRecordEntity, Long> {
 
     @Modifying
-    @Query("INSERT IGNORE INTO game_launch_records (user_id, game_id) VALUES (:userId, :gameId)")
-    boolean insertIgnore(@Param("userId") Long userId, @Param("gameId") Long gameId);
-
-    @Query("SELECT COUNT(DISTINCT game_id) FROM game_launch_records WHERE user_id = :userId")
-    int countDistinctGamesByUserId(@Param("userId") Long userId);
+    @Query("INSERT IGNORE INTO game_launch_records (user_id, game_id, window_end) VALUES (:userId, :gameId, :windowEnd)")
+    boolean insertIgnore(@Param("userId") Long userId, @Param("gameId") Long gameId, @Param("windowEnd") LocalDate windowEnd);
 }
@@ -7,14 +7,10 @@ import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
-import java.util.List;
 
 public interface LoginRecordEntityRepository extends Repository<LoginRecordEntity, Long> {
 
     @Modifying
-    @Query("INSERT IGNORE INTO login_records (user_id, login_date) VALUES (:userId, :loginDate)")
-    boolean insertIgnore(@Param("userId") Long userId, @Param("loginDate") LocalDate loginDate);
-
-    @Query("SELECT login_date FROM login_records WHERE user_id = :userId AND login_date <= :asOfDate ORDER BY login_date DESC LIMIT 3")
-    List<LocalDate> findRecentLoginDates(@Param("userId") Long userId, @Param("asOfDate") LocalDate asOfDate);
+    @Query("INSERT IGNORE INTO login_records (user_id, login_date, window_end) VALUES (:userId, :loginDate, :windowEnd)")
+    boolean insertIgnore(@Param("userId") Long userId, @Param("loginDate") LocalDate loginDate, @Param("windowEnd") LocalDate windowEnd);
 }
@@ -6,11 +6,30 @@ import org.springframework.data.jdbc.repository.query.Query;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+
 public interface RewardEntityRepository extends Repository<RewardEntity, Long> {
 
+    /**
+     * Yields the reward row only when all missions completed within their window;
+     * INSERT IGNORE turns a second grant into a no-op.
+     */
     @Modifying
-    @Query("INSERT IGNORE INTO rewards (user_id, points) VALUES (:userId, :points)")
-    boolean insertIgnore(@Param("userId") Long userId, @Param("points") int points);
+    @Query("""
+        INSERT IGNORE INTO rewards (user_id, points)
+        SELECT m.user_id, :points
+        FROM missions m
+        WHERE m.user_id = :userId
+          AND m.mission_type IN (:missionTypes)
+          AND m.completed = true
+          AND m.completed_at <= m.expired_at
+        GROUP BY m.user_id
+        HAVING COUNT(*) = :missionCount
+        """)
+    boolean insertIfAllCompleted(@Param("userId") Long userId,
+                                 @Param("points") int points,
+                                 @Param("missionTypes") Collection<String> missionTypes,
+                                 @Param("missionCount") int missionCount);
 
     @Query("SELECT COUNT(*) FROM rewards WHERE user_id = :userId")
     int countByUserId(@Param("userId") Long userId);
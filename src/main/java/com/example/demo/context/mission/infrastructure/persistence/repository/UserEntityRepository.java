@@ -6,10 +6,14 @@ import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserEntityRepository extends CrudRepository<UserEntity, Long> {
 
     @Query("SELECT created_at FROM users WHERE id = :id")
     Optional<LocalDateTime> findCreatedAtById(@Param("id") Long id);
+
+    @Query("SELECT id, username, created_at FROM users WHERE id > :afterId ORDER BY id LIMIT :limit")
+    List<UserEntity> findPageAfter(@Param("afterId") long afterId, @Param("limit") int limit);
 }
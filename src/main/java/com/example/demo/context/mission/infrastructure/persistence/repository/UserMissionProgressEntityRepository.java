@@ -0,0 +1,44 @@
+package com.example.demo.context.mission.infrastructure.persistence.repository;
+
+import com.example.demo.context.mission.infrastructure.persistence.entity.UserMissionProgressEntity;
+import org.springframework.data.jdbc.repository.query.Modifying;
+import org.springframework.data.jdbc.repository.query.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface UserMissionProgressEntityRepository extends Repository<UserMissionProgressEntity, Long> {
+
+    /**
+     * login_days is assigned first so it still sees the previous last_login_date.
+     */
+    String MARK_LOGIN_DAY_ON_DUPLICATE = """
+        ON DUPLICATE KEY UPDATE
+            login_days = CASE
+                WHEN last_login_date IS NULL OR DATEDIFF(VALUES(last_login_date), last_login_date) >= 63 THEN 1
+                WHEN VALUES(last_login_date) >= last_login_date
+                    THEN ((login_days << DATEDIFF(VALUES(last_login_date), last_login_date)) | 1) & 9223372036854775807
+                WHEN DATEDIFF(last_login_date, VALUES(last_login_date)) < 63
+                    THEN login_days | (1 << DATEDIFF(last_login_date, VALUES(last_login_date)))
+                ELSE login_days
+            END,
+            last_login_date = GREATEST(COALESCE(last_login_date, VALUES(last_login_date)), VALUES(last_login_date))""";
+
+    @Modifying
+    @Query("INSERT INTO user_mission_progress (user_id, last_login_date, login_days) VALUES (:userId, :loginDate, 1) "
+        + MARK_LOGIN_DAY_ON_DUPLICATE)
+    void markLoginDay(@Param("userId") Long userId, @Param("loginDate") LocalDate loginDate);
+
+    @Modifying
+    @Query("""
+        INSERT INTO user_mission_progress (user_id, distinct_games) VALUES (:userId, 1)
+        ON DUPLICATE KEY UPDATE distinct_games = distinct_games + 1""")
+    void incrementDistinctGames(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("""
+        INSERT INTO user_mission_progress (user_id, play_sessions, total_score) VALUES (:userId, 1, :score)
+        ON DUPLICATE KEY UPDATE play_sessions = play_sessions + 1, total_score = total_score + :score""")
+    void addPlaySession(@Param("userId") Long userId, @Param("score") int score);
+}
@@ -1,26 +1,48 @@
 package com.example.demo.context.mission.interfaces.rest;
 
 import com.example.demo.common.cqrs.command.CommandBus;
+import com.example.demo.context.mission.application.command.ActionCommand;
+import com.example.demo.context.mission.application.command.BatchActionResult;
+import com.example.demo.context.mission.application.command.IngestActionBatchCommand;
 import com.example.demo.context.mission.application.command.LaunchGameCommand;
 import com.example.demo.context.mission.application.command.LoginCommand;
 import com.example.demo.context.mission.application.command.PlayGameCommand;
+import com.example.demo.context.mission.domain.exception.ActionBatchTooLargeException;
 import com.example.demo.context.mission.domain.exception.IdempotencyKeyRequiredException;
+import com.example.demo.context.mission.interfaces.rest.dto.BatchActionRequest;
+import com.example.demo.context.mission.interfaces.rest.dto.BatchActionResponse;
 import com.example.demo.context.mission.interfaces.rest.dto.LaunchGameRequest;
 import com.example.demo.context.mission.interfaces.rest.dto.LoginRequest;
 import com.example.demo.context.mission.interfaces.rest.dto.PlayGameRequest;
+import com.example.demo.context.shared.domain.DomainException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class ActionController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final String MALFORMED_ACTION = "MALFORMED_ACTION";
+    private static final String VALIDATION_FAILED = "VALIDATION_FAILED";
+
     private final CommandBus commandBus;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
 
     @PostMapping("/login")
     public ResponseEntity<Void> login(@Valid @RequestBody LoginRequest request) {
@@ -57,6 +79,91 @@ public class ActionController {
         return ResponseEntity.accepted().build();
     }
 
+    @PostMapping(value = "/actions:batch", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BatchActionResponse> ingestBatch(@RequestBody List<JsonNode> items) {
+        return ingest(items);
+    }
+
+    @PostMapping(value = "/actions:batch", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BatchActionResponse> ingestNdjsonBatch(@RequestBody String body) {
+        List<JsonNode> items = body.lines()
+            .filter(line -> !line.isBlank())
+            .map(this::readLine)
+            .toList();
+        return ingest(items);
+    }
+
+    private ResponseEntity<BatchActionResponse> ingest(List<JsonNode> items) {
+        if (items.size() > MAX_BATCH_SIZE) {
+            throw new ActionBatchTooLargeException(items.size(), MAX_BATCH_SIZE);
+        }
+
+        BatchActionResult[] results = new BatchActionResult[items.size()];
+        List<ActionCommand> commands = new ArrayList<>(items.size());
+        List<Integer> positions = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            try {
+                commands.add(toCommand(items.get(i)));
+                positions.add(i);
+            } catch (RejectedActionException e) {
+                results[i] = BatchActionResult.rejected(e.code);
+            } catch (DomainException e) {
+                results[i] = BatchActionResult.rejected(e.getCode());
+            }
+        }
+
+        if (!commands.isEmpty()) {
+            List<BatchActionResult> handled = commandBus.execute(new IngestActionBatchCommand(commands));
+            for (int j = 0; j < positions.size(); j++) {
+                results[positions.get(j)] = handled.get(j);
+            }
+        }
+        return ResponseEntity.accepted().body(BatchActionResponse.from(List.of(results)));
+    }
+
+    private JsonNode readLine(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return MissingNode.getInstance();
+        }
+    }
+
+    private ActionCommand toCommand(JsonNode item) {
+        BatchActionRequest request;
+        try {
+            request = item == null || item.isMissingNode() ? null : objectMapper.treeToValue(item, BatchActionRequest.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new RejectedActionException(MALFORMED_ACTION);
+        }
+        if (request == null) {
+            throw new RejectedActionException(MALFORMED_ACTION);
+        }
+        if (!validator.validate(request).isEmpty()) {
+            throw new RejectedActionException(VALIDATION_FAILED);
+        }
+
+        long occurredAt = resolveOccurredAt(request.occurredAt());
+        return switch (request.type()) {
+            case LOGIN -> new LoginCommand(request.userId(), required(request.loginDate()), occurredAt);
+            case LAUNCH_GAME -> new LaunchGameCommand(request.userId(), required(request.gameId()), occurredAt);
+            case PLAY -> new PlayGameCommand(
+                request.userId(),
+                required(request.gameId()),
+                required(request.score()),
+                resolveIdempotencyKey(null, request.idempotencyKey()),
+                occurredAt
+            );
+        };
+    }
+
+    private static <T> T required(T value) {
+        if (value == null) {
+            throw new RejectedActionException(VALIDATION_FAILED);
+        }
+        return value;
+    }
+
     private String resolveIdempotencyKey(String headerKey, String bodyKey) {
         if (headerKey != null && !headerKey.isBlank()) return headerKey;
         if (bodyKey != null && !bodyKey.isBlank()) return bodyKey;
@@ -66,4 +173,16 @@ public class ActionController {
     private long resolveOccurredAt(Long occurredAt) {
         return occurredAt != null ? occurredAt : System.currentTimeMillis();
     }
+
+    /**
+     * Expected input, not an error, so stack traces are skipped.
+     */
+    private static final class RejectedActionException extends RuntimeException {
+        private final String code;
+
+        RejectedActionException(String code) {
+            super(code, null, false, false);
+            this.code = code;
+        }
+    }
 }
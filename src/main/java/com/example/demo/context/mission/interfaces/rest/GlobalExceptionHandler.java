@@ -1,11 +1,13 @@
 package com.example.demo.context.mission.interfaces.rest;
 
+import com.example.demo.context.mission.application.port.PublishBackpressureException;
 import com.example.demo.context.mission.domain.exception.GameNotFoundException;
 import com.example.demo.context.mission.domain.exception.UserNotFoundException;
 import com.example.demo.context.shared.domain.DomainException;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -36,6 +38,14 @@ public class GlobalExceptionHandler {
         ));
     }
 
+    @ExceptionHandler(PublishBackpressureException.class)
+    public ResponseEntity<Map<String, Object>> handlePublishBackpressure(PublishBackpressureException ex) {
+        log.debug("Rejected under publish backpressure: {}", ex.getMessage());
+        return ResponseEntity.status(503)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("code", "PUBLISH_BACKPRESSURE"));
+    }
+
     @ExceptionHandler(DomainException.class)
     public ResponseEntity<Map<String, Object>> handleDomainException(DomainException ex) {
         return ResponseEntity.badRequest().body(Map.of(
@@ -1,27 +1,123 @@
 package com.example.demo.context.mission.interfaces.rest;
 
 import com.example.demo.common.cqrs.query.QueryBus;
+import com.example.demo.context.mission.application.port.cache.MissionCenterVersion;
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
+import com.example.demo.context.mission.application.query.GetMissionCenterVersionQuery;
+import com.example.demo.context.mission.application.query.GetMissionsBulkQuery;
 import com.example.demo.context.mission.application.query.GetMissionsQuery;
 import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+import com.example.demo.context.mission.interfaces.rest.dto.MissionsBulkRequest;
+import com.example.demo.context.mission.interfaces.rest.dto.UserMissionsResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @RestController
-@RequestMapping("/missions")
 @RequiredArgsConstructor
 public class MissionController {
 
     private final QueryBus queryBus;
+    private final MissionStreamRegistry missionStreamRegistry;
+    private final ObjectMapper objectMapper;
 
-    @GetMapping
-    public ResponseEntity<List<MissionResponse>> getMissions(@RequestParam Long userId) {
-        List<MissionResponse> missions = queryBus.execute(new GetMissionsQuery(userId));
-        return ResponseEntity.ok(missions);
+    /**
+     * A matching {@code If-None-Match} is answered with 304 from a single version lookup.
+     */
+    @GetMapping("/missions")
+    public ResponseEntity<List<MissionResponse>> getMissions(
+        @RequestParam Long userId,
+        @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Optional<String> current = queryBus.execute(new GetMissionCenterVersionQuery(userId))
+                .map(MissionController::etag);
+            if (current.isPresent() && matches(ifNoneMatch, current.get())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(current.get())
+                    .cacheControl(CacheControl.noCache().cachePrivate())
+                    .build();
+            }
+        }
+
+        MissionCenterView view = queryBus.execute(new GetMissionsQuery(userId));
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache().cachePrivate());
+        view.versionStamp().ifPresent(version -> response.eTag(etag(version)));
+        return response.body(view.missions());
+    }
+
+    /**
+     * Event ids carry the projection version, so a client can ignore deltas not newer than
+     * its snapshot and detect gaps.
+     */
+    @GetMapping(value = "/missions/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamMissions(@RequestParam Long userId) {
+        MissionCenterView view = queryBus.execute(new GetMissionsQuery(userId));
+        SseEmitter emitter = missionStreamRegistry.open(userId);
+        try {
+            SseEmitter.SseEventBuilder snapshot = SseEmitter.event().name("snapshot");
+            view.versionStamp().ifPresent(version -> snapshot.id(Long.toString(version.version())));
+            emitter.send(snapshot.data(view.missions()));
+        } catch (IOException e) {
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    @PostMapping(value = "/missions:bulk", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> getMissionsBulk(@Valid @RequestBody MissionsBulkRequest request) {
+        Stream<List<UserMissionsResponse>> chunks = queryBus.execute(new GetMissionsBulkQuery(request.userIds()));
+        StreamingResponseBody body = out -> {
+            try (chunks) {
+                Iterator<List<UserMissionsResponse>> iterator = chunks.iterator();
+                while (iterator.hasNext()) {
+                    for (UserMissionsResponse user : iterator.next()) {
+                        out.write(objectMapper.writeValueAsBytes(user));
+                        out.write('\n');
+                    }
+                    out.flush();
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    private static String etag(MissionCenterVersion version) {
+        return "\"" + version.version() + "-" + version.asOfDate() + "\"";
+    }
+
+    /**
+     * {@code *} is not honoured: it would answer 304 where the full request answers 404.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
@@ -0,0 +1,14 @@
+package com.example.demo.context.mission.interfaces.rest;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties("mission.stream")
+public record MissionStreamProperties(
+    @DefaultValue("30m") Duration timeout,
+    @DefaultValue("4") int maxStreamsPerUser,
+    @DefaultValue("64") int maxPendingEvents
+) {
+}
@@ -0,0 +1,170 @@
+package com.example.demo.context.mission.interfaces.rest;
+
+import com.example.demo.context.mission.application.port.MissionCenterUpdate;
+import com.example.demo.context.mission.application.port.MissionCenterUpdateListener;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Deque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Events are written off the calling thread, one writer per stream, so a client that stops
+ * reading blocks only its own writer. A stream with a full backlog is closed.
+ */
+@Slf4j
+@Component
+public class MissionStreamRegistry implements MissionCenterUpdateListener {
+
+    private final MissionStreamProperties properties;
+    private final Executor sender;
+    private final ConcurrentMap<Long, Deque<Stream>> streams = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+
+    @Autowired
+    public MissionStreamRegistry(MissionStreamProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    MissionStreamRegistry(MissionStreamProperties properties, MeterRegistry meterRegistry, Executor sender) {
+        this.properties = properties;
+        this.sender = sender;
+        Gauge.builder("mission.stream.connections", openStreams, AtomicInteger::get)
+            .register(meterRegistry);
+    }
+
+    public SseEmitter open(Long userId) {
+        SseEmitter emitter = new SseEmitter(properties.timeout().toMillis());
+        Stream stream = new Stream(userId, emitter);
+        emitter.onCompletion(() -> remove(stream));
+        emitter.onTimeout(() -> remove(stream));
+        emitter.onError(e -> remove(stream));
+
+        Deque<Stream> userStreams = streams.compute(userId, (id, existing) -> {
+            Deque<Stream> deque = existing != null ? existing : new ConcurrentLinkedDeque<>();
+            deque.addLast(stream);
+            return deque;
+        });
+        openStreams.incrementAndGet();
+        while (userStreams.size() > properties.maxStreamsPerUser()) {
+            Stream oldest = userStreams.peekFirst();
+            if (oldest == null || oldest == stream) {
+                break;
+            }
+            remove(oldest);
+            oldest.emitter().complete();
+        }
+        return emitter;
+    }
+
+    @Override
+    public void onUpdate(MissionCenterUpdate update) {
+        Deque<Stream> userStreams = streams.get(update.userId());
+        if (userStreams == null) {
+            return;
+        }
+        for (Stream stream : userStreams) {
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(update.type().eventName());
+            if (update.version() > 0) {
+                event.id(Long.toString(update.version()));
+            }
+            stream.enqueue(event.data(update));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${mission.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        streams.forEach((userId, userStreams) -> {
+            for (Stream stream : userStreams) {
+                stream.enqueue(SseEmitter.event().comment("ping"));
+            }
+        });
+    }
+
+    int openStreams() {
+        return openStreams.get();
+    }
+
+    private void remove(Stream stream) {
+        streams.computeIfPresent(stream.userId(), (id, userStreams) -> {
+            if (userStreams.remove(stream)) {
+                openStreams.decrementAndGet();
+            }
+            return userStreams.isEmpty() ? null : userStreams;
+        });
+    }
+
+    private void close(Stream stream, Exception cause) {
+        log.debug("Closing mission stream for userId={}: {}", stream.userId(), cause.getMessage());
+        remove(stream);
+        stream.emitter().completeWithError(cause);
+    }
+
+    private final class Stream {
+
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean writing = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Stream(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        Long userId() {
+            return userId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (closed) {
+                return;
+            }
+            if (pendingCount.incrementAndGet() > properties.maxPendingEvents()) {
+                closed = true;
+                close(this, new IllegalStateException("client is not reading, backlog of "
+                    + properties.maxPendingEvents() + " events"));
+                return;
+            }
+            pending.add(event);
+            if (writing.compareAndSet(false, true)) {
+                sender.execute(this::write);
+            }
+        }
+
+        private void write() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while (!closed && (event = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (Exception e) {
+                        closed = true;
+                        close(this, e);
+                    }
+                }
+                writing.set(false);
+            } while (!closed && !pending.isEmpty() && writing.compareAndSet(false, true));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.context.mission.interfaces.rest;
+
+import com.example.demo.common.cqrs.query.QueryBus;
+import com.example.demo.context.mission.application.query.GetLoginCalendarQuery;
+import com.example.demo.context.mission.interfaces.rest.dto.LoginCalendarResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class UserLoginController {
+
+    private final QueryBus queryBus;
+
+    @GetMapping("/users/{userId}/logins")
+    public ResponseEntity<LoginCalendarResponse> getLoginCalendar(@PathVariable Long userId) {
+        return ResponseEntity.ok(queryBus.execute(new GetLoginCalendarQuery(userId)));
+    }
+}
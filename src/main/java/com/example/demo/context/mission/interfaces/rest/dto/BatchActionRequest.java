@@ -0,0 +1,25 @@
+package com.example.demo.context.mission.interfaces.rest.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+
+public record BatchActionRequest(
+    @NotNull Type type,
+    @NotNull Long userId,
+    Long gameId,
+    LocalDate loginDate,
+    @Min(0) Integer score,
+    @Size(max = 100) String idempotencyKey,
+    Long occurredAt
+) {
+
+    public enum Type {
+        @JsonProperty("login") LOGIN,
+        @JsonProperty("launchGame") LAUNCH_GAME,
+        @JsonProperty("play") PLAY
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.demo.context.mission.interfaces.rest.dto;
+
+import com.example.demo.context.mission.application.command.BatchActionResult;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public record BatchActionResponse(int accepted, int rejected, List<Item> results) {
+
+    public record Item(int index, BatchActionResult.Status status, String code) {
+    }
+
+    public static BatchActionResponse from(List<BatchActionResult> results) {
+        List<Item> items = new ArrayList<>(results.size());
+        int accepted = 0;
+        for (int i = 0; i < results.size(); i++) {
+            BatchActionResult result = results.get(i);
+            if (result.isAccepted()) {
+                accepted++;
+            }
+            items.add(new Item(i, result.status(), result.code()));
+        }
+        return new BatchActionResponse(accepted, results.size() - accepted, items);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.demo.context.mission.interfaces.rest.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record LoginCalendarResponse(
+    Long userId,
+    LocalDate from,
+    LocalDate to,
+    List<LocalDate> loginDates,
+    int currentStreak
+) {
+}
@@ -0,0 +1,11 @@
+package com.example.demo.context.mission.interfaces.rest.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Set;
+
+public record MissionsBulkRequest(
+    @NotEmpty Set<@NotNull Long> userIds
+) {
+}
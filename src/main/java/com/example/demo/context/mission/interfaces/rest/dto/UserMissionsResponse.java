@@ -0,0 +1,6 @@
+package com.example.demo.context.mission.interfaces.rest.dto;
+
+import java.util.List;
+
+public record UserMissionsResponse(Long userId, List<MissionResponse> missions) {
+}
@@ -0,0 +1,151 @@
+package com.example.demo.context.mission.application.command;
+
+import com.example.demo.context.mission.application.command.BatchActionResult.Status;
+import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
+import com.example.demo.context.mission.application.port.UserActionEventPublisher;
+import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.application.service.IngressGate;
+import com.example.demo.context.mission.application.service.MissionInitializationService;
+import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.GamePlayedEvent;
+import com.example.demo.context.mission.domain.event.UserActionEvent;
+import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngestActionBatchCommandHandlerTest {
+
+    @Mock UserQueryPort userQueryPort;
+    @Mock GameQueryPort gameQueryPort;
+    @Mock IngressGate ingressGate;
+    @Mock MissionInitializationService missionInitializationService;
+    @Mock UserActionEventPublisher userActionEventPublisher;
+    @Mock ReferenceSnapshotSigner referenceSnapshotSigner;
+    @InjectMocks IngestActionBatchCommandHandler handler;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDate LOGIN_DATE = LocalDate.of(2026, 1, 10);
+
+    @Test
+    void handle_resolvesReferencesOnceAndPublishesAllValidActionsInOneCall() {
+        when(userQueryPort.getUserCreatedAts(Set.of(1L, 2L))).thenReturn(Map.of(1L, CREATED_AT, 2L, CREATED_AT));
+        when(gameQueryPort.findExistingGameIds(Set.of(10L, 11L))).thenReturn(Set.of(10L, 11L));
+        when(userActionEventPublisher.publishAll(any())).thenReturn(new BitSet());
+
+        List<BatchActionResult> results = handler.handle(new IngestActionBatchCommand(List.of(
+            new LoginCommand(1L, LOGIN_DATE, 0L),
+            new LaunchGameCommand(1L, 10L, 0L),
+            new PlayGameCommand(2L, 11L, 300, "key-1", 0L)
+        )));
+
+        assertThat(results).extracting(BatchActionResult::status).containsOnly(Status.ACCEPTED);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserActionEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userActionEventPublisher).publishAll(captor.capture());
+        assertThat(captor.getValue()).hasExactlyElementsOfTypes(
+            UserLoggedInEvent.class, GameLaunchedEvent.class, GamePlayedEvent.class);
+        verify(userQueryPort, times(1)).getUserCreatedAts(any());
+        verify(gameQueryPort, times(1)).findExistingGameIds(any());
+    }
+
+    @Test
+    void handle_initializesMissionsOncePerUser() {
+        when(userQueryPort.getUserCreatedAts(Set.of(1L))).thenReturn(Map.of(1L, CREATED_AT));
+        when(userActionEventPublisher.publishAll(any())).thenReturn(new BitSet());
+
+        handler.handle(new IngestActionBatchCommand(List.of(
+            new LoginCommand(1L, LOGIN_DATE, 0L),
+            new LoginCommand(1L, LOGIN_DATE.plusDays(1), 0L)
+        )));
+
+        verify(missionInitializationService, times(1)).ensureMissionsExist(1L, CREATED_AT.plusDays(30));
+    }
+
+    @Test
+    void handle_rejectsUnknownUsersAndGamesPerItem() {
+        when(userQueryPort.getUserCreatedAts(Set.of(1L, 99L))).thenReturn(Map.of(1L, CREATED_AT));
+        when(gameQueryPort.findExistingGameIds(Set.of(10L, 98L))).thenReturn(Set.of(10L));
+        when(userActionEventPublisher.publishAll(any())).thenReturn(new BitSet());
+
+        List<BatchActionResult> results = handler.handle(new IngestActionBatchCommand(List.of(
+            new LaunchGameCommand(99L, 10L, 0L),
+            new LaunchGameCommand(1L, 98L, 0L),
+            new LaunchGameCommand(1L, 10L, 0L)
+        )));
+
+        assertThat(results).containsExactly(
+            BatchActionResult.rejected(BatchActionResult.USER_NOT_FOUND),
+            BatchActionResult.rejected(BatchActionResult.GAME_NOT_FOUND),
+            BatchActionResult.accepted()
+        );
+        verify(missionInitializationService, never()).ensureMissionsExist(eq(99L), any());
+    }
+
+    @Test
+    void handle_reportsPublishFailuresAtTheOriginalPosition() {
+        when(userQueryPort.getUserCreatedAts(Set.of(1L, 99L))).thenReturn(Map.of(1L, CREATED_AT));
+        BitSet failed = new BitSet();
+        failed.set(1);
+        when(userActionEventPublisher.publishAll(any())).thenReturn(failed);
+
+        List<BatchActionResult> results = handler.handle(new IngestActionBatchCommand(List.of(
+            new LoginCommand(99L, LOGIN_DATE, 0L),
+            new LoginCommand(1L, LOGIN_DATE, 0L),
+            new LoginCommand(1L, LOGIN_DATE.plusDays(1), 0L)
+        )));
+
+        assertThat(results).containsExactly(
+            BatchActionResult.rejected(BatchActionResult.USER_NOT_FOUND),
+            BatchActionResult.accepted(),
+            BatchActionResult.rejected(BatchActionResult.PUBLISH_FAILED)
+        );
+    }
+
+    @Test
+    void handle_doesNotPublishWhenNothingIsValid() {
+        when(userQueryPort.getUserCreatedAts(Set.of(99L))).thenReturn(Map.of());
+
+        handler.handle(new IngestActionBatchCommand(List.of(new LoginCommand(99L, LOGIN_DATE, 0L))));
+
+        verify(userActionEventPublisher, never()).publishAll(any());
+        verify(gameQueryPort, never()).findExistingGameIds(any());
+    }
+
+    @Test
+    void handle_acknowledgesSkippedUsersWithoutPublishing() {
+        when(userQueryPort.getUserCreatedAts(Set.of(1L, 2L))).thenReturn(Map.of(1L, CREATED_AT, 2L, CREATED_AT));
+        when(ingressGate.shouldSkip(1L, CREATED_AT.plusDays(30))).thenReturn(true);
+        when(userActionEventPublisher.publishAll(any())).thenReturn(new BitSet());
+
+        List<BatchActionResult> results = handler.handle(new IngestActionBatchCommand(List.of(
+            new LoginCommand(1L, LOGIN_DATE, 0L),
+            new LoginCommand(2L, LOGIN_DATE, 0L),
+            new LoginCommand(1L, LOGIN_DATE.plusDays(1), 0L)
+        )));
+
+        assertThat(results).extracting(BatchActionResult::status).containsOnly(Status.ACCEPTED);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UserActionEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(userActionEventPublisher).publishAll(captor.capture());
+        assertThat(captor.getValue()).extracting(UserActionEvent::userId).containsExactly(2L);
+        verify(ingressGate, times(1)).shouldSkip(eq(1L), any());
+        verify(missionInitializationService, never()).ensureMissionsExist(eq(1L), any());
+    }
+}
@@ -1,10 +1,13 @@
 package com.example.demo.context.mission.application.command;
 
 import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserActionEventPublisher;
 import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.application.service.IngressGate;
 import com.example.demo.context.mission.application.service.MissionInitializationService;
 import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import com.example.demo.context.mission.domain.exception.GameNotFoundException;
 import com.example.demo.context.mission.domain.exception.UserNotFoundException;
 import org.junit.jupiter.api.Test;
@@ -31,12 +34,18 @@ class LaunchGameCommandHandlerTest {
     @Mock
     GameQueryPort gameQueryPort;
 
+    @Mock
+    IngressGate ingressGate;
+
     @Mock
     MissionInitializationService missionInitializationService;
 
     @Mock
     UserActionEventPublisher userActionEventPublisher;
 
+    @Mock
+    ReferenceSnapshotSigner referenceSnapshotSigner;
+
     @InjectMocks
     LaunchGameCommandHandler handler;
 
@@ -57,6 +66,20 @@ class LaunchGameCommandHandlerTest {
         assertThat(captor.getValue().gameId()).isEqualTo(GAME_ID);
     }
 
+    @Test
+    void handle_attachesSignedReferenceSnapshot() {
+        var snapshot = new ReferenceSnapshot(1, CREATED_AT, CREATED_AT.plusDays(30), GAME_ID, 0L, "sig");
+        when(userQueryPort.getUserCreatedAt(USER_ID)).thenReturn(Optional.of(CREATED_AT));
+        when(gameQueryPort.gameExists(GAME_ID)).thenReturn(true);
+        when(referenceSnapshotSigner.sign(USER_ID, CREATED_AT, CREATED_AT.plusDays(30), GAME_ID)).thenReturn(snapshot);
+
+        handler.handle(new LaunchGameCommand(USER_ID, GAME_ID, 0L));
+
+        ArgumentCaptor<GameLaunchedEvent> captor = ArgumentCaptor.forClass(GameLaunchedEvent.class);
+        verify(userActionEventPublisher).publish(captor.capture());
+        assertThat(captor.getValue().reference()).isSameAs(snapshot);
+    }
+
     @Test
     void handle_initializesMissionsWithCreatedAtPlus30Days() {
         when(userQueryPort.getUserCreatedAt(USER_ID)).thenReturn(Optional.of(CREATED_AT));
@@ -121,4 +144,16 @@ class LaunchGameCommandHandlerTest {
         verify(userActionEventPublisher).publish(captor.capture());
         assertThat(captor.getValue().occurredAt()).isEqualTo(occurredAt);
     }
+
+    @Test
+    void handle_skipsPublishingWhenNoMissionWorkRemains() {
+        when(userQueryPort.getUserCreatedAt(USER_ID)).thenReturn(Optional.of(CREATED_AT));
+        when(gameQueryPort.gameExists(GAME_ID)).thenReturn(true);
+        when(ingressGate.shouldSkip(USER_ID, CREATED_AT.plusDays(30))).thenReturn(true);
+
+        handler.handle(new LaunchGameCommand(USER_ID, GAME_ID, 0L));
+
+        verify(userActionEventPublisher, never()).publish(any());
+        verifyNoInteractions(missionInitializationService);
+    }
 }
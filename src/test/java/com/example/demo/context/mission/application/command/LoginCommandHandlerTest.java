@@ -1,7 +1,9 @@
 package com.example.demo.context.mission.application.command;
 
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserActionEventPublisher;
 import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.application.service.IngressGate;
 import com.example.demo.context.mission.application.service.MissionInitializationService;
 import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
 import com.example.demo.context.mission.domain.exception.UserNotFoundException;
@@ -27,12 +29,18 @@ class LoginCommandHandlerTest {
     @Mock
     UserQueryPort userQueryPort;
 
+    @Mock
+    IngressGate ingressGate;
+
     @Mock
     MissionInitializationService missionInitializationService;
 
     @Mock
     UserActionEventPublisher userActionEventPublisher;
 
+    @Mock
+    ReferenceSnapshotSigner referenceSnapshotSigner;
+
     @InjectMocks
     LoginCommandHandler handler;
 
@@ -92,4 +100,15 @@ class LoginCommandHandlerTest {
         verify(userActionEventPublisher).publish(captor.capture());
         assertThat(captor.getValue().occurredAt()).isEqualTo(occurredAt);
     }
+
+    @Test
+    void handle_skipsPublishingWhenNoMissionWorkRemains() {
+        when(userQueryPort.getUserCreatedAt(USER_ID)).thenReturn(Optional.of(CREATED_AT));
+        when(ingressGate.shouldSkip(USER_ID, CREATED_AT.plusDays(30))).thenReturn(true);
+
+        handler.handle(new LoginCommand(USER_ID, LOGIN_DATE, 0L));
+
+        verify(userActionEventPublisher, never()).publish(any());
+        verifyNoInteractions(missionInitializationService);
+    }
 }
@@ -1,8 +1,10 @@
 package com.example.demo.context.mission.application.command;
 
 import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserActionEventPublisher;
 import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.application.service.IngressGate;
 import com.example.demo.context.mission.application.service.MissionInitializationService;
 import com.example.demo.context.mission.domain.event.GamePlayedEvent;
 import com.example.demo.context.mission.domain.exception.GameNotFoundException;
@@ -31,12 +33,18 @@ class PlayGameCommandHandlerTest {
     @Mock
     GameQueryPort gameQueryPort;
 
+    @Mock
+    IngressGate ingressGate;
+
     @Mock
     MissionInitializationService missionInitializationService;
 
     @Mock
     UserActionEventPublisher userActionEventPublisher;
 
+    @Mock
+    ReferenceSnapshotSigner referenceSnapshotSigner;
+
     @InjectMocks
     PlayGameCommandHandler handler;
 
@@ -123,4 +131,16 @@ class PlayGameCommandHandlerTest {
         verify(userActionEventPublisher).publish(captor.capture());
         assertThat(captor.getValue().occurredAt()).isEqualTo(occurredAt);
     }
+
+    @Test
+    void handle_skipsPublishingWhenNoMissionWorkRemains() {
+        when(userQueryPort.getUserCreatedAt(USER_ID)).thenReturn(Optional.of(CREATED_AT));
+        when(gameQueryPort.gameExists(GAME_ID)).thenReturn(true);
+        when(ingressGate.shouldSkip(USER_ID, CREATED_AT.plusDays(30))).thenReturn(true);
+
+        handler.handle(new PlayGameCommand(USER_ID, GAME_ID, 100, "key", 0L));
+
+        verify(userActionEventPublisher, never()).publish(any());
+        verifyNoInteractions(missionInitializationService);
+    }
 }
@@ -0,0 +1,61 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.context.mission.application.port.LoginRecordPort;
+import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.domain.exception.UserNotFoundException;
+import com.example.demo.context.mission.domain.model.LoginCalendar;
+import com.example.demo.context.mission.interfaces.rest.dto.LoginCalendarResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GetLoginCalendarQueryHandlerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock UserQueryPort userQueryPort;
+    @Mock LoginRecordPort loginRecordPort;
+
+    GetLoginCalendarQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        handler = new GetLoginCalendarQueryHandler(userQueryPort, loginRecordPort, clock);
+    }
+
+    @Test
+    void handle_returnsLoginsInWindowWithCurrentStreak() {
+        when(userQueryPort.userExists(1L)).thenReturn(true);
+        // logged in today, yesterday, and 40 days ago (outside the window)
+        when(loginRecordPort.findLoginCalendar(1L)).thenReturn(new LoginCalendar(TODAY, 0b11L | 1L << 40));
+
+        LoginCalendarResponse response = handler.handle(new GetLoginCalendarQuery(1L));
+
+        assertThat(response.from()).isEqualTo(TODAY.minusDays(GetLoginCalendarQueryHandler.WINDOW_DAYS - 1));
+        assertThat(response.to()).isEqualTo(TODAY);
+        assertThat(response.loginDates()).containsExactly(TODAY.minusDays(1), TODAY);
+        assertThat(response.currentStreak()).isEqualTo(2);
+    }
+
+    @Test
+    void handle_throwsForUnknownUser() {
+        when(userQueryPort.userExists(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> handler.handle(new GetLoginCalendarQuery(999L)))
+            .isInstanceOf(UserNotFoundException.class);
+        verifyNoInteractions(loginRecordPort);
+    }
+}
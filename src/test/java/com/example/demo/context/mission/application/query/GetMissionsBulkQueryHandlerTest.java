@@ -0,0 +1,70 @@
+package com.example.demo.context.mission.application.query;
+
+import com.example.demo.context.mission.application.service.MissionCenterProjectionService;
+import com.example.demo.context.mission.domain.exception.MissionBulkQueryTooLargeException;
+import com.example.demo.context.mission.interfaces.rest.dto.UserMissionsResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GetMissionsBulkQueryHandlerTest {
+
+    @Mock MissionCenterProjectionService missionCenterProjectionService;
+    @InjectMocks GetMissionsBulkQueryHandler handler;
+
+    private static Set<Long> userIds(long count) {
+        return LongStream.rangeClosed(1, count).boxed().collect(Collectors.toSet());
+    }
+
+    @Test
+    void handle_loadsOneChunkAtATimeInUserIdOrder() {
+        when(missionCenterProjectionService.buildAll(anyCollection())).thenAnswer(invocation -> {
+            Collection<Long> chunk = invocation.getArgument(0);
+            Map<Long, List<?>> views = new LinkedHashMap<>();
+            chunk.forEach(userId -> views.put(userId, List.of()));
+            return views;
+        });
+
+        Stream<List<UserMissionsResponse>> chunks = handler.handle(new GetMissionsBulkQuery(userIds(1_200)));
+        verifyNoInteractions(missionCenterProjectionService);
+
+        List<List<UserMissionsResponse>> loaded = chunks.toList();
+        assertThat(loaded).extracting(List::size).containsExactly(500, 500, 200);
+        assertThat(loaded.get(0).get(0).userId()).isEqualTo(1L);
+        assertThat(loaded.get(2).get(199).userId()).isEqualTo(1_200L);
+        verify(missionCenterProjectionService, times(3)).buildAll(anyCollection());
+    }
+
+    @Test
+    void handle_omitsUnknownUsers() {
+        when(missionCenterProjectionService.buildAll(List.of(1L, 2L))).thenReturn(Map.of(2L, List.of()));
+
+        List<List<UserMissionsResponse>> loaded = handler.handle(new GetMissionsBulkQuery(Set.of(1L, 2L))).toList();
+
+        assertThat(loaded).hasSize(1);
+        assertThat(loaded.get(0)).containsExactly(new UserMissionsResponse(2L, List.of()));
+    }
+
+    @Test
+    void handle_rejectsTooManyUserIds() {
+        assertThatThrownBy(() -> handler.handle(new GetMissionsBulkQuery(userIds(10_001))))
+            .isInstanceOf(MissionBulkQueryTooLargeException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.context.mission.application.service;
+
+import com.example.demo.context.mission.application.port.cache.MissionCompletionCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IngressGateTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-01T12:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final LocalDateTime TODAY = LocalDateTime.ofInstant(NOW, ZONE);
+
+    @Mock
+    MissionCompletionCache missionCompletionCache;
+
+    SimpleMeterRegistry meterRegistry;
+    IngressGate gate;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gate = new IngressGate(Clock.fixed(NOW, ZONE), missionCompletionCache, meterRegistry);
+    }
+
+    private double skipped(String reason) {
+        return meterRegistry.counter("mission.ingress.skipped", "reason", reason).count();
+    }
+
+    // ── window ended ────────────────────────────────────────────────────────
+
+    @Test
+    void shouldSkip_whenWindowEndedWithoutCheckingCache() {
+        assertThat(gate.shouldSkip(1L, TODAY.minusSeconds(1))).isTrue();
+
+        assertThat(skipped("expired")).isEqualTo(1.0);
+        verify(missionCompletionCache, never()).isAllCompleted(any());
+    }
+
+    // ── reward granted ──────────────────────────────────────────────────────
+
+    @Test
+    void shouldSkip_whenRewardCachedAsGranted() {
+        when(missionCompletionCache.isAllCompleted(1L)).thenReturn(true);
+
+        assertThat(gate.shouldSkip(1L, TODAY.plusDays(5))).isTrue();
+        assertThat(skipped("completed")).isEqualTo(1.0);
+    }
+
+    // ── work remaining ──────────────────────────────────────────────────────
+
+    @Test
+    void shouldNotSkip_whenWindowOpenAndRewardPending() {
+        when(missionCompletionCache.isAllCompleted(1L)).thenReturn(false);
+
+        assertThat(gate.shouldSkip(1L, TODAY.plusDays(5))).isFalse();
+    }
+
+    @Test
+    void shouldNotSkip_whenCacheUnavailable() {
+        when(missionCompletionCache.isAllCompleted(1L)).thenThrow(new RuntimeException("Redis down"));
+
+        assertThat(gate.shouldSkip(1L, TODAY.plusDays(5))).isFalse();
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.demo.context.mission.application.service;
+
+import com.example.demo.context.mission.application.port.MissionCenterNotifier;
+import com.example.demo.context.mission.application.port.MissionCenterUpdate;
+import com.example.demo.context.mission.application.port.MissionProgress;
+import com.example.demo.context.mission.application.port.MissionProgressQueryPort;
+import com.example.demo.context.mission.application.port.cache.MissionCenterVersion;
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
+import com.example.demo.context.mission.application.port.cache.MissionCenterViewCache;
+import com.example.demo.context.mission.application.query.CriteriaComputer;
+import com.example.demo.context.mission.domain.exception.UserNotFoundException;
+import com.example.demo.context.mission.domain.model.Mission;
+import com.example.demo.context.mission.domain.model.MissionType;
+import com.example.demo.context.mission.domain.model.StandardMissionRules;
+import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MissionCenterProjectionServiceTest {
+
+    private static final Instant NOW = Instant.parse("2026-02-01T12:00:00Z");
+    private static final ZoneId ZONE = ZoneId.of("UTC");
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 1);
+    private static final Long USER_ID = 1L;
+    private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    @Mock MissionProgressQueryPort missionProgressQueryPort;
+    @Mock MissionCenterViewCache missionCenterViewCache;
+    @Mock MissionCenterNotifier missionCenterNotifier;
+
+    MissionCenterProjectionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new MissionCenterProjectionService(
+            Clock.fixed(NOW, ZONE), missionProgressQueryPort, missionCenterViewCache, missionCenterNotifier,
+            new CriteriaComputer(StandardMissionRules.rulebook()));
+    }
+
+    private static MissionProgress progress() {
+        var missions = List.of(
+            Mission.reconstitute(1L, USER_ID, MissionType.CONSECUTIVE_LOGIN, false, null, EXPIRED_AT),
+            Mission.reconstitute(2L, USER_ID, MissionType.DIFFERENT_GAMES, true,
+                LocalDateTime.of(2026, 1, 20, 10, 0), EXPIRED_AT),
+            Mission.reconstitute(3L, USER_ID, MissionType.PLAY_SCORE, false, null, EXPIRED_AT)
+        );
+        return new MissionProgress(missions, 2, 3, 5, 800);
+    }
+
+    // ── getView ─────────────────────────────────────────────────────────────
+
+    @Nested
+    class GetView {
+
+        @Test
+        void servesCachedViewWithoutDbRead() {
+            var cached = new MissionCenterView(List.of(), TODAY, 42L);
+            when(missionCenterViewCache.find(USER_ID, TODAY)).thenReturn(Optional.of(cached));
+
+            assertThat(service.getView(USER_ID)).isSameAs(cached);
+            verifyNoInteractions(missionProgressQueryPort);
+        }
+
+        @Test
+        void buildsAndRepairsOnMiss() {
+            when(missionCenterViewCache.find(USER_ID, TODAY)).thenReturn(Optional.empty());
+            when(missionCenterViewCache.currentVersion(USER_ID)).thenReturn(42L);
+            when(missionProgressQueryPort.findMissionProgress(USER_ID, TODAY)).thenReturn(Optional.of(progress()));
+
+            MissionCenterView view = service.getView(USER_ID);
+
+            assertThat(view.version()).isEqualTo(42L);
+            List<MissionResponse> missions = view.missions();
+            assertThat(missions).hasSize(3);
+            assertThat(missions.get(0).criteria().get(0).progress()).isEqualTo(2);
+            assertThat(missions.get(1).completed()).isTrue();
+            assertThat(missions.get(2).criteria()).extracting(MissionResponse.Criterion::progress)
+                .containsExactly(5, 800);
+            verify(missionCenterViewCache).save(USER_ID, 42L, TODAY, missions);
+        }
+
+        @Test
+        void capsDisplayedProgressAtTarget() {
+            var missions = List.of(
+                Mission.reconstitute(1L, USER_ID, MissionType.CONSECUTIVE_LOGIN, true,
+                    LocalDateTime.of(2026, 1, 20, 10, 0), EXPIRED_AT));
+            when(missionCenterViewCache.find(USER_ID, TODAY)).thenReturn(Optional.empty());
+            when(missionCenterViewCache.currentVersion(USER_ID)).thenReturn(42L);
+            when(missionProgressQueryPort.findMissionProgress(USER_ID, TODAY))
+                .thenReturn(Optional.of(new MissionProgress(missions, 63, 0, 0, 0)));
+
+            MissionResponse.Criterion streak = service.getView(USER_ID).missions().get(0).criteria().get(0);
+
+            assertThat(streak.progress()).isEqualTo(streak.target());
+        }
+
+        @Test
+        void fallsBackToDbWhenRedisIsDown() {
+            when(missionCenterViewCache.find(USER_ID, TODAY)).thenThrow(new RuntimeException("Redis down"));
+            when(missionCenterViewCache.currentVersion(USER_ID)).thenThrow(new RuntimeException("Redis down"));
+            when(missionProgressQueryPort.findMissionProgress(USER_ID, TODAY)).thenReturn(Optional.of(progress()));
+
+            MissionCenterView view = service.getView(USER_ID);
+
+            assertThat(view.missions()).hasSize(3);
+            assertThat(view.versionStamp()).isEmpty();
+            verify(missionCenterViewCache, never()).save(anyLong(), anyLong(), any(), anyList());
+        }
+
+        @Test
+        void seedsVersionWithoutSavingWhenNoneStored() {
+            when(missionCenterViewCache.find(USER_ID, TODAY)).thenReturn(Optional.empty());
+            when(missionCenterViewCache.currentVersion(USER_ID)).thenReturn(MissionCenterView.UNVERSIONED);
+            when(missionProgressQueryPort.findMissionProgress(USER_ID, TODAY)).thenReturn(Optional.of(progress()));
+
+            MissionCenterView view = service.getView(USER_ID);
+
+            assertThat(view.versionStamp()).isEmpty();
+            verify(missionCenterViewCache).bumpVersion(USER_ID);
+            verify(missionCenterViewCache, never()).save(anyLong(), anyLong(), any(), anyList());
+        }
+
+        @Test
+        void throwsWhenUserNotFound() {
+            when(missionCenterViewCache.find(999L, TODAY)).thenReturn(Optional.empty());
+            when(missionProgressQueryPort.findMissionProgress(999L, TODAY)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> service.getView(999L)).isInstanceOf(UserNotFoundException.class);
+            verify(missionCenterViewCache, never()).save(anyLong(), anyLong(), any(), anyList());
+            verify(missionCenterViewCache, never()).bumpVersion(anyLong());
+        }
+    }
+
+    // ── findVersion ─────────────────────────────────────────────────────────
+
+    @Nested
+    class FindVersion {
+
+        @Test
+        void returnsVersionForToday() {
+            when(missionCenterViewCache.currentVersion(USER_ID)).thenReturn(42L);
+
+            assertThat(service.findVersion(USER_ID)).contains(new MissionCenterVersion(42L, TODAY));
+            verifyNoInteractions(missionProgressQueryPort);
+        }
+
+        @Test
+        void returnsEmptyWhenRedisIsDown() {
+            when(missionCenterViewCache.currentVersion(USER_ID)).thenThrow(new RuntimeException("Redis down"));
+
+            assertThat(service.findVersion(USER_ID)).isEmpty();
+        }
+    }
+
+    // ── onProgressChanged ───────────────────────────────────────────────────
+
+    @Nested
+    class OnProgressChanged {
+
+        @Test
+        void bumpsVersionThenSavesFreshViewAndNotifiesProgress() {
+            when(missionCenterViewCache.bumpVersion(USER_ID)).thenReturn(43L);
+            when(missionProgressQueryPort.findMissionProgress(USER_ID, TODAY)).thenReturn(Optional.of(progress()));
+
+            service.onProgressChanged(USER_ID, MissionType.PLAY_SCORE, false);
+
+            var order = inOrder(missionCenterViewCache, missionProgressQueryPort, missionCenterNotifier);
+            order.verify(missionCenterViewCache).bumpVersion(USER_ID);
+            order.verify(missionProgressQueryPort).findMissionProgress(USER_ID, TODAY);
+            order.verify(missionCenterViewCache).save(eq(USER_ID), eq(43L), eq(TODAY), anyList());
+            order.verify(missionCenterNotifier).publish(argThat(update ->
+                update.type() == MissionCenterUpdate.Type.PROGRESS
+                    && update.version() == 43L
+                    && update.mission().missionType() == MissionType.PLAY_SCORE
+                    && update.mission().criteria().get(1).progress() == 800));
+        }
+
+        @Test
+        void notifiesCompletionOfChangedMission() {
+            when(missionCenterViewCache.bumpVersion(USER_ID)).thenReturn(43L);
+            when(missionProgressQueryPort.findMissionProgress(USER_ID, TODAY)).thenReturn(Optional.of(progress()));
+
+            service.onProgressChanged(USER_ID, MissionType.DIFFERENT_GAMES, true);
+
+            verify(missionCenterNotifier).publish(argThat(update ->
+                update.type() == MissionCenterUpdate.Type.COMPLETED
+                    && update.mission().missionType() == MissionType.DIFFERENT_GAMES));
+        }
+
+        @Test
+        void swallowsRedisFailures() {
+            when(missionCenterViewCache.bumpVersion(USER_ID)).thenThrow(new RuntimeException("Redis down"));
+
+            service.onProgressChanged(USER_ID, MissionType.PLAY_SCORE, false);
+
+            verifyNoInteractions(missionProgressQueryPort, missionCenterNotifier);
+        }
+    }
+
+    // ── buildAll ────────────────────────────────────────────────────────────
+
+    @Nested
+    class BuildAll {
+
+        @Test
+        void rendersEveryKnownUserFromOneReadWithoutTouchingProjection() {
+            when(missionProgressQueryPort.findMissionProgress(List.of(1L, 2L, 3L), TODAY))
+                .thenReturn(Map.of(1L, progress(), 3L, progress()));
+
+            Map<Long, List<MissionResponse>> views = service.buildAll(List.of(1L, 2L, 3L));
+
+            assertThat(views).containsOnlyKeys(1L, 3L);
+            assertThat(views.get(3L)).hasSize(3);
+            verifyNoInteractions(missionCenterViewCache);
+        }
+    }
+
+    // ── onRewardGranted ─────────────────────────────────────────────────────
+
+    @Nested
+    class OnRewardGranted {
+
+        @Test
+        void notifiesReward() {
+            service.onRewardGranted(USER_ID, 777);
+
+            verify(missionCenterNotifier).publish(MissionCenterUpdate.rewardGranted(USER_ID, 777));
+        }
+
+        @Test
+        void swallowsNotifierFailures() {
+            doThrow(new RuntimeException("Redis down")).when(missionCenterNotifier).publish(any());
+
+            service.onRewardGranted(USER_ID, 777);
+        }
+    }
+}
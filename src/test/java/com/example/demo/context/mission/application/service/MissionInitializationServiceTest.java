@@ -107,7 +107,7 @@ class MissionInitializationServiceTest {
 
         service.ensureMissionsExist(USER_ID, EXPIRED_AT);
 
-        verify(missionInitializationCache).markInitialized(USER_ID);
+        verify(missionInitializationCache).markInitialized(USER_ID, EXPIRED_AT);
     }
 
     @Test
@@ -124,7 +124,7 @@ class MissionInitializationServiceTest {
     void ensureMissionsExist_doesNotThrowWhenCacheMarkFails() {
         when(missionInitializationCache.isInitialized(USER_ID)).thenReturn(false);
         doThrow(new RuntimeException("Redis down"))
-            .when(missionInitializationCache).markInitialized(USER_ID);
+            .when(missionInitializationCache).markInitialized(USER_ID, EXPIRED_AT);
 
         assertThatNoException().isThrownBy(
             () -> service.ensureMissionsExist(USER_ID, EXPIRED_AT)
@@ -2,8 +2,15 @@ package com.example.demo.context.mission.application.service;
 
 import com.example.demo.context.mission.application.port.*;
 import com.example.demo.context.mission.application.port.cache.MissionCompletionCache;
+import com.example.demo.context.mission.domain.model.LoginCalendar;
 import com.example.demo.context.mission.domain.model.Mission;
+import com.example.demo.context.mission.domain.model.MissionCriterion;
+import com.example.demo.context.mission.domain.model.MissionCriterion.Comparison;
+import com.example.demo.context.mission.domain.model.MissionMetric;
+import com.example.demo.context.mission.domain.model.MissionRule;
+import com.example.demo.context.mission.domain.model.MissionRulebook;
 import com.example.demo.context.mission.domain.model.MissionType;
+import com.example.demo.context.mission.domain.model.StandardMissionRules;
 import com.example.demo.context.mission.domain.repository.MissionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -17,11 +24,17 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -38,10 +51,10 @@ class MissionProgressServiceTest {
     @Mock LoginRecordPort loginRecordPort;
     @Mock GameLaunchRecordPort gameLaunchRecordPort;
     @Mock GamePlayRecordPort gamePlayRecordPort;
+    @Mock ProgressAggregatePort progressAggregatePort;
     @Mock MissionCompletionCache missionCompletionCache;
-    @Mock RewardEventPublisher rewardEventPublisher;
     @Mock RewardRepository rewardRepository;
-    @Mock DistributedLock distributedLock;
+    @Mock MissionCenterProjectionService missionCenterProjectionService;
 
     MissionProgressService service;
 
@@ -49,15 +62,24 @@ class MissionProgressServiceTest {
     void setUp() {
         Clock clock = Clock.fixed(NOW, ZONE);
         service = new MissionProgressService(
-            clock, missionRepository, loginRecordPort, gameLaunchRecordPort, gamePlayRecordPort,
-            missionCompletionCache, rewardEventPublisher, rewardRepository, distributedLock
+            clock, StandardMissionRules.rulebook(), missionRepository,
+            loginRecordPort, gameLaunchRecordPort, gamePlayRecordPort, progressAggregatePort,
+            missionCompletionCache, rewardRepository,
+            missionCenterProjectionService
         );
+    }
+
+    /** Aggregates of a user whose login streak ending on LOGIN_DATE is {@code days} long. */
+    private static ProgressAggregates loginStreak(int days) {
+        return new ProgressAggregates(new LoginCalendar(LOGIN_DATE, (1L << days) - 1), 0, 0, 0);
+    }
 
-        // DistributedLock: always acquire lock and run action
-        lenient().when(distributedLock.tryWithLock(anyString(), anyLong(), any(), any())).thenAnswer(invocation -> {
-            var action = invocation.getArgument(2, java.util.function.Supplier.class);
-            return action.get();
-        });
+    private static ProgressAggregates games(int distinctGames) {
+        return new ProgressAggregates(LoginCalendar.EMPTY, distinctGames, 0, 0);
+    }
+
+    private static ProgressAggregates plays(int sessions, int totalScore) {
+        return new ProgressAggregates(LoginCalendar.EMPTY, 0, sessions, totalScore);
     }
 
     // ── processLogin ────────────────────────────────────────────────────────
@@ -80,7 +102,7 @@ class MissionProgressServiceTest {
         void recordsLoginAndCompletesWhenTargetReached() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.CONSECUTIVE_LOGIN)).thenReturn(false);
             when(loginRecordPort.recordLogin(USER_ID, LOGIN_DATE)).thenReturn(true);
-            when(loginRecordPort.countConsecutiveLoginDays(USER_ID, LOGIN_DATE)).thenReturn(3);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(loginStreak(3));
             when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.CONSECUTIVE_LOGIN), any()))
                 .thenReturn(true);
             when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
@@ -95,7 +117,7 @@ class MissionProgressServiceTest {
         void recordsLoginButDoesNotCompleteWhenTargetNotReached() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.CONSECUTIVE_LOGIN)).thenReturn(false);
             when(loginRecordPort.recordLogin(USER_ID, LOGIN_DATE)).thenReturn(true);
-            when(loginRecordPort.countConsecutiveLoginDays(USER_ID, LOGIN_DATE)).thenReturn(2);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(loginStreak(2));
 
             service.processLogin(USER_ID, LOGIN_DATE);
 
@@ -112,7 +134,7 @@ class MissionProgressServiceTest {
         void completesWhenThreeDistinctGames() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.DIFFERENT_GAMES)).thenReturn(false);
             when(gameLaunchRecordPort.recordGameLaunch(USER_ID, GAME_ID)).thenReturn(true);
-            when(gameLaunchRecordPort.countDistinctGamesLaunched(USER_ID)).thenReturn(3);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(games(3));
             when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.DIFFERENT_GAMES), any()))
                 .thenReturn(true);
             when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
@@ -126,7 +148,7 @@ class MissionProgressServiceTest {
         void doesNotCompleteWhenOnlyTwoGames() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.DIFFERENT_GAMES)).thenReturn(false);
             when(gameLaunchRecordPort.recordGameLaunch(USER_ID, GAME_ID)).thenReturn(true);
-            when(gameLaunchRecordPort.countDistinctGamesLaunched(USER_ID)).thenReturn(2);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(games(2));
 
             service.processGameLaunch(USER_ID, GAME_ID);
 
@@ -143,8 +165,7 @@ class MissionProgressServiceTest {
         void completesWhenBothSessionAndScoreTargetsMet() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.PLAY_SCORE)).thenReturn(false);
             when(gamePlayRecordPort.recordGamePlay(USER_ID, GAME_ID, 500, "key-1")).thenReturn(true);
-            when(gamePlayRecordPort.countPlaySessions(USER_ID)).thenReturn(3);
-            when(gamePlayRecordPort.sumPlayScores(USER_ID)).thenReturn(1200);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(plays(3, 1200));
             when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.PLAY_SCORE), any()))
                 .thenReturn(true);
             when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
@@ -158,7 +179,7 @@ class MissionProgressServiceTest {
         void doesNotCompleteWhenSessionCountBelowThree() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.PLAY_SCORE)).thenReturn(false);
             when(gamePlayRecordPort.recordGamePlay(USER_ID, GAME_ID, 1200, "key-1")).thenReturn(true);
-            when(gamePlayRecordPort.countPlaySessions(USER_ID)).thenReturn(2);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(plays(2, 1200));
 
             service.processGamePlay(USER_ID, GAME_ID, 1200, "key-1");
 
@@ -169,8 +190,7 @@ class MissionProgressServiceTest {
         void doesNotCompleteWhenScoreIsExactlyOneThousand() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.PLAY_SCORE)).thenReturn(false);
             when(gamePlayRecordPort.recordGamePlay(USER_ID, GAME_ID, 1000, "key-1000")).thenReturn(true);
-            when(gamePlayRecordPort.countPlaySessions(USER_ID)).thenReturn(3);
-            when(gamePlayRecordPort.sumPlayScores(USER_ID)).thenReturn(1000);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(plays(3, 1000));
 
             service.processGamePlay(USER_ID, GAME_ID, 1000, "key-1000");
 
@@ -181,8 +201,7 @@ class MissionProgressServiceTest {
         void doesNotCompleteWhenScoreBelowThreshold() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.PLAY_SCORE)).thenReturn(false);
             when(gamePlayRecordPort.recordGamePlay(USER_ID, GAME_ID, 200, "key-1")).thenReturn(true);
-            when(gamePlayRecordPort.countPlaySessions(USER_ID)).thenReturn(3);
-            when(gamePlayRecordPort.sumPlayScores(USER_ID)).thenReturn(600);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(plays(3, 600));
 
             service.processGamePlay(USER_ID, GAME_ID, 200, "key-1");
 
@@ -190,74 +209,249 @@ class MissionProgressServiceTest {
         }
     }
 
-    // ── tryGrantReward ──────────────────────────────────────────────────────
+    // ── batch processing ────────────────────────────────────────────────────
 
     @Nested
-    class TryGrantReward {
+    class BatchProcessing {
 
         @Test
-        void grantsRewardWhenAllMissionsCompleted() {
+        void processGameLaunches_recordsOnceAndEvaluatesEachUserOnce() {
+            when(missionCompletionCache.isCompleted(anyLong(), eq(MissionType.DIFFERENT_GAMES))).thenReturn(false);
+            Map<Long, Set<Long>> launches = Map.of(1L, Set.of(10L, 11L), 2L, Set.of(10L));
+            when(gameLaunchRecordPort.recordGameLaunches(launches)).thenReturn(Set.of(1L, 2L));
+            when(progressAggregatePort.findAggregates(Set.of(1L, 2L))).thenReturn(Map.of(1L, games(3), 2L, games(1)));
+            when(missionRepository.completeMission(eq(1L), eq(MissionType.DIFFERENT_GAMES), any())).thenReturn(true);
+            when(missionCompletionCache.isAllCompleted(1L)).thenReturn(true);
+
+            service.processGameLaunches(launches);
+
+            verify(gameLaunchRecordPort).recordGameLaunches(launches);
+            verify(gameLaunchRecordPort, never()).recordGameLaunch(any(), any());
+            verify(missionRepository).completeMission(eq(1L), eq(MissionType.DIFFERENT_GAMES), any());
+            verify(missionRepository, never()).completeMission(eq(2L), any(), any());
+            verify(missionCenterProjectionService).onProgressChanged(1L, Map.of(MissionType.DIFFERENT_GAMES, true));
+            verify(missionCenterProjectionService).onProgressChanged(2L, Map.of(MissionType.DIFFERENT_GAMES, false));
+        }
+
+        @Test
+        void processGameLaunches_leavesCachedCompletedUsersOutOfTheWrite() {
+            when(missionCompletionCache.isCompleted(1L, MissionType.DIFFERENT_GAMES)).thenReturn(true);
+            when(missionCompletionCache.isAllCompleted(1L)).thenReturn(true);
+            when(missionCompletionCache.isCompleted(2L, MissionType.DIFFERENT_GAMES)).thenReturn(false);
+            when(gameLaunchRecordPort.recordGameLaunches(Map.of(2L, Set.of(10L)))).thenReturn(Set.of());
+            when(progressAggregatePort.findAggregates(Set.of(2L))).thenReturn(Map.of(2L, games(1)));
+
+            service.processGameLaunches(new LinkedHashMap<>(Map.of(1L, Set.of(10L), 2L, Set.of(10L))));
+
+            verify(gameLaunchRecordPort).recordGameLaunches(Map.of(2L, Set.of(10L)));
+            verify(missionCenterProjectionService, never()).onProgressChanged(any(), anyMap());
+        }
+
+        @Test
+        void processLogins_completesWhenAnyLoginDateEndsAStreak() {
+            LocalDate earlier = LOGIN_DATE.minusDays(2);
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.CONSECUTIVE_LOGIN)).thenReturn(false);
-            when(loginRecordPort.recordLogin(USER_ID, LOGIN_DATE)).thenReturn(true);
-            when(loginRecordPort.countConsecutiveLoginDays(USER_ID, LOGIN_DATE)).thenReturn(3);
+            when(loginRecordPort.recordLogins(any())).thenReturn(Set.of(USER_ID));
+            // logged in on LOGIN_DATE and the three days ending on earlier, with a gap in between
+            when(progressAggregatePort.findAggregates(Set.of(USER_ID)))
+                .thenReturn(Map.of(USER_ID, new ProgressAggregates(new LoginCalendar(LOGIN_DATE, 0b11101L), 0, 0, 0)));
             when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.CONSECUTIVE_LOGIN), any()))
                 .thenReturn(true);
-            when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(false);
-            when(missionRepository.findByUserId(USER_ID))
-                .thenReturn(List.of(
-                    createCompletedMission(MissionType.CONSECUTIVE_LOGIN),
-                    createCompletedMission(MissionType.DIFFERENT_GAMES),
-                    createCompletedMission(MissionType.PLAY_SCORE)
-                ));
-            when(rewardRepository.grantReward(USER_ID, 777)).thenReturn(true);
+            when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
 
-            service.processLogin(USER_ID, LOGIN_DATE);
+            service.processLogins(Map.of(USER_ID, Set.of(LOGIN_DATE, earlier)));
 
-            verify(rewardEventPublisher).publish(any());
+            verify(missionCenterProjectionService).onProgressChanged(USER_ID, Map.of(MissionType.CONSECUTIVE_LOGIN, true));
         }
 
         @Test
-        void skipsRewardWhenAlreadyGranted() {
+        void processGamePlays_groupsPlaysByUserIntoOneWrite() {
+            var plays = List.of(
+                new GamePlayRecordPort.GamePlay(USER_ID, GAME_ID, 600, "k1"),
+                new GamePlayRecordPort.GamePlay(USER_ID, GAME_ID, 500, "k2"),
+                new GamePlayRecordPort.GamePlay(2L, GAME_ID, 100, "k3"));
+            when(missionCompletionCache.isCompleted(anyLong(), eq(MissionType.PLAY_SCORE))).thenReturn(false);
+            when(gamePlayRecordPort.recordGamePlays(any())).thenReturn(Set.of(USER_ID, 2L));
+            when(progressAggregatePort.findAggregates(Set.of(USER_ID, 2L)))
+                .thenReturn(Map.of(USER_ID, plays(2, 1100), 2L, plays(1, 100)));
+
+            service.processGamePlays(plays);
+
+            verify(gamePlayRecordPort).recordGamePlays(argThat(recorded -> recorded.size() == 3));
+            verify(progressAggregatePort).findAggregates(Set.of(USER_ID, 2L));
+            verify(missionRepository, never()).completeMission(any(), any(), any());
+            verify(missionCenterProjectionService).onProgressChanged(USER_ID, Map.of(MissionType.PLAY_SCORE, false));
+            verify(missionCenterProjectionService).onProgressChanged(2L, Map.of(MissionType.PLAY_SCORE, false));
+        }
+    }
+
+    // ── missions sharing an action ──────────────────────────────────────────
+
+    @Nested
+    class SharedAction {
+
+        @BeforeEach
+        void useRulebookWithTwoLaunchMissions() {
+            MissionRulebook rulebook = new MissionRulebook(List.of(
+                new MissionRule(MissionType.CONSECUTIVE_LOGIN, List.of(
+                    new MissionCriterion(MissionMetric.CONSECUTIVE_LOGIN_DAYS, Comparison.AT_LEAST, 3))),
+                new MissionRule(MissionType.DIFFERENT_GAMES, List.of(
+                    new MissionCriterion(MissionMetric.DISTINCT_GAMES, Comparison.AT_LEAST, 3))),
+                new MissionRule(MissionType.PLAY_SCORE, List.of(
+                    new MissionCriterion(MissionMetric.DISTINCT_GAMES, Comparison.AT_LEAST, 2),
+                    new MissionCriterion(MissionMetric.PLAY_SESSIONS, Comparison.AT_LEAST, 1)))));
+            service = new MissionProgressService(
+                Clock.fixed(NOW, ZONE), rulebook, missionRepository,
+                loginRecordPort, gameLaunchRecordPort, gamePlayRecordPort, progressAggregatePort,
+                missionCompletionCache, rewardRepository,
+                missionCenterProjectionService
+            );
+        }
+
+        @Test
+        void evaluatesEveryMissionOfTheActionFromOneAggregateRead() {
+            when(missionCompletionCache.isCompleted(eq(USER_ID), any())).thenReturn(false);
+            when(gameLaunchRecordPort.recordGameLaunch(USER_ID, GAME_ID)).thenReturn(true);
+            when(progressAggregatePort.findAggregates(USER_ID))
+                .thenReturn(new ProgressAggregates(LoginCalendar.EMPTY, 2, 1, 0));
+            when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.PLAY_SCORE), any())).thenReturn(true);
+            when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
+
+            service.processGameLaunch(USER_ID, GAME_ID);
+
+            verify(progressAggregatePort, times(1)).findAggregates(USER_ID);
+            verify(missionRepository, never()).completeMission(eq(USER_ID), eq(MissionType.DIFFERENT_GAMES), any());
+            verify(missionCenterProjectionService).onProgressChanged(
+                USER_ID, Map.of(MissionType.DIFFERENT_GAMES, false, MissionType.PLAY_SCORE, true));
+        }
+
+        @Test
+        void recordsActionWhileAnyOfItsMissionsIsOpen() {
+            when(missionCompletionCache.isCompleted(USER_ID, MissionType.DIFFERENT_GAMES)).thenReturn(true);
+            when(missionCompletionCache.isCompleted(USER_ID, MissionType.PLAY_SCORE)).thenReturn(false);
+            when(gameLaunchRecordPort.recordGameLaunch(USER_ID, GAME_ID)).thenReturn(true);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(games(1));
+
+            service.processGameLaunch(USER_ID, GAME_ID);
+
+            verify(missionCenterProjectionService).onProgressChanged(USER_ID, Map.of(MissionType.PLAY_SCORE, false));
+        }
+    }
+
+    // ── mission center projection ───────────────────────────────────────────
+
+    @Nested
+    class ProjectionUpdate {
+
+        @Test
+        void updatesProjectionWhenActionIsNew() {
+            when(missionCompletionCache.isCompleted(USER_ID, MissionType.DIFFERENT_GAMES)).thenReturn(false);
+            when(gameLaunchRecordPort.recordGameLaunch(USER_ID, GAME_ID)).thenReturn(true);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(games(1));
+
+            service.processGameLaunch(USER_ID, GAME_ID);
+
+            verify(missionCenterProjectionService).onProgressChanged(USER_ID, Map.of(MissionType.DIFFERENT_GAMES, false));
+        }
+
+        @Test
+        void skipsProjectionForDuplicateActionWithoutCompletion() {
+            when(missionCompletionCache.isCompleted(USER_ID, MissionType.DIFFERENT_GAMES)).thenReturn(false);
+            when(gameLaunchRecordPort.recordGameLaunch(USER_ID, GAME_ID)).thenReturn(false);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(games(1));
+
+            service.processGameLaunch(USER_ID, GAME_ID);
+
+            verify(missionCenterProjectionService, never()).onProgressChanged(any(), anyMap());
+        }
+
+        @Test
+        void updatesProjectionWhenRedeliveryCompletesMission() {
+            when(missionCompletionCache.isCompleted(USER_ID, MissionType.DIFFERENT_GAMES)).thenReturn(false);
+            when(gameLaunchRecordPort.recordGameLaunch(USER_ID, GAME_ID)).thenReturn(false);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(games(3));
+            when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.DIFFERENT_GAMES), any()))
+                .thenReturn(true);
+            when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
+
+            service.processGameLaunch(USER_ID, GAME_ID);
+
+            verify(missionCenterProjectionService).onProgressChanged(USER_ID, Map.of(MissionType.DIFFERENT_GAMES, true));
+        }
+
+        @Test
+        void skipsProjectionWhenMissionCachedAsCompleted() {
+            when(missionCompletionCache.isCompleted(USER_ID, MissionType.DIFFERENT_GAMES)).thenReturn(true);
+            when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
+
+            service.processGameLaunch(USER_ID, GAME_ID);
+
+            verify(missionCenterProjectionService, never()).onProgressChanged(any(), anyMap());
+        }
+    }
+
+    // ── tryGrantReward ──────────────────────────────────────────────────────
+
+    @Nested
+    class TryGrantReward {
+
+        private void completeLastLoginMission() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.CONSECUTIVE_LOGIN)).thenReturn(false);
             when(loginRecordPort.recordLogin(USER_ID, LOGIN_DATE)).thenReturn(true);
-            when(loginRecordPort.countConsecutiveLoginDays(USER_ID, LOGIN_DATE)).thenReturn(3);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(loginStreak(3));
             when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.CONSECUTIVE_LOGIN), any()))
                 .thenReturn(true);
             when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(false);
-            when(missionRepository.findByUserId(USER_ID))
-                .thenReturn(List.of(
-                    createCompletedMission(MissionType.CONSECUTIVE_LOGIN),
-                    createCompletedMission(MissionType.DIFFERENT_GAMES),
-                    createCompletedMission(MissionType.PLAY_SCORE)
-                ));
-            when(rewardRepository.grantReward(USER_ID, 777)).thenReturn(false);
+        }
+
+        @Test
+        void grantsRewardWhenAllMissionsCompleted() {
+            completeLastLoginMission();
+            when(rewardRepository.grantRewardIfAllCompleted(USER_ID, 777)).thenReturn(true);
 
             service.processLogin(USER_ID, LOGIN_DATE);
 
-            verify(rewardEventPublisher, never()).publish(any());
+            verify(missionCenterProjectionService).onRewardGranted(USER_ID, 777);
             verify(missionCompletionCache).markAllCompleted(USER_ID);
+            verify(missionRepository, never()).findByUserId(any());
+        }
+
+        @Test
+        void skipsRewardWhenAlreadyGranted() {
+            completeLastLoginMission();
+            when(rewardRepository.grantRewardIfAllCompleted(USER_ID, 777)).thenReturn(false);
+            when(rewardRepository.isRewarded(USER_ID)).thenReturn(true);
+
+            service.processLogin(USER_ID, LOGIN_DATE);
+
+            verify(missionCenterProjectionService, never()).onRewardGranted(any(), anyInt());
+            verify(missionCompletionCache).markAllCompleted(USER_ID);
+        }
+
+        @Test
+        void skipsRewardWhileOtherMissionsAreOpen() {
+            completeLastLoginMission();
+            when(rewardRepository.grantRewardIfAllCompleted(USER_ID, 777)).thenReturn(false);
+            when(rewardRepository.isRewarded(USER_ID)).thenReturn(false);
+
+            service.processLogin(USER_ID, LOGIN_DATE);
+
+            verify(missionCenterProjectionService, never()).onRewardGranted(any(), anyInt());
+            verify(missionCompletionCache, never()).markAllCompleted(any());
         }
 
         @Test
         void skipsRewardCheckWhenAllCompletedCacheHit() {
             when(missionCompletionCache.isCompleted(USER_ID, MissionType.CONSECUTIVE_LOGIN)).thenReturn(false);
             when(loginRecordPort.recordLogin(USER_ID, LOGIN_DATE)).thenReturn(true);
-            when(loginRecordPort.countConsecutiveLoginDays(USER_ID, LOGIN_DATE)).thenReturn(3);
+            when(progressAggregatePort.findAggregates(USER_ID)).thenReturn(loginStreak(3));
             when(missionRepository.completeMission(eq(USER_ID), eq(MissionType.CONSECUTIVE_LOGIN), any()))
                 .thenReturn(true);
             when(missionCompletionCache.isAllCompleted(USER_ID)).thenReturn(true);
 
             service.processLogin(USER_ID, LOGIN_DATE);
 
-            verify(distributedLock, never()).tryWithLock(any(), anyLong(), any(), any());
+            verify(rewardRepository, never()).grantRewardIfAllCompleted(any(), anyInt());
         }
     }
-
-    private Mission createCompletedMission(MissionType type) {
-        LocalDateTime expiredAt = LocalDateTime.now(Clock.fixed(NOW, ZONE)).plusDays(30);
-        return Mission.reconstitute(
-            (long) type.ordinal() + 1, USER_ID, type,
-            true, LocalDateTime.now(Clock.fixed(NOW, ZONE)), expiredAt
-        );
-    }
 }
@@ -2,6 +2,7 @@ package com.example.demo.context.mission.application.service;
 
 import com.example.demo.context.mission.application.port.UserQueryPort;
 import com.example.demo.context.mission.application.port.cache.UserEligibilityCache;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -109,4 +110,20 @@ class UserEligibilityServiceTest {
 
         assertThat(svc.isEligible(1L)).isFalse();
     }
-}
\ No newline at end of file
+
+    // ── verified reference snapshot ─────────────────────────────────────────
+
+    @Test
+    void isEligible_withSnapshot_decidesFromWindowEndWithoutLookups() {
+        LocalDateTime now = LocalDateTime.now(Clock.fixed(NOW, ZONE));
+        var svc = serviceWithClock(Clock.fixed(NOW, ZONE));
+
+        assertThat(svc.isEligible(snapshotWithWindowEnd(now.plusDays(1)))).isTrue();
+        assertThat(svc.isEligible(snapshotWithWindowEnd(now.minusSeconds(1)))).isFalse();
+        verifyNoInteractions(userEligibilityCache, userQueryPort);
+    }
+
+    private static ReferenceSnapshot snapshotWithWindowEnd(LocalDateTime windowEnd) {
+        return new ReferenceSnapshot(1, windowEnd.minusDays(30), windowEnd, null, 0L, "sig");
+    }
+}
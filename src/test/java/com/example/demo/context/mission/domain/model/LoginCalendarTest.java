@@ -0,0 +1,59 @@
+package com.example.demo.context.mission.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginCalendarTest {
+
+    private static final LocalDate LAST_LOGIN = LocalDate.of(2026, 3, 10);
+
+    // ── streakEndingOn ──────────────────────────────────────────────────────
+
+    @Test
+    void streakEndingOn_countsRunOfSetBitsFromDate() {
+        LoginCalendar calendar = new LoginCalendar(LAST_LOGIN, 0b1110111L);
+
+        assertThat(calendar.streakEndingOn(LAST_LOGIN)).isEqualTo(3);
+        assertThat(calendar.streakEndingOn(LAST_LOGIN.minusDays(3))).isZero();
+        assertThat(calendar.streakEndingOn(LAST_LOGIN.minusDays(4))).isEqualTo(3);
+    }
+
+    @Test
+    void streakEndingOn_isZeroAfterLastLoginOrOutsideCalendar() {
+        LoginCalendar calendar = new LoginCalendar(LAST_LOGIN, 0b1L);
+
+        assertThat(calendar.streakEndingOn(LAST_LOGIN.plusDays(1))).isZero();
+        assertThat(calendar.streakEndingOn(LAST_LOGIN.minusDays(LoginCalendar.DAYS))).isZero();
+        assertThat(LoginCalendar.EMPTY.streakEndingOn(LAST_LOGIN)).isZero();
+    }
+
+    @Test
+    void streakEndingOn_coversWholeCalendar() {
+        LoginCalendar calendar = new LoginCalendar(LAST_LOGIN, Long.MAX_VALUE);
+
+        assertThat(calendar.streakEndingOn(LAST_LOGIN)).isEqualTo(LoginCalendar.DAYS);
+        assertThat(calendar.streakEndingOn(LAST_LOGIN.minusDays(LoginCalendar.DAYS - 1))).isEqualTo(1);
+    }
+
+    // ── loggedInOn / loginDatesBetween ──────────────────────────────────────
+
+    @Test
+    void loggedInOn_readsBitForDate() {
+        LoginCalendar calendar = new LoginCalendar(LAST_LOGIN, 0b101L);
+
+        assertThat(calendar.loggedInOn(LAST_LOGIN)).isTrue();
+        assertThat(calendar.loggedInOn(LAST_LOGIN.minusDays(1))).isFalse();
+        assertThat(calendar.loggedInOn(LAST_LOGIN.minusDays(2))).isTrue();
+    }
+
+    @Test
+    void loginDatesBetween_returnsDatesOldestFirst() {
+        LoginCalendar calendar = new LoginCalendar(LAST_LOGIN, 0b1101L);
+
+        assertThat(calendar.loginDatesBetween(LAST_LOGIN.minusDays(5), LAST_LOGIN.plusDays(2)))
+            .containsExactly(LAST_LOGIN.minusDays(3), LAST_LOGIN.minusDays(2), LAST_LOGIN);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.demo.context.mission.domain.model;
+
+import com.example.demo.context.mission.domain.model.MissionCriterion.Comparison;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MissionRulebookTest {
+
+    private final MissionRulebook rulebook = StandardMissionRules.rulebook();
+
+    // ── rulesTriggeredBy ────────────────────────────────────────────────────
+
+    @Test
+    void rulesTriggeredBy_indexesMissionsByTheActionsOfTheirMetrics() {
+        assertThat(rulebook.rulesTriggeredBy(MissionAction.LOGIN)).extracting(MissionRule::type)
+            .containsExactly(MissionType.CONSECUTIVE_LOGIN);
+        assertThat(rulebook.rulesTriggeredBy(MissionAction.GAME_PLAY)).extracting(MissionRule::type)
+            .containsExactly(MissionType.PLAY_SCORE);
+    }
+
+    @Test
+    void rulesTriggeredBy_listsAMissionUnderEveryActionItDependsOn() {
+        MissionRulebook mixed = new MissionRulebook(List.of(
+            new MissionRule(MissionType.CONSECUTIVE_LOGIN, List.of(
+                new MissionCriterion(MissionMetric.CONSECUTIVE_LOGIN_DAYS, Comparison.AT_LEAST, 3))),
+            new MissionRule(MissionType.DIFFERENT_GAMES, List.of(
+                new MissionCriterion(MissionMetric.DISTINCT_GAMES, Comparison.AT_LEAST, 3))),
+            new MissionRule(MissionType.PLAY_SCORE, List.of(
+                new MissionCriterion(MissionMetric.DISTINCT_GAMES, Comparison.AT_LEAST, 2),
+                new MissionCriterion(MissionMetric.TOTAL_SCORE, Comparison.AT_LEAST, 500)))));
+
+        assertThat(mixed.rulesTriggeredBy(MissionAction.GAME_LAUNCH)).extracting(MissionRule::type)
+            .containsExactly(MissionType.DIFFERENT_GAMES, MissionType.PLAY_SCORE);
+        assertThat(mixed.rulesTriggeredBy(MissionAction.GAME_PLAY)).extracting(MissionRule::type)
+            .containsExactly(MissionType.PLAY_SCORE);
+    }
+
+    // ── MissionRule.isMet ───────────────────────────────────────────────────
+
+    @Test
+    void isMet_requiresEveryCriterion() {
+        MissionRule playScore = rulebook.rule(MissionType.PLAY_SCORE);
+
+        assertThat(playScore.isMet(new ProgressCounters(0, 0, 3, 1001))).isTrue();
+        assertThat(playScore.isMet(new ProgressCounters(0, 0, 3, 1000))).isFalse();
+        assertThat(playScore.isMet(new ProgressCounters(0, 0, 2, 5000))).isFalse();
+    }
+
+    // ── validation ──────────────────────────────────────────────────────────
+
+    @Test
+    void rejectsMissingMissionType() {
+        assertThatThrownBy(() -> new MissionRulebook(List.of(
+            new MissionRule(MissionType.CONSECUTIVE_LOGIN, List.of(
+                new MissionCriterion(MissionMetric.CONSECUTIVE_LOGIN_DAYS, Comparison.AT_LEAST, 3))))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("DIFFERENT_GAMES");
+    }
+
+    @Test
+    void rejectsMissionWithoutCriteria() {
+        assertThatThrownBy(() -> new MissionRule(MissionType.PLAY_SCORE, List.of()))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
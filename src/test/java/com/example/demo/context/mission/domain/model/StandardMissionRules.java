@@ -0,0 +1,26 @@
+package com.example.demo.context.mission.domain.model;
+
+import com.example.demo.context.mission.domain.model.MissionCriterion.Comparison;
+
+import java.util.List;
+
+/**
+ * The mission definitions shipped in application.yaml, for tests that do not bind them.
+ */
+public final class StandardMissionRules {
+
+    private StandardMissionRules() {
+    }
+
+    public static MissionRulebook rulebook() {
+        return new MissionRulebook(List.of(
+            new MissionRule(MissionType.CONSECUTIVE_LOGIN, List.of(
+                new MissionCriterion(MissionMetric.CONSECUTIVE_LOGIN_DAYS, Comparison.AT_LEAST, 3))),
+            new MissionRule(MissionType.DIFFERENT_GAMES, List.of(
+                new MissionCriterion(MissionMetric.DISTINCT_GAMES, Comparison.AT_LEAST, 3))),
+            new MissionRule(MissionType.PLAY_SCORE, List.of(
+                new MissionCriterion(MissionMetric.PLAY_SESSIONS, Comparison.AT_LEAST, 3),
+                new MissionCriterion(MissionMetric.TOTAL_SCORE, Comparison.GREATER_THAN, 1000)))
+        ));
+    }
+}
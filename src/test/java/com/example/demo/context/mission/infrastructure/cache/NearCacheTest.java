@@ -0,0 +1,120 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NearCacheTest {
+
+    private final AtomicBoolean tracking = new AtomicBoolean(true);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private NearCache<Boolean> cache(int maxEntries, Duration maxAge) {
+        return new NearCache<>("user:expired:", maxEntries, maxAge, tracking::get);
+    }
+
+    private Boolean load(boolean value) {
+        loads.incrementAndGet();
+        return value;
+    }
+
+    @Test
+    void get_servesRepeatLookupsLocally() {
+        NearCache<Boolean> cache = cache(10, Duration.ofMinutes(5));
+
+        assertThat(cache.get("user:expired:1", () -> load(false))).isFalse();
+        assertThat(cache.get("user:expired:1", () -> load(true))).isFalse();
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_reloadsAfterInvalidation() {
+        NearCache<Boolean> cache = cache(10, Duration.ofMinutes(5));
+        cache.get("user:expired:1", () -> load(false));
+
+        cache.invalidate("user:expired:1");
+
+        assertThat(cache.get("user:expired:1", () -> load(true))).isTrue();
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_doesNotKeepLoadThatRacedWithInvalidation() {
+        NearCache<Boolean> cache = cache(10, Duration.ofMinutes(5));
+
+        cache.get("user:expired:1", () -> {
+            cache.invalidate("user:expired:1");
+            return load(false);
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_keepsLoadWhenAnotherKeyIsInvalidated() {
+        NearCache<Boolean> cache = cache(10, Duration.ofMinutes(5));
+
+        cache.get("user:expired:1", () -> {
+            cache.invalidate("user:expired:2");
+            return load(false);
+        });
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.get("user:expired:1", () -> load(true))).isFalse();
+    }
+
+    @Test
+    void get_doesNotKeepLoadThatRacedWithClear() {
+        NearCache<Boolean> cache = cache(10, Duration.ofMinutes(5));
+
+        cache.get("user:expired:1", () -> {
+            cache.clear();
+            return load(false);
+        });
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void get_evictsLeastRecentlyUsedBeyondMaxEntries() {
+        NearCache<Boolean> cache = cache(2, Duration.ofMinutes(5));
+        cache.get("user:expired:1", () -> load(false));
+        cache.get("user:expired:2", () -> load(false));
+        cache.get("user:expired:1", () -> load(false));
+
+        cache.get("user:expired:3", () -> load(false));
+        cache.get("user:expired:1", () -> load(false));
+        cache.get("user:expired:2", () -> load(false));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void get_reloadsEntriesOlderThanMaxAge() {
+        NearCache<Boolean> cache = cache(10, Duration.ZERO);
+        cache.get("user:expired:1", () -> load(false));
+        cache.get("user:expired:1", () -> load(false));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void get_bypassesCacheWhileNotTracking() {
+        tracking.set(false);
+        NearCache<Boolean> cache = cache(10, Duration.ofMinutes(5));
+        cache.get("user:expired:1", () -> load(false));
+        cache.put("user:expired:1", true);
+        cache.get("user:expired:1", () -> load(false));
+
+        assertThat(loads).hasValue(2);
+        assertThat(cache.size()).isZero();
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class NearCacheTrackerTest {
+
+    @Mock LettuceConnectionFactory connectionFactory;
+    @Mock RedisClient redisClient;
+    @Mock StatefulRedisConnection<String, String> connection;
+    @Mock RedisCommands<String, String> commands;
+
+    NearCacheTracker tracker;
+    NearCache<Boolean> expired;
+    NearCache<Boolean> initialized;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new NearCacheTracker(
+            new NearCacheProperties(true, 100, Duration.ofMinutes(5)), connectionFactory, new SimpleMeterRegistry());
+        expired = tracker.register("eligibility", "user:expired:");
+        initialized = tracker.register("initialization", "mission:init:");
+    }
+
+    private void startTracking() {
+        when(connectionFactory.getNativeClient()).thenReturn(redisClient);
+        when(redisClient.getOptions()).thenReturn(ClientOptions.create());
+        when(redisClient.connect()).thenReturn(connection);
+        when(connection.sync()).thenReturn(commands);
+        tracker.start();
+    }
+
+    private static PushMessage invalidate(List<Object> keys) {
+        return new PushMessage() {
+            @Override
+            public String getType() {
+                return "invalidate";
+            }
+
+            @Override
+            public List<Object> getContent() {
+                return Arrays.asList("invalidate", keys);
+            }
+
+            @Override
+            public List<Object> getContent(Function<ByteBuffer, Object> decodeFunction) {
+                return getContent();
+            }
+        };
+    }
+
+    private static ByteBuffer bytes(String key) {
+        return ByteBuffer.wrap(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void start_enablesBroadcastTrackingForRegisteredPrefixes() {
+        startTracking();
+
+        verify(commands).clientTracking(any(TrackingArgs.class));
+        assertThat(tracker.isTracking()).isTrue();
+    }
+
+    @Test
+    void start_leavesCachesBypassedWhenDisabled() {
+        tracker = new NearCacheTracker(
+            new NearCacheProperties(false, 100, Duration.ofMinutes(5)), connectionFactory, new SimpleMeterRegistry());
+        tracker.register("eligibility", "user:expired:");
+
+        tracker.start();
+
+        verify(connectionFactory, never()).getNativeClient();
+        assertThat(tracker.isTracking()).isFalse();
+    }
+
+    @Test
+    void onPush_invalidatesOnlyTheNamedKeys() {
+        startTracking();
+        expired.put("user:expired:1", true);
+        expired.put("user:expired:2", true);
+        initialized.put("mission:init:1", true);
+
+        tracker.onPush(invalidate(List.of(bytes("user:expired:1"), bytes("mission:init:1"))));
+
+        assertThat(expired.size()).isEqualTo(1);
+        assertThat(initialized.size()).isZero();
+    }
+
+    @Test
+    void onPush_clearsEverythingWhenRedisFlushesTracking() {
+        startTracking();
+        expired.put("user:expired:1", true);
+        initialized.put("mission:init:1", true);
+
+        tracker.onPush(invalidate(null));
+
+        assertThat(expired.size()).isZero();
+        assertThat(initialized.size()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisMissionCenterViewCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "mission:view:1";
+
+    @Mock StringRedisTemplate redisTemplate;
+    @Mock HashOperations<String, Object, Object> hashOperations;
+
+    RedisMissionCenterViewCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new RedisMissionCenterViewCache(redisTemplate, new ObjectMapper(),
+            Clock.fixed(Instant.parse("2026-01-10T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    // ── currentVersion ──
+
+    @Test
+    void currentVersionReadsStoredVersion() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get(KEY, "version")).thenReturn("42");
+
+        assertThat(cache.currentVersion(USER_ID)).isEqualTo(42L);
+    }
+
+    @Test
+    void currentVersionOfUnknownUserWritesNothing() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+
+        assertThat(cache.currentVersion(USER_ID)).isEqualTo(MissionCenterView.UNVERSIONED);
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), anyList(), any(Object[].class));
+    }
+
+    // ── bumpVersion ──
+
+    @Test
+    void bumpVersionSeedsFromClock() {
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(KEY)), any(Object[].class)))
+            .thenReturn(1768003200001L);
+
+        assertThat(cache.bumpVersion(USER_ID)).isEqualTo(1768003200001L);
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(List.of(KEY)),
+            eq("1768003200000"), eq(String.valueOf(Duration.ofDays(30).toSeconds())));
+    }
+}
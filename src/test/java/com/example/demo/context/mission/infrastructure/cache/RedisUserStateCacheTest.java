@@ -0,0 +1,100 @@
+package com.example.demo.context.mission.infrastructure.cache;
+
+import com.example.demo.context.mission.domain.model.MissionType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RedisUserStateCacheTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "user:state:1";
+    private static final Instant NOW = Instant.parse("2026-01-10T00:00:00Z");
+
+    @Mock StringRedisTemplate redisTemplate;
+    @Mock HashOperations<String, Object, Object> hashOperations;
+    @Mock LettuceConnectionFactory connectionFactory;
+
+    RedisUserStateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        NearCacheTracker tracker = new NearCacheTracker(
+            new NearCacheProperties(false, 100, Duration.ofMinutes(5)), connectionFactory, new SimpleMeterRegistry());
+        cache = new RedisUserStateCache(redisTemplate, Clock.fixed(NOW, ZoneOffset.UTC), tracker);
+    }
+
+    // ── reads ──
+
+    @Test
+    void flagsAreReadFromOneHash() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(KEY)).thenReturn(Map.of("init", "1", "CONSECUTIVE_LOGIN", "1"));
+
+        assertThat(cache.isExpired(USER_ID)).isFalse();
+        assertThat(cache.isInitialized(USER_ID)).isTrue();
+        assertThat(cache.isCompleted(USER_ID, MissionType.CONSECUTIVE_LOGIN)).isTrue();
+        assertThat(cache.isCompleted(USER_ID, MissionType.PLAY_SCORE)).isFalse();
+        assertThat(cache.isAllCompleted(USER_ID)).isFalse();
+    }
+
+    @Test
+    void missingHashMeansNoFlags() {
+        when(redisTemplate.<Object, Object>opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(KEY)).thenReturn(Map.of());
+
+        assertThat(cache.isInitialized(USER_ID)).isFalse();
+        verify(hashOperations, times(1)).entries(KEY);
+    }
+
+    // ── writes ──
+
+    @Test
+    void markInitialized_expiresKeyWithMissionWindow() {
+        LocalDateTime expiredAt = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+        cache.markInitialized(USER_ID, expiredAt);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)),
+            eq("init"), eq(String.valueOf(expiredAt.toInstant(ZoneOffset.UTC).toEpochMilli())), any());
+    }
+
+    @Test
+    void markCompleted_keepsExistingExpiry() {
+        cache.markCompleted(USER_ID, MissionType.PLAY_SCORE);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)),
+            eq("PLAY_SCORE"), eq("0"), eq(String.valueOf(Duration.ofDays(30).toMillis())));
+    }
+
+    @Test
+    void markExpired_keepsMarkerForRetentionPeriod() {
+        cache.markExpired(USER_ID);
+
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(KEY)),
+            eq("expired"), eq(String.valueOf(NOW.plus(Duration.ofDays(30)).toEpochMilli())), any());
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.demo.context.mission.infrastructure.config;
+
+import com.example.demo.context.mission.domain.model.MissionRulebook;
+import com.example.demo.context.mission.domain.model.MissionType;
+import com.example.demo.context.mission.domain.model.StandardMissionRules;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.ConfigurationPropertySources;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.ClassPathResource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MissionDefinitionConfigTest {
+
+    @Test
+    void missionRulebook_compilesDefinitionsFromApplicationYaml() throws Exception {
+        StandardEnvironment environment = new StandardEnvironment();
+        new YamlPropertySourceLoader().load("application", new ClassPathResource("application.yaml"))
+            .forEach(environment.getPropertySources()::addLast);
+        MissionDefinitionProperties properties = new Binder(ConfigurationPropertySources.get(environment))
+            .bindOrCreate("mission.definitions", MissionDefinitionProperties.class);
+
+        MissionRulebook rulebook = new MissionDefinitionConfig().missionRulebook(properties);
+
+        MissionRulebook standard = StandardMissionRules.rulebook();
+        for (MissionType type : MissionType.values()) {
+            assertThat(rulebook.rule(type)).isEqualTo(standard.rule(type));
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
+import org.apache.rocketmq.client.consumer.listener.ConsumeConcurrentlyStatus;
+import org.apache.rocketmq.client.consumer.listener.MessageListenerConcurrently;
+import org.apache.rocketmq.common.message.MessageExt;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchConsumerSupportTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BatchConsumerSupport support =
+        new BatchConsumerSupport(new ConsumerBatchProperties(true, 16, Duration.ofMillis(50)), objectMapper);
+
+    @Test
+    void enableBatching_tunesConsumerAndInstallsBatchListener() {
+        DefaultMQPushConsumer consumer = new DefaultMQPushConsumer("group");
+
+        support.enableBatching(consumer, GameLaunchedEvent.class, events -> { });
+
+        assertThat(consumer.getConsumeMessageBatchMaxSize()).isEqualTo(16);
+        assertThat(consumer.getPullBatchSize()).isGreaterThanOrEqualTo(16);
+        assertThat(consumer.getPullInterval()).isEqualTo(50);
+        assertThat(consumer.getMessageListener()).isInstanceOf(MessageListenerConcurrently.class);
+    }
+
+    @Test
+    void enableBatching_leavesConsumerAloneWhenDisabled() {
+        var disabled = new BatchConsumerSupport(new ConsumerBatchProperties(false, 16, Duration.ZERO), objectMapper);
+        DefaultMQPushConsumer consumer = new DefaultMQPushConsumer("group");
+
+        disabled.enableBatching(consumer, GameLaunchedEvent.class, events -> { });
+
+        assertThat(consumer.getConsumeMessageBatchMaxSize()).isEqualTo(1);
+        assertThat(consumer.getMessageListener()).isNull();
+    }
+
+    @Test
+    void listener_decodesWholeBatchAndAcknowledgesIt() throws Exception {
+        List<GameLaunchedEvent> received = new ArrayList<>();
+        MessageListenerConcurrently listener = support.listener(GameLaunchedEvent.class, received::addAll);
+
+        ConsumeConcurrentlyStatus status = listener.consumeMessage(List.of(
+            message(objectMapper.writeValueAsString(new GameLaunchedEvent(1L, 10L, 5L))),
+            message("not json"),
+            message(objectMapper.writeValueAsString(new GameLaunchedEvent(2L, 11L, 6L)))), null);
+
+        assertThat(status).isEqualTo(ConsumeConcurrentlyStatus.CONSUME_SUCCESS);
+        assertThat(received).extracting(GameLaunchedEvent::userId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void listener_redeliversBatchWhenHandlerFails() throws Exception {
+        MessageListenerConcurrently listener = support.listener(GameLaunchedEvent.class, events -> {
+            throw new IllegalStateException("db down");
+        });
+
+        ConsumeConcurrentlyStatus status = listener.consumeMessage(List.of(
+            message(objectMapper.writeValueAsString(new GameLaunchedEvent(1L, 10L, 5L)))), null);
+
+        assertThat(status).isEqualTo(ConsumeConcurrentlyStatus.RECONSUME_LATER);
+    }
+
+    private static MessageExt message(String body) {
+        MessageExt message = new MessageExt();
+        message.setBody(body.getBytes(StandardCharsets.UTF_8));
+        return message;
+    }
+}
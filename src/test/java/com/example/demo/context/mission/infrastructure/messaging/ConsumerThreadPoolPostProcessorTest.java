@@ -0,0 +1,52 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.apache.rocketmq.client.consumer.DefaultMQPushConsumer;
+import org.apache.rocketmq.spring.support.DefaultRocketMQListenerContainer;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConsumerThreadPoolPostProcessorTest {
+
+    private static DefaultRocketMQListenerContainer container(DefaultMQPushConsumer consumer) {
+        DefaultRocketMQListenerContainer container = new DefaultRocketMQListenerContainer();
+        container.setConsumer(consumer);
+        return container;
+    }
+
+    @Test
+    void widensConsumeThreadsWhenConfigured() {
+        var processor = new ConsumerThreadPoolPostProcessor();
+        processor.setEnvironment(new MockEnvironment()
+            .withProperty(ConsumerThreadPoolPostProcessor.CONSUME_THREADS, "128"));
+        DefaultMQPushConsumer consumer = new DefaultMQPushConsumer();
+
+        processor.postProcessAfterInitialization(container(consumer), "container");
+
+        assertThat(consumer.getConsumeThreadMin()).isEqualTo(128);
+        assertThat(consumer.getConsumeThreadMax()).isEqualTo(128);
+    }
+
+    @Test
+    void leavesConsumerUntouchedWhenNotConfigured() {
+        var processor = new ConsumerThreadPoolPostProcessor();
+        processor.setEnvironment(new MockEnvironment());
+        DefaultMQPushConsumer consumer = new DefaultMQPushConsumer();
+        int defaultMin = consumer.getConsumeThreadMin();
+
+        processor.postProcessAfterInitialization(container(consumer), "container");
+
+        assertThat(consumer.getConsumeThreadMin()).isEqualTo(defaultMin);
+    }
+
+    @Test
+    void ignoresOtherBeans() {
+        var processor = new ConsumerThreadPoolPostProcessor();
+        processor.setEnvironment(new MockEnvironment()
+            .withProperty(ConsumerThreadPoolPostProcessor.CONSUME_THREADS, "128"));
+        Object bean = new Object();
+
+        assertThat(processor.postProcessAfterInitialization(bean, "other")).isSameAs(bean);
+    }
+}
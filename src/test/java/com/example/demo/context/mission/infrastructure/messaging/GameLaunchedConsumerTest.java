@@ -1,16 +1,23 @@
 package com.example.demo.context.mission.infrastructure.messaging;
 
 import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserQueryPort;
 import com.example.demo.context.mission.application.service.MissionProgressService;
 import com.example.demo.context.mission.application.service.UserEligibilityService;
 import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,6 +27,9 @@ class GameLaunchedConsumerTest {
     @Mock GameQueryPort gameQueryPort;
     @Mock UserEligibilityService userEligibilityService;
     @Mock MissionProgressService missionProgressService;
+    @Mock ReferenceSnapshotSigner referenceSnapshotSigner;
+    @Mock UserActionBatchFilter userActionBatchFilter;
+    @Mock BatchConsumerSupport batchConsumerSupport;
     @InjectMocks GameLaunchedConsumer consumer;
 
     @Test
@@ -62,4 +72,59 @@ class GameLaunchedConsumerTest {
 
         verify(missionProgressService, never()).processGameLaunch(any(), any());
     }
-}
\ No newline at end of file
+
+    // ── verified reference snapshot ─────────────────────────────────────────
+
+    private static final ReferenceSnapshot SNAPSHOT = new ReferenceSnapshot(
+        1, LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 31, 0, 0), 10L, 0L, "sig");
+
+    @Test
+    void onMessage_trustsVerifiedSnapshotAndSkipsLookups() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, 10L)).thenReturn(true);
+        when(userEligibilityService.isEligible(SNAPSHOT)).thenReturn(true);
+
+        consumer.onMessage(new GameLaunchedEvent(1L, 10L, 0L, SNAPSHOT));
+
+        verify(missionProgressService).processGameLaunch(1L, 10L);
+        verifyNoInteractions(userQueryPort);
+        verify(userEligibilityService, never()).isEligible(anyLong());
+    }
+
+    @Test
+    void onMessage_skipsWhenVerifiedSnapshotWindowHasEnded() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, 10L)).thenReturn(true);
+        when(userEligibilityService.isEligible(SNAPSHOT)).thenReturn(false);
+
+        consumer.onMessage(new GameLaunchedEvent(1L, 10L, 0L, SNAPSHOT));
+
+        verify(missionProgressService, never()).processGameLaunch(any(), any());
+    }
+
+    @Test
+    void onMessage_fallsBackToLookupsWhenSnapshotIsNotTrusted() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, 10L)).thenReturn(false);
+        when(userQueryPort.userExists(1L)).thenReturn(false);
+
+        consumer.onMessage(new GameLaunchedEvent(1L, 10L, 0L, SNAPSHOT));
+
+        verify(userQueryPort).userExists(1L);
+        verify(missionProgressService, never()).processGameLaunch(any(), any());
+    }
+
+    // ── batch ───────────────────────────────────────────────────────────────
+
+    @Test
+    void onBatch_groupsAcceptedLaunchesByUser() {
+        var launches = List.of(
+            new GameLaunchedEvent(1L, 10L, 0L),
+            new GameLaunchedEvent(1L, 11L, 0L),
+            new GameLaunchedEvent(2L, 10L, 0L),
+            new GameLaunchedEvent(3L, 99L, 0L));
+        when(userActionBatchFilter.accept(eq(launches), any())).thenReturn(launches.subList(0, 3));
+
+        consumer.onBatch(launches);
+
+        verify(missionProgressService).processGameLaunches(Map.of(1L, Set.of(10L, 11L), 2L, Set.of(10L)));
+        verify(missionProgressService, never()).processGameLaunch(any(), any());
+    }
+}
@@ -1,16 +1,20 @@
 package com.example.demo.context.mission.infrastructure.messaging;
 
 import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserQueryPort;
 import com.example.demo.context.mission.application.service.MissionProgressService;
 import com.example.demo.context.mission.application.service.UserEligibilityService;
 import com.example.demo.context.mission.domain.event.GamePlayedEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
+
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -20,6 +24,7 @@ class GamePlayedConsumerTest {
     @Mock GameQueryPort gameQueryPort;
     @Mock UserEligibilityService userEligibilityService;
     @Mock MissionProgressService missionProgressService;
+    @Mock ReferenceSnapshotSigner referenceSnapshotSigner;
     @InjectMocks GamePlayedConsumer consumer;
 
     @Test
@@ -76,4 +81,42 @@ class GamePlayedConsumerTest {
 
         verify(missionProgressService, never()).processGamePlay(any(), any(), anyInt(), any());
     }
-}
\ No newline at end of file
+
+    // ── verified reference snapshot ─────────────────────────────────────────
+
+    private static final ReferenceSnapshot SNAPSHOT = new ReferenceSnapshot(
+        1, LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 31, 0, 0), 10L, 0L, "sig");
+
+    @Test
+    void onMessage_trustsVerifiedSnapshotAndSkipsLookups() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, 10L)).thenReturn(true);
+        when(userEligibilityService.isEligible(SNAPSHOT)).thenReturn(true);
+
+        consumer.onMessage(new GamePlayedEvent(1L, 10L, 500, "idem-1", 0L, SNAPSHOT));
+
+        verify(missionProgressService).processGamePlay(1L, 10L, 500, "idem-1");
+        verifyNoInteractions(userQueryPort);
+        verify(userEligibilityService, never()).isEligible(anyLong());
+    }
+
+    @Test
+    void onMessage_skipsWhenVerifiedSnapshotWindowHasEnded() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, 10L)).thenReturn(true);
+        when(userEligibilityService.isEligible(SNAPSHOT)).thenReturn(false);
+
+        consumer.onMessage(new GamePlayedEvent(1L, 10L, 500, "idem-1", 0L, SNAPSHOT));
+
+        verify(missionProgressService, never()).processGamePlay(any(), any(), anyInt(), any());
+    }
+
+    @Test
+    void onMessage_fallsBackToLookupsWhenSnapshotIsNotTrusted() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, 10L)).thenReturn(false);
+        when(userQueryPort.userExists(1L)).thenReturn(false);
+
+        consumer.onMessage(new GamePlayedEvent(1L, 10L, 500, "idem-1", 0L, SNAPSHOT));
+
+        verify(userQueryPort).userExists(1L);
+        verify(missionProgressService, never()).processGamePlay(any(), any(), anyInt(), any());
+    }
+}
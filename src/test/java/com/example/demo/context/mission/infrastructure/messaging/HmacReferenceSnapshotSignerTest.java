@@ -0,0 +1,89 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HmacReferenceSnapshotSignerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-10T00:00:00Z");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime WINDOW_END = CREATED_AT.plusDays(30);
+
+    private static HmacReferenceSnapshotSigner signer(String secret, int keyVersion, Instant now) {
+        return new HmacReferenceSnapshotSigner(
+            new ReferenceSnapshotProperties(secret, keyVersion, Duration.ofMinutes(15)),
+            Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void verify_acceptsSnapshotSignedForSameUserAndGame() {
+        var signer = signer("secret", 1, NOW);
+
+        ReferenceSnapshot snapshot = signer.sign(1L, CREATED_AT, WINDOW_END, 10L);
+
+        assertThat(snapshot.version()).isEqualTo(1);
+        assertThat(snapshot.issuedAt()).isEqualTo(NOW.toEpochMilli());
+        assertThat(signer.verify(snapshot, 1L, 10L)).isTrue();
+    }
+
+    @Test
+    void verify_rejectsMissingSnapshot() {
+        assertThat(signer("secret", 1, NOW).verify(null, 1L, 10L)).isFalse();
+    }
+
+    @Test
+    void verify_rejectsSnapshotForAnotherUserOrGame() {
+        var signer = signer("secret", 1, NOW);
+        ReferenceSnapshot snapshot = signer.sign(1L, CREATED_AT, WINDOW_END, 10L);
+
+        assertThat(signer.verify(snapshot, 2L, 10L)).isFalse();
+        assertThat(signer.verify(snapshot, 1L, 11L)).isFalse();
+    }
+
+    @Test
+    void verify_rejectsTamperedWindow() {
+        var signer = signer("secret", 1, NOW);
+        ReferenceSnapshot snapshot = signer.sign(1L, CREATED_AT, WINDOW_END, null);
+        var tampered = new ReferenceSnapshot(snapshot.version(), snapshot.userCreatedAt(),
+            WINDOW_END.plusDays(365), null, snapshot.issuedAt(), snapshot.signature());
+
+        assertThat(signer.verify(tampered, 1L, null)).isFalse();
+    }
+
+    @Test
+    void verify_rejectsSnapshotSignedWithAnotherKeyVersion() {
+        ReferenceSnapshot snapshot = signer("secret", 1, NOW).sign(1L, CREATED_AT, WINDOW_END, null);
+
+        assertThat(signer("secret", 2, NOW).verify(snapshot, 1L, null)).isFalse();
+        assertThat(signer("rotated", 1, NOW).verify(snapshot, 1L, null)).isFalse();
+    }
+
+    @Test
+    void verify_rejectsStaleSnapshot() {
+        ReferenceSnapshot snapshot = signer("secret", 1, NOW).sign(1L, CREATED_AT, WINDOW_END, null);
+
+        assertThat(signer("secret", 1, NOW.plus(Duration.ofMinutes(16))).verify(snapshot, 1L, null)).isFalse();
+    }
+
+    @Test
+    void sign_attachesNothingWithoutSecret() {
+        var signer = signer(" ", 1, NOW);
+
+        assertThat(signer.sign(1L, CREATED_AT, WINDOW_END, 10L)).isNull();
+    }
+
+    @Test
+    void verify_trustsNothingWithoutSecret() {
+        ReferenceSnapshot snapshot = signer("secret", 1, NOW).sign(1L, CREATED_AT, WINDOW_END, 10L);
+
+        assertThat(signer("", 1, NOW).verify(snapshot, 1L, 10L)).isFalse();
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.RewardEventPublisher;
+import com.example.demo.context.mission.domain.event.RewardGrantedEvent;
+import com.example.demo.context.mission.infrastructure.persistence.RewardOutboxRepository;
+import com.example.demo.context.mission.infrastructure.persistence.RewardOutboxRepository.PendingReward;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RewardOutboxRelayTest {
+
+    @Mock RewardOutboxRepository rewardOutboxRepository;
+    @Mock RewardEventPublisher rewardEventPublisher;
+    @Mock TransactionTemplate transactionTemplate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RewardOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+            invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(new SimpleTransactionStatus()));
+        relay = new RewardOutboxRelay(rewardOutboxRepository, rewardEventPublisher, transactionTemplate,
+            new RewardOutboxProperties(2, 5), meterRegistry);
+    }
+
+    private static PendingReward pending(long id, long userId) {
+        return new PendingReward(id, new RewardGrantedEvent(userId, 777, 0L));
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("mission.rewards.outbox.relay").tag("result", result).counter().count();
+    }
+
+    @Test
+    void relay_publishesAndDeletesBatchesUntilOutboxDrains() {
+        when(rewardOutboxRepository.claim(2))
+            .thenReturn(List.of(pending(1, 10), pending(2, 11)))
+            .thenReturn(List.of(pending(3, 12)));
+
+        relay.relay();
+
+        verify(rewardEventPublisher, times(2)).publishAll(any());
+        verify(rewardOutboxRepository).delete(List.of(1L, 2L));
+        verify(rewardOutboxRepository).delete(List.of(3L));
+        assertThat(counter("published")).isEqualTo(3);
+    }
+
+    @Test
+    void relay_keepsRowsAndStopsWhenSendFails() {
+        when(rewardOutboxRepository.claim(2)).thenReturn(List.of(pending(1, 10), pending(2, 11)));
+        doThrow(new IllegalStateException("broker down")).when(rewardEventPublisher).publishAll(any());
+
+        relay.relay();
+
+        verify(rewardOutboxRepository).recordFailedAttempt(List.of(1L, 2L));
+        verify(rewardOutboxRepository, never()).delete(any());
+        verify(rewardOutboxRepository, times(1)).claim(2);
+        assertThat(counter("failed")).isEqualTo(2);
+    }
+
+    @Test
+    void relay_doesNothingWhenOutboxIsEmpty() {
+        when(rewardOutboxRepository.claim(2)).thenReturn(List.of());
+
+        relay.relay();
+
+        verifyNoInteractions(rewardEventPublisher);
+    }
+}
@@ -0,0 +1,322 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.PublishBackpressureException;
+import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
+import com.example.demo.context.mission.infrastructure.messaging.UserActionPublisherProperties.Mode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.rocketmq.client.producer.SendCallback;
+import org.apache.rocketmq.client.producer.SendResult;
+import org.apache.rocketmq.client.producer.SendStatus;
+import org.apache.rocketmq.spring.core.RocketMQTemplate;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RocketMQUserActionEventPublisherTest {
+
+    @Mock RocketMQTemplate rocketMQTemplate;
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @TempDir
+    Path spoolDirectory;
+
+    private static final UserLoggedInEvent LOGIN = new UserLoggedInEvent(1L, LocalDate.of(2026, 1, 10), 0L);
+
+    private RocketMQUserActionEventPublisher publisher(Mode mode, int maxInFlight, int maxRetries) {
+        return publisher(mode, maxInFlight, maxRetries, false);
+    }
+
+    private RocketMQUserActionEventPublisher publisher(Mode mode, int maxInFlight, int maxRetries, boolean ordered) {
+        try {
+            return new RocketMQUserActionEventPublisher(rocketMQTemplate,
+                new UserActionPublisherProperties(mode, maxInFlight, Duration.ofMillis(10), Duration.ofSeconds(3), 100, maxRetries),
+                new OrderedMessagingProperties(ordered, "user-action"),
+                new UserActionSpoolProperties(spoolDirectory, DataSize.ofKilobytes(4), 2, 16, 10, 100),
+                objectMapper,
+                meterRegistry);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<SendCallback> captureAsyncCallbacks() {
+        List<SendCallback> callbacks = new ArrayList<>();
+        doAnswer(invocation -> {
+            callbacks.add(invocation.getArgument(2));
+            return null;
+        }).when(rocketMQTemplate).asyncSend(anyString(), any(Message.class), any(SendCallback.class), anyLong());
+        return callbacks;
+    }
+
+    private static SendResult ok() {
+        SendResult result = new SendResult();
+        result.setSendStatus(SendStatus.SEND_OK);
+        return result;
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("mission.events.publish").tag("result", result).counter().count();
+    }
+
+    @Test
+    void syncMode_throwsWhenBrokerDoesNotAcknowledge() {
+        var publisher = publisher(Mode.SYNC, 1, 0);
+        when(rocketMQTemplate.syncSend(eq("user-logged-in"), any(Message.class), anyLong())).thenReturn(null);
+
+        assertThatThrownBy(() -> publisher.publish(LOGIN)).isInstanceOf(IllegalStateException.class);
+        verify(rocketMQTemplate, never()).asyncSend(anyString(), any(Message.class), any(SendCallback.class), anyLong());
+    }
+
+    @Test
+    void asyncMode_returnsWithoutWaitingAndFreesSlotOnAck() {
+        var publisher = publisher(Mode.ASYNC, 1, 0);
+        List<SendCallback> callbacks = captureAsyncCallbacks();
+
+        publisher.publish(LOGIN);
+        callbacks.get(0).onSuccess(ok());
+        publisher.publish(LOGIN);
+
+        assertThat(callbacks).hasSize(2);
+        assertThat(counter("sent")).isEqualTo(1);
+    }
+
+    @Test
+    void asyncMode_rejectsWhenWindowIsFull() {
+        var publisher = publisher(Mode.ASYNC, 1, 0);
+        captureAsyncCallbacks();
+
+        publisher.publish(LOGIN);
+
+        assertThatThrownBy(() -> publisher.publish(LOGIN)).isInstanceOf(PublishBackpressureException.class);
+        assertThat(counter("rejected")).isEqualTo(1);
+    }
+
+    @Test
+    void asyncMode_buffersFailedSendAndRetriesOnDrain() {
+        var publisher = publisher(Mode.ASYNC, 4, 3);
+        List<SendCallback> callbacks = captureAsyncCallbacks();
+
+        publisher.publish(LOGIN);
+        callbacks.get(0).onException(new RuntimeException("broker down"));
+
+        assertThat(publisher.retryBufferSize()).isEqualTo(1);
+        assertThat(counter("failed")).isEqualTo(1);
+
+        publisher.drainRetryBuffer();
+        callbacks.get(1).onSuccess(ok());
+
+        assertThat(publisher.retryBufferSize()).isZero();
+        assertThat(counter("sent")).isEqualTo(1);
+    }
+
+    @Test
+    void asyncMode_dropsEventAfterMaxRetries() {
+        var publisher = publisher(Mode.ASYNC, 4, 1);
+        List<SendCallback> callbacks = captureAsyncCallbacks();
+
+        publisher.publish(LOGIN);
+        callbacks.get(0).onException(new RuntimeException("broker down"));
+        publisher.drainRetryBuffer();
+        callbacks.get(1).onException(new RuntimeException("broker down"));
+
+        assertThat(publisher.retryBufferSize()).isZero();
+        assertThat(counter("dropped")).isEqualTo(1);
+    }
+
+    @Test
+    void publishAll_groupsByTopicAndReportsFailedPositions() {
+        var publisher = publisher(Mode.SYNC, 1, 0);
+        when(rocketMQTemplate.syncSend(eq("user-logged-in"), anyCollection(), anyLong())).thenReturn(ok());
+        when(rocketMQTemplate.syncSend(eq("game-launched"), anyCollection(), anyLong()))
+            .thenThrow(new RuntimeException("broker down"));
+
+        BitSet failed = publisher.publishAll(List.of(LOGIN, new GameLaunchedEvent(1L, 10L, 0L), LOGIN));
+
+        assertThat(failed.stream().toArray()).containsExactly(1);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Message<?>>> batch = ArgumentCaptor.forClass(Collection.class);
+        verify(rocketMQTemplate).syncSend(eq("user-logged-in"), batch.capture(), anyLong());
+        assertThat(batch.getValue()).hasSize(2);
+    }
+
+    @Test
+    void asyncMode_publishAllSendsWithoutBlockingAndRejectsBeyondWindow() {
+        var publisher = publisher(Mode.ASYNC, 2, 0);
+        List<SendCallback> callbacks = captureAsyncCallbacks();
+
+        BitSet failed = publisher.publishAll(List.of(LOGIN, new GameLaunchedEvent(1L, 10L, 0L), LOGIN));
+
+        assertThat(failed.stream().toArray()).containsExactly(2);
+        assertThat(callbacks).hasSize(2);
+        assertThat(counter("rejected")).isEqualTo(1);
+        verify(rocketMQTemplate, never()).syncSend(anyString(), anyCollection(), anyLong());
+    }
+
+    // ── ordered per user ────────────────────────────────────────────────────
+
+    @Test
+    void orderedMode_sendsToUnifiedTopicKeyedByUser() {
+        var publisher = publisher(Mode.SYNC, 1, 0, true);
+        when(rocketMQTemplate.syncSendOrderly(eq("user-action"), any(Message.class), eq("1"), anyLong())).thenReturn(ok());
+
+        publisher.publish(LOGIN);
+
+        ArgumentCaptor<Message<?>> message = ArgumentCaptor.forClass(Message.class);
+        verify(rocketMQTemplate).syncSendOrderly(eq("user-action"), message.capture(), eq("1"), anyLong());
+        assertThat(message.getValue().getHeaders().get(RocketMQUserActionEventPublisher.ACTION_TYPE))
+            .isEqualTo("user-logged-in");
+    }
+
+    @Test
+    void orderedMode_asyncSendUsesUserHashKey() {
+        var publisher = publisher(Mode.ASYNC, 1, 0, true);
+
+        publisher.publish(new GameLaunchedEvent(7L, 10L, 0L));
+
+        verify(rocketMQTemplate).asyncSendOrderly(eq("user-action"), any(Message.class), eq("7"), any(SendCallback.class), anyLong());
+    }
+
+    @Test
+    void orderedMode_publishAllBatchesPerUserAcrossActionTypes() {
+        var publisher = publisher(Mode.SYNC, 1, 0, true);
+        when(rocketMQTemplate.syncSendOrderly(eq("user-action"), anyCollection(), anyString(), anyLong())).thenReturn(ok());
+
+        BitSet failed = publisher.publishAll(List.of(
+            LOGIN,
+            new GameLaunchedEvent(2L, 10L, 0L),
+            new GameLaunchedEvent(1L, 10L, 0L)));
+
+        assertThat(failed.isEmpty()).isTrue();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Message<?>>> batches = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<String> hashKeys = ArgumentCaptor.forClass(String.class);
+        verify(rocketMQTemplate, times(2)).syncSendOrderly(eq("user-action"), batches.capture(), hashKeys.capture(), anyLong());
+        assertThat(hashKeys.getAllValues()).containsExactly("1", "2");
+        assertThat(batches.getAllValues()).extracting(Collection::size).containsExactly(2, 1);
+    }
+
+    @Test
+    void orderedMode_publishAllStopsAtFirstRefusedUser() {
+        var publisher = publisher(Mode.SYNC, 1, 0, true);
+        when(rocketMQTemplate.syncSendOrderly(eq("user-action"), anyCollection(), anyString(), anyLong()))
+            .thenThrow(new RuntimeException("broker down"));
+
+        BitSet failed = publisher.publishAll(List.of(
+            LOGIN,
+            new GameLaunchedEvent(2L, 10L, 0L),
+            new GameLaunchedEvent(3L, 10L, 0L)));
+
+        assertThat(failed.stream().toArray()).containsExactly(0, 1, 2);
+        verify(rocketMQTemplate, times(1)).syncSendOrderly(eq("user-action"), anyCollection(), anyString(), anyLong());
+    }
+
+    // ── spool ───────────────────────────────────────────────────────────────
+
+    @Test
+    void spoolMode_returnsBeforeAnySendAndDrainsInOrder() {
+        var publisher = publisher(Mode.SPOOL, 1, 0);
+        var launch = new GameLaunchedEvent(2L, 10L, 0L);
+        when(rocketMQTemplate.syncSend(anyString(), anyCollection(), anyLong())).thenReturn(ok());
+
+        publisher.publish(LOGIN);
+        publisher.publish(launch);
+        verifyNoInteractions(rocketMQTemplate);
+
+        publisher.drainSpool();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Message<?>>> batches = ArgumentCaptor.forClass(Collection.class);
+        verify(rocketMQTemplate, times(2)).syncSend(anyString(), batches.capture(), anyLong());
+        List<Object> sent = batches.getAllValues().stream()
+            .flatMap(batch -> batch.stream().<Object>map(Message::getPayload))
+            .toList();
+        assertThat(sent).containsExactly(LOGIN, launch);
+        assertThat(counter("spooled")).isEqualTo(2);
+
+        publisher.drainSpool();
+        verify(rocketMQTemplate, times(2)).syncSend(anyString(), anyCollection(), anyLong());
+    }
+
+    @Test
+    void spoolMode_drainsAtMostMaxBatchesPerRun() throws IOException {
+        var publisher = new RocketMQUserActionEventPublisher(rocketMQTemplate,
+            new UserActionPublisherProperties(Mode.SPOOL, 1, Duration.ofMillis(10), Duration.ofSeconds(3), 100, 0),
+            new OrderedMessagingProperties(false, "user-action"),
+            new UserActionSpoolProperties(spoolDirectory, DataSize.ofKilobytes(4), 2, 1, 2, 100),
+            objectMapper,
+            meterRegistry);
+        when(rocketMQTemplate.syncSend(anyString(), anyCollection(), anyLong())).thenReturn(ok());
+        for (long game = 1; game <= 3; game++) {
+            publisher.publish(new GameLaunchedEvent(1L, game, 0L));
+        }
+
+        publisher.drainSpool();
+        verify(rocketMQTemplate, times(2)).syncSend(anyString(), anyCollection(), anyLong());
+
+        publisher.drainSpool();
+        verify(rocketMQTemplate, times(3)).syncSend(anyString(), anyCollection(), anyLong());
+    }
+
+    @Test
+    void spoolMode_keepsEventsWhileBrokerIsDown() {
+        var publisher = publisher(Mode.SPOOL, 1, 0);
+        when(rocketMQTemplate.syncSend(anyString(), anyCollection(), anyLong())).thenReturn(null).thenReturn(ok());
+
+        publisher.publish(LOGIN);
+        publisher.drainSpool();
+        publisher.drainSpool();
+
+        verify(rocketMQTemplate, times(2)).syncSend(eq("user-logged-in"), anyCollection(), anyLong());
+    }
+
+    @Test
+    void spoolMode_resumesUndeliveredEventsAfterRestart() throws IOException {
+        var publisher = publisher(Mode.SPOOL, 1, 0);
+        publisher.publish(LOGIN);
+        publisher.closeSpool();
+
+        var restarted = publisher(Mode.SPOOL, 1, 0);
+        when(rocketMQTemplate.syncSend(anyString(), anyCollection(), anyLong())).thenReturn(ok());
+        restarted.drainSpool();
+
+        verify(rocketMQTemplate).syncSend(eq("user-logged-in"), anyCollection(), anyLong());
+    }
+
+    @Test
+    void spoolMode_rejectsWhenSpoolIsFull() {
+        var publisher = publisher(Mode.SPOOL, 1, 0);
+
+        assertThatThrownBy(() -> {
+            for (int i = 0; i < 1000; i++) {
+                publisher.publish(new GameLaunchedEvent(1L, (long) i, 0L));
+            }
+        }).isInstanceOf(PublishBackpressureException.class);
+        assertThat(counter("rejected")).isEqualTo(1);
+    }
+}
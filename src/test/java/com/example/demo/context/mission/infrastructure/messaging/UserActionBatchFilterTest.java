@@ -0,0 +1,69 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.application.port.GameQueryPort;
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
+import com.example.demo.context.mission.application.service.UserEligibilityService;
+import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserActionBatchFilterTest {
+
+    private static final ReferenceSnapshot SNAPSHOT = new ReferenceSnapshot(
+        1, LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 31, 0, 0), 10L, 0L, "sig");
+
+    @Mock GameQueryPort gameQueryPort;
+    @Mock UserEligibilityService userEligibilityService;
+    @Mock ReferenceSnapshotSigner referenceSnapshotSigner;
+    @InjectMocks UserActionBatchFilter filter;
+
+    @Test
+    void accept_decidesVerifiedEventsWithoutLookups() {
+        var launch = new GameLaunchedEvent(1L, 10L, 0L, SNAPSHOT);
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, 10L)).thenReturn(true);
+        when(userEligibilityService.isEligible(SNAPSHOT)).thenReturn(true);
+
+        assertThat(filter.accept(List.of(launch), GameLaunchedEvent::gameId)).containsExactly(launch);
+
+        verifyNoInteractions(gameQueryPort);
+        verify(userEligibilityService, never()).eligibleUserIds(any());
+    }
+
+    @Test
+    void accept_sharesOneUserAndOneGameLookupAcrossUnverifiedEvents() {
+        var first = new GameLaunchedEvent(1L, 10L, 0L);
+        var second = new GameLaunchedEvent(2L, 10L, 0L);
+        var ineligible = new GameLaunchedEvent(3L, 11L, 0L);
+        var missingGame = new GameLaunchedEvent(1L, 99L, 0L);
+        when(userEligibilityService.eligibleUserIds(Set.of(1L, 2L, 3L))).thenReturn(Set.of(1L, 2L));
+        when(gameQueryPort.findExistingGameIds(Set.of(10L, 11L, 99L))).thenReturn(Set.of(10L, 11L));
+
+        var accepted = filter.accept(List.of(first, second, ineligible, missingGame), GameLaunchedEvent::gameId);
+
+        assertThat(accepted).containsExactly(first, second);
+        verify(userEligibilityService, times(1)).eligibleUserIds(any());
+        verify(gameQueryPort, times(1)).findExistingGameIds(any());
+    }
+
+    @Test
+    void accept_skipsGameLookupForEventsWithoutGame() {
+        var login = new GameLaunchedEvent(1L, null, 0L);
+        when(userEligibilityService.eligibleUserIds(Set.of(1L))).thenReturn(Set.of(1L));
+
+        assertThat(filter.accept(List.of(login), event -> null)).containsExactly(login);
+
+        verifyNoInteractions(gameQueryPort);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import com.example.demo.context.mission.domain.event.GameLaunchedEvent;
+import com.example.demo.context.mission.domain.event.GamePlayedEvent;
+import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.rocketmq.common.message.MessageExt;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserActionConsumerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Mock UserLoggedInConsumer userLoggedInConsumer;
+    @Mock GameLaunchedConsumer gameLaunchedConsumer;
+    @Mock GamePlayedConsumer gamePlayedConsumer;
+
+    UserActionConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new UserActionConsumer(objectMapper, userLoggedInConsumer, gameLaunchedConsumer, gamePlayedConsumer);
+    }
+
+    @Test
+    void onMessage_dispatchesByActionType() throws Exception {
+        var login = new UserLoggedInEvent(1L, LocalDate.of(2026, 1, 10), 5L);
+        var launch = new GameLaunchedEvent(1L, 10L, 6L);
+
+        consumer.onMessage(message("user-logged-in", objectMapper.writeValueAsBytes(login)));
+        consumer.onMessage(message("game-launched", objectMapper.writeValueAsBytes(launch)));
+
+        verify(userLoggedInConsumer).onMessage(login);
+        verify(gameLaunchedConsumer).onMessage(launch);
+        verifyNoInteractions(gamePlayedConsumer);
+    }
+
+    @Test
+    void onMessage_skipsUnknownTypeAndUnreadableBody() {
+        consumer.onMessage(message("game-deleted", "{}".getBytes()));
+        consumer.onMessage(message(null, "{}".getBytes()));
+        consumer.onMessage(message("game-played", "not json".getBytes()));
+
+        verifyNoInteractions(userLoggedInConsumer, gameLaunchedConsumer, gamePlayedConsumer);
+    }
+
+    @Test
+    void onMessage_decodesGamePlayed() throws Exception {
+        var play = new GamePlayedEvent(1L, 10L, 500, "k1", 7L);
+
+        consumer.onMessage(message("game-played", objectMapper.writeValueAsBytes(play)));
+
+        verify(gamePlayedConsumer).onMessage(play);
+    }
+
+    private static MessageExt message(String actionType, byte[] body) {
+        MessageExt message = new MessageExt();
+        if (actionType != null) {
+            message.putUserProperty(RocketMQUserActionEventPublisher.ACTION_TYPE, actionType);
+        }
+        message.setBody(body);
+        return message;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.demo.context.mission.infrastructure.messaging;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UserActionSpoolTest {
+
+    private static final int SEGMENT_SIZE = 64;
+
+    @TempDir
+    Path directory;
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> payloads(List<UserActionSpool.Entry> entries) {
+        return entries.stream().map(entry -> new String(entry.payload(), StandardCharsets.UTF_8)).toList();
+    }
+
+    private long segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    void peek_returnsRecordsInAppendOrderUntilAcknowledged() throws IOException {
+        try (var spool = UserActionSpool.open(directory, SEGMENT_SIZE, 4)) {
+            spool.append(bytes("a"));
+            spool.append(bytes("b"));
+            spool.append(bytes("c"));
+
+            List<UserActionSpool.Entry> entries = spool.peek(2);
+            assertThat(payloads(entries)).containsExactly("a", "b");
+            assertThat(payloads(spool.peek(10))).containsExactly("a", "b", "c");
+
+            spool.acknowledge(entries.get(1));
+            assertThat(payloads(spool.peek(10))).containsExactly("c");
+        }
+    }
+
+    @Test
+    void open_resumesAfterLastAcknowledgedRecord() throws IOException {
+        try (var spool = UserActionSpool.open(directory, SEGMENT_SIZE, 4)) {
+            spool.append(bytes("a"));
+            spool.append(bytes("b"));
+            spool.acknowledge(spool.peek(1).get(0));
+        }
+
+        try (var reopened = UserActionSpool.open(directory, SEGMENT_SIZE, 4)) {
+            assertThat(payloads(reopened.peek(10))).containsExactly("b");
+            reopened.append(bytes("c"));
+            assertThat(payloads(reopened.peek(10))).containsExactly("b", "c");
+        }
+    }
+
+    @Test
+    void acknowledge_deletesDrainedSegments() throws IOException {
+        try (var spool = UserActionSpool.open(directory, SEGMENT_SIZE, 4)) {
+            byte[] record = new byte[20];
+            for (int i = 0; i < 5; i++) {
+                spool.append(record);
+            }
+            assertThat(spool.segmentCount()).isEqualTo(3);
+
+            List<UserActionSpool.Entry> entries = spool.peek(10);
+            assertThat(entries).hasSize(5);
+            spool.acknowledge(entries.get(4));
+
+            assertThat(spool.segmentCount()).isEqualTo(1);
+            assertThat(segmentFiles()).isEqualTo(1);
+            assertThat(spool.peek(10)).isEmpty();
+        }
+    }
+
+    @Test
+    void append_refusesWhenAllSegmentsAreInUse() throws IOException {
+        try (var spool = UserActionSpool.open(directory, SEGMENT_SIZE, 2)) {
+            byte[] record = new byte[20];
+            for (int i = 0; i < 4; i++) {
+                assertThat(spool.append(record)).isTrue();
+            }
+
+            assertThat(spool.append(record)).isFalse();
+
+            spool.acknowledge(spool.peek(2).get(1));
+            assertThat(spool.append(record)).isTrue();
+        }
+    }
+
+    @Test
+    void append_rejectsRecordLargerThanSegment() throws IOException {
+        try (var spool = UserActionSpool.open(directory, SEGMENT_SIZE, 2)) {
+            assertThatThrownBy(() -> spool.append(new byte[SEGMENT_SIZE])).isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.example.demo.context.mission.infrastructure.messaging;
 
+import com.example.demo.context.mission.application.port.ReferenceSnapshotSigner;
 import com.example.demo.context.mission.application.port.UserQueryPort;
 import com.example.demo.context.mission.application.service.MissionProgressService;
 import com.example.demo.context.mission.application.service.UserEligibilityService;
 import com.example.demo.context.mission.domain.event.UserLoggedInEvent;
+import com.example.demo.context.mission.domain.event.ReferenceSnapshot;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -11,6 +13,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import static org.mockito.Mockito.*;
 
@@ -20,6 +23,7 @@ class UserLoggedInConsumerTest {
     @Mock UserQueryPort userQueryPort;
     @Mock UserEligibilityService userEligibilityService;
     @Mock MissionProgressService missionProgressService;
+    @Mock ReferenceSnapshotSigner referenceSnapshotSigner;
     @InjectMocks UserLoggedInConsumer consumer;
 
     private static final LocalDate LOGIN_DATE = LocalDate.of(2026, 1, 10);
@@ -52,4 +56,42 @@ class UserLoggedInConsumerTest {
 
         verify(missionProgressService, never()).processLogin(any(), any());
     }
-}
\ No newline at end of file
+
+    // ── verified reference snapshot ─────────────────────────────────────────
+
+    private static final ReferenceSnapshot SNAPSHOT = new ReferenceSnapshot(
+        1, LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 31, 0, 0), null, 0L, "sig");
+
+    @Test
+    void onMessage_trustsVerifiedSnapshotAndSkipsLookups() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, null)).thenReturn(true);
+        when(userEligibilityService.isEligible(SNAPSHOT)).thenReturn(true);
+
+        consumer.onMessage(new UserLoggedInEvent(1L, LOGIN_DATE, 0L, SNAPSHOT));
+
+        verify(missionProgressService).processLogin(1L, LOGIN_DATE);
+        verifyNoInteractions(userQueryPort);
+        verify(userEligibilityService, never()).isEligible(anyLong());
+    }
+
+    @Test
+    void onMessage_skipsWhenVerifiedSnapshotWindowHasEnded() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, null)).thenReturn(true);
+        when(userEligibilityService.isEligible(SNAPSHOT)).thenReturn(false);
+
+        consumer.onMessage(new UserLoggedInEvent(1L, LOGIN_DATE, 0L, SNAPSHOT));
+
+        verify(missionProgressService, never()).processLogin(any(), any());
+    }
+
+    @Test
+    void onMessage_fallsBackToLookupsWhenSnapshotIsNotTrusted() {
+        when(referenceSnapshotSigner.verify(SNAPSHOT, 1L, null)).thenReturn(false);
+        when(userQueryPort.userExists(1L)).thenReturn(false);
+
+        consumer.onMessage(new UserLoggedInEvent(1L, LOGIN_DATE, 0L, SNAPSHOT));
+
+        verify(userQueryPort).userExists(1L);
+        verify(missionProgressService, never()).processLogin(any(), any());
+    }
+}
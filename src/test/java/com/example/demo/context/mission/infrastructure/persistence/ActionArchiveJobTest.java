@@ -0,0 +1,148 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.infrastructure.persistence.ActionArchiveJob.ClosedWindow;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActionArchiveJobTest {
+
+    private static final LocalDate WINDOW_END = LocalDate.of(2026, 1, 31);
+    private static final Date WINDOW_END_DATE = Date.valueOf(WINDOW_END);
+
+    @Mock JdbcTemplate jdbcTemplate;
+
+    @TempDir Path directory;
+
+    ActionArchiveJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ActionArchiveJob(jdbcTemplate, new ObjectMapper(),
+            new ActionArchiveProperties(true, "0 30 3 * * *", directory, Duration.ofDays(1), 500, 20000, Duration.ofMinutes(30), 2, 500, Duration.ZERO),
+            Clock.fixed(Instant.parse("2026-03-10T03:30:00Z"), ZoneOffset.UTC));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenClosedWindows(List<ClosedWindow> users) {
+        when(jdbcTemplate.query(contains("FROM users u"), any(RowMapper.class), any(Object[].class)))
+            .thenReturn((List) users, List.of());
+    }
+
+    private void givenRows(String table, List<Map<String, Object>> rows) {
+        when(jdbcTemplate.queryForList(contains("FROM " + table + " "), any(Object[].class))).thenReturn(rows);
+    }
+
+    private Path archivedFile() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+
+    private List<String> archivedLines() throws IOException {
+        Path file = archivedFile();
+        assertThat(file.getFileName().toString()).startsWith("actions-20260310-033000-1").endsWith(".ndjson.gz");
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+
+    @Test
+    void archive_writesRowsSummarizesAndDeletesThem() throws Exception {
+        givenClosedWindows(List.of(new ClosedWindow(1L, WINDOW_END)));
+        givenRows("login_records", List.of(Map.of("id", 5L, "user_id", 1L, "login_date", "2026-01-02")));
+        givenRows("game_launch_records", List.of());
+        givenRows("games_play_record", List.of(
+            Map.of("id", 7L, "user_id", 1L, "score", 100),
+            Map.of("id", 9L, "user_id", 1L, "score", 250)));
+        when(jdbcTemplate.queryForList(contains("FROM games_play_record "), eq(1L), eq(WINDOW_END_DATE), eq(9L), eq(2)))
+            .thenReturn(List.of());
+
+        assertThat(job.archive()).isEqualTo(1);
+
+        List<String> lines = archivedLines();
+        assertThat(lines).hasSize(3);
+        assertThat(lines.getFirst()).startsWith("{\"table\":\"login_records\"");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Object[]>> summaries = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("user_action_archive"), summaries.capture());
+        assertThat(summaries.getValue().getFirst())
+            .containsExactly(1L, WINDOW_END_DATE, 1, 0, 2, 350L, archivedFile().getFileName().toString());
+
+        verify(jdbcTemplate).update(contains("DELETE FROM login_records"), eq(1L), eq(WINDOW_END_DATE), eq(5L), eq(500));
+        verify(jdbcTemplate).update(contains("DELETE FROM games_play_record"), eq(1L), eq(WINDOW_END_DATE), eq(9L), eq(500));
+        verify(jdbcTemplate, never()).update(contains("DELETE FROM game_launch_records"), any(Object[].class));
+    }
+
+    @Test
+    void archive_keepsRowsWhenFileCannotBeWritten() throws IOException {
+        Path blocked = Files.writeString(directory.resolve("blocked"), "not a directory");
+        job = new ActionArchiveJob(jdbcTemplate, new ObjectMapper(),
+            new ActionArchiveProperties(true, "0 30 3 * * *", blocked, Duration.ofDays(1), 500, 20000, Duration.ofMinutes(30), 500, 500, Duration.ZERO),
+            Clock.systemUTC());
+        givenClosedWindows(List.of(new ClosedWindow(1L, WINDOW_END)));
+
+        assertThatThrownBy(() -> job.archive()).isInstanceOf(IOException.class);
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+    }
+
+    @Test
+    void archiveQuietly_doesNothingWhenDisabled() {
+        job = new ActionArchiveJob(jdbcTemplate, new ObjectMapper(),
+            new ActionArchiveProperties(false, "0 30 3 * * *", directory, Duration.ofDays(1), 500, 20000, Duration.ofMinutes(30), 500, 500, Duration.ZERO),
+            Clock.systemUTC());
+
+        job.archiveQuietly();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void archive_takesNoUsersOnceRunTimeIsUsedUp() throws Exception {
+        job = new ActionArchiveJob(jdbcTemplate, new ObjectMapper(),
+            new ActionArchiveProperties(true, "0 30 3 * * *", directory, Duration.ofDays(1), 500, 20000, Duration.ZERO, 500, 500, Duration.ZERO),
+            Clock.systemUTC());
+
+        assertThat(job.archive()).isZero();
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ActionPartitionMaintainerTest {
+
+    private static final String TABLE = "games_play_record";
+
+    @Mock JdbcTemplate jdbcTemplate;
+
+    ActionPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = maintainer(false);
+    }
+
+    private ActionPartitionMaintainer maintainer(boolean archiveEnabled) {
+        return new ActionPartitionMaintainer(jdbcTemplate,
+            new ActionPartitionProperties(true, "0 15 3 * * *", 2, 1),
+            new ActionArchiveProperties(archiveEnabled, "0 30 3 * * *", Path.of("data/archive"), Duration.ofDays(1),
+                500, 20000, Duration.ofMinutes(30), 500, 500, Duration.ZERO),
+            Clock.fixed(Instant.parse("2026-10-18T00:00:00Z"), ZoneOffset.UTC));
+    }
+
+    private void givenPartitions(String... names) {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq(TABLE))).thenReturn(List.of(names));
+    }
+
+    @Test
+    void rotate_splitsCurrentAndAheadMonthsOutOfCatchAllOnFirstRun() {
+        givenPartitions("pmax");
+
+        maintainer.rotate(TABLE);
+
+        verify(jdbcTemplate).execute("ALTER TABLE games_play_record REORGANIZE PARTITION pmax INTO ("
+            + "PARTITION p202610 VALUES LESS THAN ('2026-11-01'), "
+            + "PARTITION p202611 VALUES LESS THAN ('2026-12-01'), "
+            + "PARTITION p202612 VALUES LESS THAN ('2027-01-01'), "
+            + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        verifyNoMoreInteractions(ignoreStubs(jdbcTemplate));
+    }
+
+    @Test
+    void rotate_addsOnlyMissingMonthsAndDropsExpiredOnes() {
+        givenPartitions("p202607", "p202608", "p202609", "p202610", "p202611", "pmax");
+
+        maintainer.rotate(TABLE);
+
+        verify(jdbcTemplate).execute("ALTER TABLE games_play_record REORGANIZE PARTITION pmax INTO ("
+            + "PARTITION p202612 VALUES LESS THAN ('2027-01-01'), "
+            + "PARTITION pmax VALUES LESS THAN (MAXVALUE))");
+        verify(jdbcTemplate).execute("ALTER TABLE games_play_record DROP PARTITION p202607, p202608");
+    }
+
+    @Test
+    void rotate_keepsExpiredMonthsWithUnarchivedRowsWhenArchiving() {
+        maintainer = maintainer(true);
+        givenPartitions("p202607", "p202608", "p202609", "p202610", "p202611", "p202612", "pmax");
+        when(jdbcTemplate.queryForObject(contains("PARTITION (p202607)"), eq(Boolean.class))).thenReturn(false);
+        when(jdbcTemplate.queryForObject(contains("PARTITION (p202608)"), eq(Boolean.class))).thenReturn(true);
+
+        maintainer.rotate(TABLE);
+
+        verify(jdbcTemplate).execute("ALTER TABLE games_play_record DROP PARTITION p202607");
+    }
+
+    @Test
+    void rotate_doesNothingWhenUpToDate() {
+        givenPartitions("p202609", "p202610", "p202611", "p202612", "pmax");
+
+        maintainer.rotate(TABLE);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void rotate_skipsTablesWithoutCatchAll() {
+        givenPartitions();
+
+        maintainer.rotate(TABLE);
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    void rotateQuietly_continuesWithOtherTablesAfterFailure() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), any(Object[].class)))
+            .thenThrow(new RuntimeException("lock wait timeout"))
+            .thenReturn(List.of("pmax"));
+
+        maintainer.rotateQuietly();
+
+        verify(jdbcTemplate, times(ActionPartitionMaintainer.TABLES.size()))
+            .queryForList(anyString(), eq(String.class), any(Object[].class));
+        verify(jdbcTemplate, times(ActionPartitionMaintainer.TABLES.size() - 1)).execute(anyString());
+    }
+}
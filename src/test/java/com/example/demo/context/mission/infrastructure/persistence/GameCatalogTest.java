@@ -0,0 +1,121 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.infrastructure.persistence.repository.GameEntityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GameCatalogTest {
+
+    @Mock GameEntityRepository gameEntityRepository;
+
+    private static final Instant NOW = Instant.parse("2026-01-10T00:00:00Z");
+
+    final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+
+    GameCatalog catalog;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now.get();
+            }
+        };
+        catalog = new GameCatalog(gameEntityRepository, clock);
+    }
+
+    @Test
+    void contains_answersFromSnapshotWithoutQueryingDb() {
+        when(gameEntityRepository.findAllIds()).thenReturn(List.of(5L, 1L, 3L));
+        catalog.afterSingletonsInstantiated();
+
+        assertThat(catalog.contains(1L)).isTrue();
+        assertThat(catalog.contains(5L)).isTrue();
+        verify(gameEntityRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void contains_reloadsSnapshotOnMissAtMostOncePerInterval() {
+        when(gameEntityRepository.findAllIds()).thenReturn(List.of(1L), List.of(1L, 6L));
+        catalog.refresh();
+
+        assertThat(catalog.contains(6L)).isFalse();
+        now.set(NOW.plus(GameCatalog.MISS_RELOAD_INTERVAL));
+        assertThat(catalog.contains(6L)).isTrue();
+        assertThat(catalog.contains(2L)).isFalse();
+
+        verify(gameEntityRepository, times(2)).findAllIds();
+        verify(gameEntityRepository, never()).existsById(anyLong());
+    }
+
+    @Test
+    void findExisting_reloadsSnapshotOnceForAllMisses() {
+        when(gameEntityRepository.findAllIds()).thenReturn(List.of(1L, 3L), List.of(1L, 3L, 6L));
+        catalog.refresh();
+        now.set(NOW.plus(GameCatalog.MISS_RELOAD_INTERVAL));
+
+        assertThat(catalog.findExisting(List.of(1L, 6L, 3L, 7L))).containsExactlyInAnyOrder(1L, 3L, 6L);
+        verify(gameEntityRepository, times(2)).findAllIds();
+        verify(gameEntityRepository, never()).findExistingIds(anyCollection());
+    }
+
+    @Test
+    void contains_fallsBackToDbBeforeFirstLoad() {
+        when(gameEntityRepository.existsById(1L)).thenReturn(true);
+
+        assertThat(catalog.contains(1L)).isTrue();
+        assertThat(catalog.current()).isNull();
+    }
+
+    @Test
+    void refresh_swapsInNewSnapshot() {
+        when(gameEntityRepository.findAllIds()).thenReturn(List.of(1L), List.of(1L, 6L));
+        catalog.refresh();
+        assertThat(catalog.contains(6L)).isFalse();
+
+        GameCatalog.Snapshot refreshed = catalog.refresh();
+
+        assertThat(refreshed.size()).isEqualTo(2);
+        assertThat(catalog.contains(6L)).isTrue();
+    }
+
+    @Test
+    void refreshQuietly_keepsPreviousSnapshotWhenLoadFails() {
+        when(gameEntityRepository.findAllIds())
+            .thenReturn(List.of(1L))
+            .thenThrow(new RuntimeException("db down"));
+        catalog.refresh();
+
+        catalog.refreshQuietly();
+
+        assertThat(catalog.contains(1L)).isTrue();
+        assertThat(catalog.current().size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.application.port.MissionProgress;
+import com.example.demo.context.mission.domain.model.MissionType;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MissionProgressQueryAdapterTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 2, 5);
+
+    // ── mapByUser ───────────────────────────────────────────────────────────
+
+    @Test
+    void mapByUser_foldsRowsOrderedByUser() throws Exception {
+        Timestamp expiredAt = Timestamp.valueOf(LocalDateTime.of(2026, 2, 10, 0, 0));
+        ResultSet rs = mock(ResultSet.class);
+        // user 1 has two missions, user 2 has none yet (NULL mission columns)
+        when(rs.next()).thenReturn(true, true, true, false);
+        when(rs.getLong("user_id")).thenReturn(1L, 1L, 2L, 2L);
+        when(rs.getLong("id")).thenReturn(10L, 11L, 0L);
+        when(rs.wasNull()).thenReturn(false, false, true);
+        when(rs.getString("mission_type")).thenReturn("CONSECUTIVE_LOGIN", "PLAY_SCORE");
+        when(rs.getTimestamp("expired_at")).thenReturn(expiredAt);
+        when(rs.getInt("distinct_games")).thenReturn(2, 0);
+        when(rs.getInt("play_sessions")).thenReturn(4, 0);
+        when(rs.getInt("total_score")).thenReturn(900, 0);
+        when(rs.getDate("last_login_date")).thenReturn(Date.valueOf(AS_OF), (Date) null);
+        when(rs.getLong("login_days")).thenReturn(0b011L);
+
+        Map<Long, MissionProgress> progress = MissionProgressQueryAdapter.mapByUser(rs, AS_OF);
+
+        assertThat(progress).containsOnlyKeys(1L, 2L);
+        assertThat(progress.get(1L).missions()).extracting(mission -> mission.getMissionType())
+            .containsExactly(MissionType.CONSECUTIVE_LOGIN, MissionType.PLAY_SCORE);
+        assertThat(progress.get(1L).consecutiveLoginDays()).isEqualTo(2);
+        assertThat(progress.get(1L).totalScore()).isEqualTo(900);
+        assertThat(progress.get(2L).missions()).isEmpty();
+        assertThat(progress.get(2L).playSessions()).isZero();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.infrastructure.persistence.repository.RewardEntityRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RewardRepositoryAdapterTest {
+
+    @Mock
+    RewardEntityRepository rewardEntityRepository;
+
+    @Mock
+    RewardOutboxRepository rewardOutboxRepository;
+
+    @InjectMocks
+    RewardRepositoryAdapter adapter;
+
+    @Test
+    void grantRewardIfAllCompleted_requiresEveryMissionTypeAndQueuesEvent() {
+        when(rewardEntityRepository.insertIfAllCompleted(
+            1L, 777, List.of("CONSECUTIVE_LOGIN", "DIFFERENT_GAMES", "PLAY_SCORE"), 3)).thenReturn(true);
+
+        assertThat(adapter.grantRewardIfAllCompleted(1L, 777)).isTrue();
+        verify(rewardOutboxRepository).append(1L, 777);
+    }
+
+    @Test
+    void grantRewardIfAllCompleted_reportsNoInsertAndQueuesNoEvent() {
+        when(rewardEntityRepository.insertIfAllCompleted(
+            1L, 777, List.of("CONSECUTIVE_LOGIN", "DIFFERENT_GAMES", "PLAY_SCORE"), 3)).thenReturn(false);
+
+        assertThat(adapter.grantRewardIfAllCompleted(1L, 777)).isFalse();
+        verifyNoInteractions(rewardOutboxRepository);
+    }
+}
@@ -1,18 +1,44 @@
 package com.example.demo.context.mission.infrastructure.persistence;
 
+import com.example.demo.context.mission.application.port.GamePlayRecordPort.GamePlay;
+import com.example.demo.context.mission.application.port.ProgressAggregates;
+import com.example.demo.context.mission.application.port.UserQueryPort;
+import com.example.demo.context.mission.domain.model.LoginCalendar;
 import com.example.demo.context.mission.infrastructure.persistence.repository.GameLaunchRecordEntityRepository;
 import com.example.demo.context.mission.infrastructure.persistence.repository.GamePlayRecordEntityRepository;
 import com.example.demo.context.mission.infrastructure.persistence.repository.LoginRecordEntityRepository;
+import com.example.demo.context.mission.infrastructure.persistence.repository.UserMissionProgressEntityRepository;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
 
+import java.sql.Date;
+import java.sql.ResultSet;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,62 +53,225 @@ class UserActionAdapterTest {
     @Mock
     GamePlayRecordEntityRepository gamePlayRecordEntityRepository;
 
+    @Mock
+    UserMissionProgressEntityRepository userMissionProgressEntityRepository;
+
+    @Mock
+    UserQueryPort userQueryPort;
+
+    @Mock
+    JdbcTemplate jdbcTemplate;
+
     @InjectMocks
     UserActionAdapter adapter;
 
-    // ── countConsecutiveLoginDays ────────────────────────────────────────────
+    private static final LocalDateTime USER_1_CREATED_AT = LocalDateTime.of(2026, 1, 1, 23, 30);
+    private static final LocalDateTime USER_2_CREATED_AT = LocalDateTime.of(2026, 2, 10, 8, 0);
+    private static final LocalDate USER_1_WINDOW_END = LocalDate.of(2026, 1, 31);
+    private static final LocalDate USER_2_WINDOW_END = LocalDate.of(2026, 3, 12);
+
+    private void givenUser1() {
+        when(userQueryPort.getUserCreatedAt(1L)).thenReturn(Optional.of(USER_1_CREATED_AT));
+    }
+
+    private void givenUsers1And2() {
+        when(userQueryPort.getUserCreatedAts(Set.of(1L, 2L)))
+            .thenReturn(Map.of(1L, USER_1_CREATED_AT, 2L, USER_2_CREATED_AT));
+    }
+
+    // ── recordLogin / countConsecutiveLoginDays ─────────────────────────────
+
+    @Test
+    void recordLogin_marksCalendarOnlyForNewLogin() {
+        LocalDate loginDate = LocalDate.of(2026, 1, 5);
+        givenUser1();
+        when(loginRecordEntityRepository.insertIgnore(1L, loginDate, USER_1_WINDOW_END)).thenReturn(true, false);
+
+        assertThat(adapter.recordLogin(1L, loginDate)).isTrue();
+        assertThat(adapter.recordLogin(1L, loginDate)).isFalse();
+
+        verify(userMissionProgressEntityRepository, times(1)).markLoginDay(1L, loginDate);
+    }
+
+    // ── findAggregates ──────────────────────────────────────────────────────
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void findAggregates_isEmptyBeforeFirstAction() {
+        when(jdbcTemplate.query(contains("login_days"), any(RowMapper.class), eq(1L))).thenReturn(List.of());
+
+        assertThat(adapter.findAggregates(1L)).isEqualTo(ProgressAggregates.EMPTY);
+        assertThat(adapter.findLoginCalendar(1L)).isEqualTo(LoginCalendar.EMPTY);
+    }
+
+    @Test
+    void findAggregates_readsAllUsersInOneQuery() {
+        adapter.findAggregates(List.of(1L, 2L, 3L));
+
+        verify(jdbcTemplate).query(contains("IN (?, ?, ?)"), any(RowCallbackHandler.class), eq(1L), eq(2L), eq(3L));
+    }
+
+    // ── recordGameLaunch ────────────────────────────────────────────────────
+
+    @Test
+    void recordGameLaunch_incrementsDistinctGamesOnlyForNewGame() {
+        givenUser1();
+        when(gameLaunchRecordEntityRepository.insertIgnore(1L, 10L, USER_1_WINDOW_END)).thenReturn(true);
+
+        assertThat(adapter.recordGameLaunch(1L, 10L)).isTrue();
+
+        verify(userMissionProgressEntityRepository).incrementDistinctGames(1L);
+    }
+
+    @Test
+    void recordGameLaunch_leavesCounterUntouchedForRepeatedGame() {
+        givenUser1();
+        when(gameLaunchRecordEntityRepository.insertIgnore(1L, 10L, USER_1_WINDOW_END)).thenReturn(false);
+
+        assertThat(adapter.recordGameLaunch(1L, 10L)).isFalse();
+
+        verify(userMissionProgressEntityRepository, never()).incrementDistinctGames(any());
+    }
+
+    // ── recordGamePlay ──────────────────────────────────────────────────────
+
+    @Test
+    void recordGamePlay_addsSessionAndScoreOnlyForNewIdempotencyKey() {
+        givenUser1();
+        when(gamePlayRecordEntityRepository.insertIgnore(1L, 10L, 300, "k1", USER_1_WINDOW_END)).thenReturn(true);
+        when(gamePlayRecordEntityRepository.insertIgnore(1L, 10L, 300, "k2", USER_1_WINDOW_END)).thenReturn(false);
+
+        assertThat(adapter.recordGamePlay(1L, 10L, 300, "k1")).isTrue();
+        assertThat(adapter.recordGamePlay(1L, 10L, 300, "k2")).isFalse();
+
+        verify(userMissionProgressEntityRepository).addPlaySession(1L, 300);
+        verify(userMissionProgressEntityRepository, times(1)).addPlaySession(any(), anyInt());
+    }
+
+    // ── batch writes ────────────────────────────────────────────────────────
+
+    private static Map<Long, Set<Long>> launches() {
+        Map<Long, Set<Long>> launches = new LinkedHashMap<>();
+        launches.put(1L, Set.of(10L));
+        launches.put(2L, Set.of(10L));
+        return launches;
+    }
 
     @Test
-    void countConsecutiveLoginDays_returnsFullStreakWhenAllDaysConsecutive() {
-        LocalDate asOfDate = LocalDate.of(2026, 1, 5);
-        List<LocalDate> dates = List.of(
-            LocalDate.of(2026, 1, 5),
-            LocalDate.of(2026, 1, 4),
-            LocalDate.of(2026, 1, 3)
-        );
-        when(loginRecordEntityRepository.findRecentLoginDates(1L, asOfDate)).thenReturn(dates);
+    void recordGameLaunches_addsBatchDeltasWhenEveryRowIsNew() {
+        givenUsers1And2();
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE INTO game_launch_records"), any(Object[].class)))
+            .thenReturn(2);
 
-        assertThat(adapter.countConsecutiveLoginDays(1L, asOfDate)).isEqualTo(3);
+        assertThat(adapter.recordGameLaunches(launches())).containsExactlyInAnyOrder(1L, 2L);
+
+        verify(jdbcTemplate).update(
+            "INSERT IGNORE INTO game_launch_records (user_id, game_id, window_end) VALUES (?, ?, ?), (?, ?, ?)",
+            1L, 10L, Date.valueOf(USER_1_WINDOW_END), 2L, 10L, Date.valueOf(USER_2_WINDOW_END));
+        verify(jdbcTemplate).update(contains("distinct_games = distinct_games + VALUES(distinct_games)"),
+            eq(1L), eq(1), eq(2L), eq(1));
+        verify(userMissionProgressEntityRepository, never()).incrementDistinctGames(any());
     }
 
     @Test
-    void countConsecutiveLoginDays_stopsAtFirstGap() {
-        LocalDate asOfDate = LocalDate.of(2026, 1, 5);
-        List<LocalDate> dates = List.of(
-            LocalDate.of(2026, 1, 5),
-            LocalDate.of(2026, 1, 3)
-        );
-        when(loginRecordEntityRepository.findRecentLoginDates(1L, asOfDate)).thenReturn(dates);
+    void recordGameLaunches_recountsWithinTheBatchWindowEndsWhenSomeRowsAlreadyExisted() {
+        givenUsers1And2();
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE INTO game_launch_records"), any(Object[].class)))
+            .thenReturn(1);
+
+        adapter.recordGameLaunches(launches());
+
+        verify(jdbcTemplate).update(contains("WHERE user_id IN (?, ?) AND window_end BETWEEN ? AND ?"),
+            eq(1L), eq(2L), eq(Date.valueOf(USER_1_WINDOW_END)), eq(Date.valueOf(USER_2_WINDOW_END)));
+    }
+
+    @Test
+    void recordGameLaunches_leavesCountersUntouchedWhenNothingIsNew() {
+        givenUsers1And2();
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE INTO game_launch_records"), any(Object[].class)))
+            .thenReturn(0);
+
+        assertThat(adapter.recordGameLaunches(launches())).isEmpty();
+
+        verify(jdbcTemplate, times(1)).update(any(String.class), any(Object[].class));
+    }
+
+    @Test
+    void recordGamePlays_sumsSessionsAndScorePerUser() {
+        givenUsers1And2();
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE INTO games_play_record"), any(Object[].class)))
+            .thenReturn(3);
+
+        adapter.recordGamePlays(List.of(
+            new GamePlay(1L, 10L, 600, "k1"),
+            new GamePlay(1L, 11L, 500, "k2"),
+            new GamePlay(2L, 10L, 100, "k3")));
+
+        verify(jdbcTemplate).update(contains("play_sessions = play_sessions + VALUES(play_sessions)"),
+            eq(1L), eq(2), eq(1100), eq(2L), eq(1), eq(100));
+    }
+
+    @Test
+    void recordLogins_writesWindowEndOnlyToRawRows() {
+        givenUsers1And2();
+        Map<Long, Set<LocalDate>> logins = new LinkedHashMap<>();
+        logins.put(1L, Set.of(LocalDate.of(2026, 1, 5)));
+        logins.put(2L, Set.of(LocalDate.of(2026, 2, 11)));
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE INTO login_records"), any(Object[].class))).thenReturn(2);
+
+        adapter.recordLogins(logins);
 
-        assertThat(adapter.countConsecutiveLoginDays(1L, asOfDate)).isEqualTo(1);
+        verify(jdbcTemplate).update(
+            "INSERT IGNORE INTO login_records (user_id, login_date, window_end) VALUES (?, ?, ?), (?, ?, ?)",
+            1L, Date.valueOf("2026-01-05"), Date.valueOf(USER_1_WINDOW_END),
+            2L, Date.valueOf("2026-02-11"), Date.valueOf(USER_2_WINDOW_END));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO user_mission_progress"),
+            eq(1L), eq(Date.valueOf("2026-01-05")), eq(2L), eq(Date.valueOf("2026-02-11")));
     }
 
     @Test
-    void countConsecutiveLoginDays_returnsZeroWhenNoLogins() {
-        LocalDate asOfDate = LocalDate.of(2026, 1, 5);
-        when(loginRecordEntityRepository.findRecentLoginDates(1L, asOfDate)).thenReturn(List.of());
+    void recordLogins_reportsOnlyUsersWithNewRows() throws Exception {
+        givenUsers1And2();
+        Map<Long, Set<LocalDate>> logins = new LinkedHashMap<>();
+        logins.put(1L, Set.of(LocalDate.of(2026, 1, 5)));
+        logins.put(2L, Set.of(LocalDate.of(2026, 2, 11)));
+        ResultSet existing = mock(ResultSet.class);
+        when(existing.getLong("user_id")).thenReturn(1L);
+        when(existing.getDate("login_date")).thenReturn(Date.valueOf("2026-01-05"));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(existing);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT user_id, login_date FROM login_records"),
+            any(RowCallbackHandler.class), any(Object[].class));
+        when(jdbcTemplate.update(startsWith("INSERT IGNORE INTO login_records"), any(Object[].class))).thenReturn(1);
 
-        assertThat(adapter.countConsecutiveLoginDays(1L, asOfDate)).isZero();
+        assertThat(adapter.recordLogins(logins)).containsExactly(2L);
+        verify(jdbcTemplate).update(
+            "INSERT IGNORE INTO login_records (user_id, login_date, window_end) VALUES (?, ?, ?)",
+            2L, Date.valueOf("2026-02-11"), Date.valueOf(USER_2_WINDOW_END));
     }
 
     @Test
-    void countConsecutiveLoginDays_returnsZeroWhenLatestLoginIsNotAsOfDate() {
-        LocalDate asOfDate = LocalDate.of(2026, 1, 5);
-        List<LocalDate> dates = List.of(
-            LocalDate.of(2026, 1, 4),
-            LocalDate.of(2026, 1, 3)
-        );
-        when(loginRecordEntityRepository.findRecentLoginDates(1L, asOfDate)).thenReturn(dates);
+    void recordLogins_writesNothingForRedeliveredBatch() throws Exception {
+        when(userQueryPort.getUserCreatedAts(Set.of(1L))).thenReturn(Map.of(1L, USER_1_CREATED_AT));
+        ResultSet existing = mock(ResultSet.class);
+        when(existing.getLong("user_id")).thenReturn(1L);
+        when(existing.getDate("login_date")).thenReturn(Date.valueOf("2026-01-05"));
+        doAnswer(invocation -> {
+            invocation.<RowCallbackHandler>getArgument(1).processRow(existing);
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT user_id, login_date FROM login_records"),
+            any(RowCallbackHandler.class), any(Object[].class));
 
-        assertThat(adapter.countConsecutiveLoginDays(1L, asOfDate)).isZero();
+        assertThat(adapter.recordLogins(Map.of(1L, Set.of(LocalDate.of(2026, 1, 5))))).isEmpty();
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(Object[].class));
     }
 
     @Test
-    void countConsecutiveLoginDays_returnsSingleDayStreak() {
-        LocalDate asOfDate = LocalDate.of(2026, 1, 5);
-        when(loginRecordEntityRepository.findRecentLoginDates(1L, asOfDate))
-            .thenReturn(List.of(LocalDate.of(2026, 1, 5)));
+    void recordGameLaunch_failsForUnknownUser() {
+        when(userQueryPort.getUserCreatedAt(99L)).thenReturn(Optional.empty());
 
-        assertThat(adapter.countConsecutiveLoginDays(1L, asOfDate)).isEqualTo(1);
+        assertThatThrownBy(() -> adapter.recordGameLaunch(99L, 10L)).isInstanceOf(IllegalStateException.class);
+        verify(gameLaunchRecordEntityRepository, never()).insertIgnore(any(), any(), any());
     }
 }
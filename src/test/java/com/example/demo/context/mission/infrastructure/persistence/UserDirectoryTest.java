@@ -0,0 +1,90 @@
+package com.example.demo.context.mission.infrastructure.persistence;
+
+import com.example.demo.context.mission.infrastructure.persistence.entity.UserEntity;
+import com.example.demo.context.mission.infrastructure.persistence.repository.UserEntityRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserDirectoryTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 1, 1, 9, 30, 15);
+
+    @Mock UserEntityRepository userEntityRepository;
+
+    UserDirectory directory;
+
+    @BeforeEach
+    void setUp() {
+        directory = new UserDirectory(userEntityRepository);
+    }
+
+    private static UserEntity user(long id) {
+        return new UserEntity(id, "user" + id, CREATED_AT.plusSeconds(id));
+    }
+
+    @Test
+    void findCreatedAt_answersFromIndexToTheSecond() {
+        when(userEntityRepository.findPageAfter(0L, UserDirectory.PAGE_SIZE))
+            .thenReturn(List.of(user(1), user(3)));
+        directory.afterSingletonsInstantiated();
+
+        assertThat(directory.findCreatedAt(1L)).contains(CREATED_AT.plusSeconds(1));
+        assertThat(directory.findCreatedAt(3L)).contains(CREATED_AT.plusSeconds(3));
+        assertThat(directory.findCreatedAt(2L)).isEmpty();
+        assertThat(directory.size()).isEqualTo(2);
+    }
+
+    @Test
+    void findCreatedAt_isEmptyBeforeFirstLoad() {
+        assertThat(directory.findCreatedAt(1L)).isEmpty();
+    }
+
+    @Test
+    void refresh_loadsOnlyUsersAfterHighestLoadedId() {
+        when(userEntityRepository.findPageAfter(0L, UserDirectory.PAGE_SIZE)).thenReturn(List.of(user(1), user(2)));
+        when(userEntityRepository.findPageAfter(2L, UserDirectory.PAGE_SIZE)).thenReturn(List.of(user(5)));
+        directory.refresh();
+
+        int added = directory.refresh();
+
+        assertThat(added).isEqualTo(1);
+        assertThat(directory.findCreatedAt(1L)).isPresent();
+        assertThat(directory.findCreatedAt(5L)).contains(CREATED_AT.plusSeconds(5));
+    }
+
+    @Test
+    void refresh_pagesUntilShortPage() {
+        List<UserEntity> fullPage = LongStream.rangeClosed(1, UserDirectory.PAGE_SIZE).mapToObj(UserDirectoryTest::user).toList();
+        when(userEntityRepository.findPageAfter(0L, UserDirectory.PAGE_SIZE)).thenReturn(fullPage);
+        when(userEntityRepository.findPageAfter(UserDirectory.PAGE_SIZE, UserDirectory.PAGE_SIZE))
+            .thenReturn(List.of(user(UserDirectory.PAGE_SIZE + 1L)));
+
+        assertThat(directory.refresh()).isEqualTo(UserDirectory.PAGE_SIZE + 1);
+        assertThat(directory.findCreatedAt(UserDirectory.PAGE_SIZE + 1L)).isPresent();
+        verify(userEntityRepository, times(2)).findPageAfter(anyLong(), anyInt());
+    }
+
+    @Test
+    void refreshQuietly_keepsLoadedUsersOnFailure() {
+        when(userEntityRepository.findPageAfter(0L, UserDirectory.PAGE_SIZE)).thenReturn(List.of(user(1)));
+        directory.refresh();
+        when(userEntityRepository.findPageAfter(1L, UserDirectory.PAGE_SIZE)).thenThrow(new RuntimeException("DB down"));
+
+        directory.refreshQuietly();
+
+        assertThat(directory.findCreatedAt(1L)).isPresent();
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.demo.context.mission.interfaces.rest;
 
 import com.example.demo.common.cqrs.command.CommandBus;
+import com.example.demo.context.mission.application.command.BatchActionResult;
+import com.example.demo.context.mission.application.command.IngestActionBatchCommand;
+import com.example.demo.context.mission.application.command.LaunchGameCommand;
+import com.example.demo.context.mission.application.command.LoginCommand;
+import com.example.demo.context.mission.application.command.PlayGameCommand;
 import com.example.demo.context.mission.domain.exception.GameNotFoundException;
 import com.example.demo.context.mission.domain.exception.UserNotFoundException;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -182,4 +191,101 @@ class ActionControllerTest {
             .andExpect(status().isBadRequest())
             .andExpect(jsonPath("$.code").value("IDEMPOTENCY_KEY_REQUIRED"));
     }
+
+    // ── POST /actions:batch ──────────────────────────────────────────────────
+
+    @Test
+    void batch_acceptsJsonArrayAndReturnsPerItemResults() throws Exception {
+        when(commandBus.execute(any())).thenReturn(List.of(
+            BatchActionResult.accepted(),
+            BatchActionResult.rejected(BatchActionResult.GAME_NOT_FOUND),
+            BatchActionResult.accepted()
+        ));
+
+        mockMvc.perform(post("/actions:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [
+                      {"type": "login", "userId": 1, "loginDate": "2026-01-10"},
+                      {"type": "launchGame", "userId": 1, "gameId": 99},
+                      {"type": "play", "userId": 1, "gameId": 10, "score": 100, "idempotencyKey": "k-1"}
+                    ]
+                    """))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.accepted").value(2))
+            .andExpect(jsonPath("$.rejected").value(1))
+            .andExpect(jsonPath("$.results[1].index").value(1))
+            .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+            .andExpect(jsonPath("$.results[1].code").value("GAME_NOT_FOUND"));
+
+        ArgumentCaptor<IngestActionBatchCommand> captor = ArgumentCaptor.forClass(IngestActionBatchCommand.class);
+        verify(commandBus).execute(captor.capture());
+        assertThat(captor.getValue().actions()).hasExactlyElementsOfTypes(
+            LoginCommand.class, LaunchGameCommand.class, PlayGameCommand.class);
+    }
+
+    @Test
+    void batch_acceptsNdjson() throws Exception {
+        when(commandBus.execute(any())).thenReturn(List.of(
+            BatchActionResult.accepted(),
+            BatchActionResult.accepted()
+        ));
+
+        mockMvc.perform(post("/actions:batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                    {"type": "login", "userId": 1, "loginDate": "2026-01-10"}
+                    {"type": "launchGame", "userId": 1, "gameId": 10}
+                    """))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.accepted").value(2))
+            .andExpect(jsonPath("$.results.length()").value(2));
+    }
+
+    @Test
+    void batch_rejectsInvalidItemsWithoutFailingTheBatch() throws Exception {
+        when(commandBus.execute(any())).thenReturn(List.of(BatchActionResult.accepted()));
+
+        mockMvc.perform(post("/actions:batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content("""
+                    {"type": "play", "userId": 1, "gameId": 10, "score": 100}
+                    not-json
+                    {"type": "launchGame", "userId": 1}
+                    {"type": "jump", "userId": 1}
+                    {"type": "login", "userId": 1, "loginDate": "2026-01-10"}
+                    """))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.accepted").value(1))
+            .andExpect(jsonPath("$.rejected").value(4))
+            .andExpect(jsonPath("$.results[0].code").value("IDEMPOTENCY_KEY_REQUIRED"))
+            .andExpect(jsonPath("$.results[1].code").value("MALFORMED_ACTION"))
+            .andExpect(jsonPath("$.results[2].code").value("VALIDATION_FAILED"))
+            .andExpect(jsonPath("$.results[3].code").value("MALFORMED_ACTION"))
+            .andExpect(jsonPath("$.results[4].status").value("ACCEPTED"));
+    }
+
+    @Test
+    void batch_doesNotDispatchWhenEveryItemIsInvalid() throws Exception {
+        mockMvc.perform(post("/actions:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    [{"type": "login", "userId": 1}]
+                    """))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.rejected").value(1));
+
+        verify(commandBus, never()).execute(any());
+    }
+
+    @Test
+    void batch_returns400WhenBatchIsTooLarge() throws Exception {
+        String body = "{\"type\": \"login\", \"userId\": 1, \"loginDate\": \"2026-01-10\"}\n".repeat(1001);
+
+        mockMvc.perform(post("/actions:batch")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.code").value("ACTION_BATCH_TOO_LARGE"));
+    }
 }
@@ -1,21 +1,40 @@
 package com.example.demo.context.mission.interfaces.rest;
 
 import com.example.demo.common.cqrs.query.QueryBus;
+import com.example.demo.context.mission.application.port.cache.MissionCenterVersion;
+import com.example.demo.context.mission.application.port.cache.MissionCenterView;
+import com.example.demo.context.mission.application.query.GetMissionCenterVersionQuery;
+import com.example.demo.context.mission.application.query.GetMissionsBulkQuery;
+import com.example.demo.context.mission.application.query.GetMissionsQuery;
+import com.example.demo.context.mission.domain.exception.UserNotFoundException;
 import com.example.demo.context.mission.domain.model.MissionType;
 import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse;
 import com.example.demo.context.mission.interfaces.rest.dto.MissionResponse.Criterion;
+import com.example.demo.context.mission.interfaces.rest.dto.UserMissionsResponse;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(MissionController.class)
@@ -27,7 +46,12 @@ class MissionControllerTest {
     @MockitoBean
     QueryBus queryBus;
 
+    @MockitoBean
+    MissionStreamRegistry missionStreamRegistry;
+
     private static final LocalDateTime EXPIRED_AT = LocalDateTime.of(2026, 2, 1, 0, 0);
+    private static final LocalDate TODAY = LocalDate.of(2026, 2, 1);
+    private static final String ETAG = "\"42-2026-02-01\"";
 
     @Test
     void getMissions_returns200WithMissionList() throws Exception {
@@ -45,7 +69,7 @@ class MissionControllerTest {
                 List.of(new Criterion("sessions", 5, 3), new Criterion("totalScore", 800, 1000)),
                 false, null, EXPIRED_AT)
         );
-        when(queryBus.execute(any())).thenReturn(responses);
+        when(queryBus.execute(any(GetMissionsQuery.class))).thenReturn(new MissionCenterView(responses, TODAY, 42L));
 
         mockMvc.perform(get("/missions").param("userId", "1"))
             .andExpect(status().isOk())
@@ -58,12 +82,14 @@ class MissionControllerTest {
             .andExpect(jsonPath("$[0].description").value(MissionType.CONSECUTIVE_LOGIN.getDescription()))
             .andExpect(jsonPath("$[1].completed").value(true))
             .andExpect(jsonPath("$[2].missionType").value("PLAY_SCORE"))
-            .andExpect(jsonPath("$[2].criteria.length()").value(2));
+            .andExpect(jsonPath("$[2].criteria.length()").value(2))
+            .andExpect(header().string("ETag", ETAG))
+            .andExpect(header().string("Cache-Control", "no-cache, private"));
     }
 
     @Test
     void getMissions_returns200WithEmptyListWhenNoMissions() throws Exception {
-        when(queryBus.execute(any())).thenReturn(List.of());
+        when(queryBus.execute(any(GetMissionsQuery.class))).thenReturn(new MissionCenterView(List.of(), TODAY, 42L));
 
         mockMvc.perform(get("/missions").param("userId", "1"))
             .andExpect(status().isOk())
@@ -75,4 +101,129 @@ class MissionControllerTest {
         mockMvc.perform(get("/missions"))
             .andExpect(status().isBadRequest());
     }
+
+    // ── conditional requests ────────────────────────────────────────────────
+
+    @Test
+    void getMissions_returns304WithoutQueryingMissionsWhenETagMatches() throws Exception {
+        when(queryBus.execute(any(GetMissionCenterVersionQuery.class)))
+            .thenReturn(Optional.of(new MissionCenterVersion(42L, TODAY)));
+
+        mockMvc.perform(get("/missions").param("userId", "1").header("If-None-Match", ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", ETAG))
+            .andExpect(content().string(""));
+
+        verify(queryBus, never()).execute(any(GetMissionsQuery.class));
+    }
+
+    @Test
+    void getMissions_returns200WhenProgressVersionMoved() throws Exception {
+        when(queryBus.execute(any(GetMissionCenterVersionQuery.class)))
+            .thenReturn(Optional.of(new MissionCenterVersion(43L, TODAY)));
+        when(queryBus.execute(any(GetMissionsQuery.class)))
+            .thenReturn(new MissionCenterView(List.of(), TODAY, 43L));
+
+        mockMvc.perform(get("/missions").param("userId", "1").header("If-None-Match", ETAG))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"43-2026-02-01\""));
+    }
+
+    @Test
+    void getMissions_matchesWeakAndListedETags() throws Exception {
+        when(queryBus.execute(any(GetMissionCenterVersionQuery.class)))
+            .thenReturn(Optional.of(new MissionCenterVersion(42L, TODAY)));
+
+        mockMvc.perform(get("/missions").param("userId", "1")
+                .header("If-None-Match", "\"41-2026-02-01\", W/" + ETAG))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void getMissions_returns404ForUnknownUserDespiteWildcard() throws Exception {
+        when(queryBus.execute(any(GetMissionCenterVersionQuery.class)))
+            .thenReturn(Optional.of(new MissionCenterVersion(0L, TODAY)));
+        when(queryBus.execute(any(GetMissionsQuery.class))).thenThrow(new UserNotFoundException(999L));
+
+        mockMvc.perform(get("/missions").param("userId", "999").header("If-None-Match", "*"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void getMissions_returns200WithoutETagWhenVersionUnavailable() throws Exception {
+        when(queryBus.execute(any(GetMissionCenterVersionQuery.class))).thenReturn(Optional.empty());
+        when(queryBus.execute(any(GetMissionsQuery.class)))
+            .thenReturn(new MissionCenterView(List.of(), TODAY, MissionCenterView.UNVERSIONED));
+
+        mockMvc.perform(get("/missions").param("userId", "1").header("If-None-Match", ETAG))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("ETag"));
+    }
+
+    // ── bulk ────────────────────────────────────────────────────────────────
+
+    @Test
+    void getMissionsBulk_streamsOneNdjsonLinePerUser() throws Exception {
+        var missions = List.of(new MissionResponse(1L, MissionType.PLAY_SCORE,
+            MissionType.PLAY_SCORE.getDescription(),
+            List.of(new Criterion("sessions", 5, 3), new Criterion("totalScore", 800, 1000)), false, null, EXPIRED_AT));
+        when(queryBus.execute(any(GetMissionsBulkQuery.class))).thenReturn(Stream.of(
+            List.of(new UserMissionsResponse(1L, missions), new UserMissionsResponse(2L, List.of())),
+            List.of(new UserMissionsResponse(3L, missions))));
+
+        MvcResult result = mockMvc.perform(post("/missions:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[1,2,3]}"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+            .andReturn().getResponse().getContentAsString();
+        assertThat(body.lines()).hasSize(3);
+        assertThat(body.lines().toList().get(1)).isEqualTo("{\"userId\":2,\"missions\":[]}");
+        assertThat(body.lines().toList().get(2)).contains("\"userId\":3", "\"totalScore\"");
+    }
+
+    @Test
+    void getMissionsBulk_returns400WhenUserIdsAreEmpty() throws Exception {
+        mockMvc.perform(post("/missions:bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"userIds\":[]}"))
+            .andExpect(status().isBadRequest());
+    }
+
+    // ── stream ──────────────────────────────────────────────────────────────
+
+    @Test
+    void streamMissions_opensStreamWithSnapshot() throws Exception {
+        var missions = List.of(new MissionResponse(1L, MissionType.CONSECUTIVE_LOGIN,
+            MissionType.CONSECUTIVE_LOGIN.getDescription(),
+            List.of(new Criterion("consecutiveDays", 2, 3)), false, null, EXPIRED_AT));
+        when(queryBus.execute(any(GetMissionsQuery.class))).thenReturn(new MissionCenterView(missions, TODAY, 42L));
+        SseEmitter emitter = new SseEmitter();
+        when(missionStreamRegistry.open(1L)).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/missions/stream").param("userId", "1"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        emitter.complete();
+
+        mockMvc.perform(asyncDispatch(result))
+            .andExpect(status().isOk())
+            .andExpect(content().contentTypeCompatibleWith("text/event-stream"))
+            .andExpect(content().string(containsString("event:snapshot\nid:42\n")))
+            .andExpect(content().string(containsString("\"consecutiveDays\"")));
+    }
+
+    @Test
+    void streamMissions_doesNotOpenStreamForUnknownUser() throws Exception {
+        when(queryBus.execute(any(GetMissionsQuery.class))).thenThrow(new UserNotFoundException(999L));
+
+        mockMvc.perform(get("/missions/stream").param("userId", "999"))
+            .andExpect(status().isNotFound());
+
+        verify(missionStreamRegistry, never()).open(any());
+    }
 }
@@ -0,0 +1,90 @@
+package com.example.demo.context.mission.interfaces.rest;
+
+import com.example.demo.context.mission.application.port.MissionCenterUpdate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class MissionStreamRegistryTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MissionStreamRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        registry = new MissionStreamRegistry(new MissionStreamProperties(Duration.ofMinutes(30), 2, 3), meterRegistry, Runnable::run);
+    }
+
+    @Test
+    void open_tracksStreamsAndExposesGauge() {
+        registry.open(1L);
+        registry.open(2L);
+
+        assertThat(registry.openStreams()).isEqualTo(2);
+        assertThat(meterRegistry.get("mission.stream.connections").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void open_closesOldestStreamBeyondPerUserLimit() {
+        registry.open(1L);
+        registry.open(1L);
+        registry.open(1L);
+
+        assertThat(registry.openStreams()).isEqualTo(2);
+    }
+
+    @Test
+    void onUpdate_ignoresUsersWithoutLocalStream() {
+        assertThatCode(() -> registry.onUpdate(MissionCenterUpdate.rewardGranted(99L, 777)))
+            .doesNotThrowAnyException();
+        assertThat(registry.openStreams()).isZero();
+    }
+
+    @Test
+    void onUpdate_keepsStreamThatAcceptsEvents() {
+        SseEmitter emitter = registry.open(1L);
+
+        registry.onUpdate(MissionCenterUpdate.rewardGranted(1L, 777));
+        registry.heartbeat();
+
+        assertThat(emitter).isNotNull();
+        assertThat(registry.openStreams()).isEqualTo(1);
+    }
+
+    @Test
+    void onUpdate_returnsWithoutWritingOnCallerThread() {
+        List<Runnable> writers = new ArrayList<>();
+        registry = new MissionStreamRegistry(new MissionStreamProperties(Duration.ofMinutes(30), 2, 3), meterRegistry, writers::add);
+        registry.open(1L);
+
+        registry.onUpdate(MissionCenterUpdate.rewardGranted(1L, 777));
+        registry.heartbeat();
+
+        assertThat(writers).hasSize(1);
+        writers.getFirst().run();
+        assertThat(registry.openStreams()).isEqualTo(1);
+    }
+
+    @Test
+    void onUpdate_closesStreamWhoseBacklogIsFull() {
+        List<Runnable> writers = new ArrayList<>();
+        registry = new MissionStreamRegistry(new MissionStreamProperties(Duration.ofMinutes(30), 2, 3), meterRegistry, writers::add);
+        registry.open(1L);
+        registry.open(2L);
+
+        for (int i = 0; i < 4; i++) {
+            registry.onUpdate(MissionCenterUpdate.rewardGranted(1L, 777));
+        }
+
+        assertThat(registry.openStreams()).isEqualTo(1);
+    }
+}
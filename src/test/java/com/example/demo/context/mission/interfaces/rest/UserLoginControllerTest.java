@@ -0,0 +1,51 @@
+package com.example.demo.context.mission.interfaces.rest;
+
+import com.example.demo.common.cqrs.query.QueryBus;
+import com.example.demo.context.mission.application.query.GetLoginCalendarQuery;
+import com.example.demo.context.mission.domain.exception.UserNotFoundException;
+import com.example.demo.context.mission.interfaces.rest.dto.LoginCalendarResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserLoginController.class)
+class UserLoginControllerTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @MockitoBean
+    QueryBus queryBus;
+
+    @Test
+    void getLoginCalendar_returns200WithLoginDates() throws Exception {
+        LocalDate today = LocalDate.of(2026, 3, 10);
+        when(queryBus.execute(new GetLoginCalendarQuery(1L))).thenReturn(new LoginCalendarResponse(
+            1L, today.minusDays(29), today, List.of(today.minusDays(1), today), 2));
+
+        mockMvc.perform(get("/users/1/logins"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.userId").value(1))
+            .andExpect(jsonPath("$.from").value("2026-02-09"))
+            .andExpect(jsonPath("$.loginDates[1]").value("2026-03-10"))
+            .andExpect(jsonPath("$.currentStreak").value(2));
+    }
+
+    @Test
+    void getLoginCalendar_returns404ForUnknownUser() throws Exception {
+        when(queryBus.execute(new GetLoginCalendarQuery(999L))).thenThrow(new UserNotFoundException(999L));
+
+        mockMvc.perform(get("/users/999/logins"))
+            .andExpect(status().isNotFound());
+    }
+}